@@ -0,0 +1,87 @@
+package com.learn.taskManagement.archive;
+
+import com.learn.taskManagement.service.TaskService;
+import com.learn.taskManagement.stats.TaskCounters;
+import com.learn.taskManagement.store.TaskStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Moves COMPLETED tasks untouched for longer than the configured age into task_archive. One batch per tick, so the
+// interval throttles the job to batch-size rows at a time and live traffic gets the table back between batches
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task.archive.enabled", havingValue = "true")
+public class TaskArchiver {
+
+    private final TaskService taskService;
+    private final TaskStore taskStore;
+    private final Clock clock;
+    private final Duration completedFor;
+    private final int batchSize;
+    private final AtomicLong archivedRows = new AtomicLong();
+    private final Counter moved;
+    private final Timer batches;
+
+    public TaskArchiver(TaskService taskService,
+                        TaskStore taskStore,
+                        TaskCounters taskCounters,
+                        Clock clock,
+                        MeterRegistry meterRegistry,
+                        @Value("${task.archive.after:90d}") Duration completedFor,
+                        @Value("${task.archive.batch-size:500}") int batchSize) {
+        this.taskService = taskService;
+        this.taskStore = taskStore;
+        this.clock = clock;
+        this.completedFor = completedFor;
+        this.batchSize = batchSize;
+        Gauge.builder("task.rows", taskCounters, TaskCounters::total)
+                .description("Tasks by storage tier")
+                .tag("tier", "hot")
+                .register(meterRegistry);
+        Gauge.builder("task.rows", archivedRows, AtomicLong::get)
+                .description("Tasks by storage tier")
+                .tag("tier", "cold")
+                .register(meterRegistry);
+        this.moved = Counter.builder("task.archive.moved")
+                .description("Tasks moved to the archive")
+                .register(meterRegistry);
+        this.batches = Timer.builder("task.archive.batch")
+                .description("Time to move one archive batch")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        archivedRows.set(taskStore.countArchived());
+    }
+
+    // Returns how many tasks were moved
+    @Scheduled(initialDelayString = "${task.archive.interval:1s}", fixedDelayString = "${task.archive.interval:1s}")
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(completedFor);
+        long start = System.nanoTime();
+        int count = taskService.archiveCompletedTasks(cutoff, batchSize);
+        if (count > 0) {
+            batches.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            moved.increment(count);
+            archivedRows.addAndGet(count);
+            log.debug("Archived {} tasks completed before {}", count, cutoff);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,70 @@
+package com.learn.taskManagement.changes;
+
+import com.learn.taskManagement.dto.TaskChangesResponseDto;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// One parked long-poll. Like ChangeStream, appends only schedule a re-read on the executor, and each re-read resumes
+// from where the last one stopped scanning, so a poller costs one pass over the ring in total rather than one per
+// append. Completes the result with the first changes (or resync) it finds.
+public class ChangePoll implements Runnable {
+
+    private final TaskChangeFeed feed;
+    private final String tenantId;
+    private final DeferredResult<TaskChangesResponseDto> result;
+    private final Executor executor;
+    private final int limit;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closed;
+    private long cursor;
+
+    public ChangePoll(TaskChangeFeed feed, String tenantId, DeferredResult<TaskChangesResponseDto> result,
+                      Executor executor, long since, int limit) {
+        this.feed = feed;
+        this.tenantId = tenantId;
+        this.result = result;
+        this.executor = executor;
+        this.cursor = since;
+        this.limit = limit;
+    }
+
+    public void start() {
+        feed.addListener(this);
+        result.onCompletion(this::close);
+        // Covers an append between the caller's first read and addListener
+        run();
+    }
+
+    @Override
+    public void run() {
+        if (!closed && scheduled.compareAndSet(false, true)) {
+            executor.execute(this::read);
+        }
+    }
+
+    private void read() {
+        try {
+            TaskChangesResponseDto next = feed.read(tenantId, cursor, limit);
+            if (next.isResyncRequired() || !next.getChanges().isEmpty()) {
+                result.setResult(next);
+                close();
+                return;
+            }
+            // Nothing for this tenant up to here; the next append only needs what comes after it
+            cursor = next.getNextSince();
+        } finally {
+            scheduled.set(false);
+        }
+        // An append that raced with the end of this read found it still scheduled; pick it up now
+        if (feed.lastSequence() > cursor) {
+            run();
+        }
+    }
+
+    private void close() {
+        closed = true;
+        feed.removeListener(this);
+    }
+}
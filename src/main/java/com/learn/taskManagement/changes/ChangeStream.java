@@ -0,0 +1,82 @@
+package com.learn.taskManagement.changes;
+
+import com.learn.taskManagement.dto.TaskChangesResponseDto;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// One SSE subscriber. Appends only schedule a drain; the drain runs on the executor and reads from the ring at the
+// subscriber's own pace, so a slow client holds a cursor, never a queue. Falling a full ring behind ends the
+// stream with a "resync" event.
+public class ChangeStream implements Runnable {
+
+    private final TaskChangeFeed feed;
+    private final String tenantId;
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final int batchSize;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closed;
+    private long cursor;
+
+    public ChangeStream(TaskChangeFeed feed, String tenantId, SseEmitter emitter, Executor executor, long since,
+                        int batchSize) {
+        this.feed = feed;
+        this.tenantId = tenantId;
+        this.emitter = emitter;
+        this.executor = executor;
+        this.cursor = since;
+        this.batchSize = batchSize;
+    }
+
+    public void start() {
+        feed.addListener(this);
+        emitter.onCompletion(this::close);
+        emitter.onTimeout(this::close);
+        emitter.onError(e -> close());
+        run();
+    }
+
+    @Override
+    public void run() {
+        if (!closed && scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            TaskChangesResponseDto batch;
+            do {
+                batch = feed.read(tenantId, cursor, batchSize);
+                if (batch.isResyncRequired()) {
+                    emitter.send(SseEmitter.event().name("resync").data(batch));
+                    emitter.complete();
+                    close();
+                    return;
+                }
+                for (TaskChange change : batch.getChanges()) {
+                    emitter.send(SseEmitter.event().id(Long.toString(change.sequence())).name("change").data(change));
+                }
+                cursor = batch.getNextSince();
+            } while (batch.getChanges().size() == batchSize);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            close();
+            return;
+        } finally {
+            scheduled.set(false);
+        }
+        // An append that raced with the end of this drain found it still scheduled; pick it up now
+        if (feed.lastSequence() > cursor) {
+            run();
+        }
+    }
+
+    private void close() {
+        closed = true;
+        feed.removeListener(this);
+    }
+}
@@ -0,0 +1,48 @@
+package com.learn.taskManagement.changes;
+
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.event.TaskEvent;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// One entry of the change feed; changedFields lists the user-editable fields that differ from the previous state
+public record TaskChange(long sequence, String tenantId, Long taskId, Long version, TaskEvent.Type operation,
+                         List<String> changedFields, Instant at) {
+
+    private static final List<String> ALL_FIELDS = List.of("title", "description", "priority", "taskStatus", "dueDate");
+
+    static TaskChange of(long sequence, TaskEvent event, Instant at) {
+        TaskResponseDto state = event.after() != null ? event.after() : event.before();
+        return new TaskChange(sequence, event.tenantId(), event.taskId(), state.getVersion(), event.type(),
+                changedFields(event.before(), event.after()), at);
+    }
+
+    static List<String> changedFields(TaskResponseDto before, TaskResponseDto after) {
+        if (before == null) {
+            return ALL_FIELDS;
+        }
+        if (after == null) {
+            return List.of();
+        }
+        List<String> changed = new ArrayList<>(ALL_FIELDS.size());
+        if (!Objects.equals(before.getTitle(), after.getTitle())) {
+            changed.add("title");
+        }
+        if (!Objects.equals(before.getDescription(), after.getDescription())) {
+            changed.add("description");
+        }
+        if (before.getPriority() != after.getPriority()) {
+            changed.add("priority");
+        }
+        if (before.getTaskStatus() != after.getTaskStatus()) {
+            changed.add("taskStatus");
+        }
+        if (!Objects.equals(before.getDueDate(), after.getDueDate())) {
+            changed.add("dueDate");
+        }
+        return changed;
+    }
+}
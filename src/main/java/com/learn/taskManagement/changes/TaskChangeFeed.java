@@ -0,0 +1,108 @@
+package com.learn.taskManagement.changes;
+
+import com.learn.taskManagement.dto.TaskChangesResponseDto;
+import com.learn.taskManagement.event.TaskEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Bounded, lock-free ring of committed task changes with gap-free sequence numbers starting at 1.
+// Writers claim a sequence with one increment and publish into its slot; readers trust a slot only when it
+// carries exactly the sequence they expect, so a slot that is claimed but not yet written ends the read early.
+// The ring is shared by every tenant; a reader only gets its own tenant's changes and sees gaps in the sequence
+// where other tenants' changes were.
+@Component
+public class TaskChangeFeed {
+
+    private final AtomicReferenceArray<TaskChange> slots;
+    private final int mask;
+    private final AtomicLong lastSequence = new AtomicLong();
+    private final Set<Runnable> listeners = ConcurrentHashMap.newKeySet();
+    private final Clock clock;
+
+    public TaskChangeFeed(@Value("${task.changes.capacity:4096}") int capacity, Clock clock) {
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        append(event);
+    }
+
+    public long append(TaskEvent event) {
+        long sequence = lastSequence.incrementAndGet();
+        slots.set(index(sequence), TaskChange.of(sequence, event, clock.instant()));
+        // Listeners only schedule work or complete a pending poll, so the committing thread is not held up
+        listeners.forEach(Runnable::run);
+        return sequence;
+    }
+
+    public long lastSequence() {
+        return lastSequence.get();
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    // Up to limit of the tenant's changes after since, oldest first; a position older than the buffer (or from
+    // before a restart) answers resyncRequired with the current end of the feed
+    public TaskChangesResponseDto read(String tenantId, long since, int limit) {
+        long last = lastSequence.get();
+        if (since < 0 || since > last || last - since > slots.length()) {
+            return resync(last);
+        }
+        List<TaskChange> changes = new ArrayList<>((int) Math.min(limit, last - since));
+        long next = since;
+        while (next < last && changes.size() < limit) {
+            TaskChange change = slots.get(index(next + 1));
+            if (change == null || change.sequence() < next + 1) {
+                break;
+            }
+            if (change.sequence() > next + 1) {
+                // Lapped while reading
+                return resync(lastSequence.get());
+            }
+            if (change.tenantId().equals(tenantId)) {
+                changes.add(change);
+            }
+            next++;
+        }
+        return TaskChangesResponseDto.builder()
+                .changes(changes)
+                .nextSince(next)
+                .build();
+    }
+
+    // Called after every append until removed
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    private static TaskChangesResponseDto resync(long last) {
+        return TaskChangesResponseDto.builder()
+                .changes(List.of())
+                .nextSince(last)
+                .resyncRequired(true)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.learn.taskManagement.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TASKS_CACHE = "tasks";
+
+    // TASKS_CACHE keys are qualified by the current tenant, so one tenant's cached task is never served to another
+    public static final String TASK_KEY = "T(com.learn.taskManagement.tenant.TenantContext).key(#id)";
+    public static final String CREATED_TASK_KEY = "T(com.learn.taskManagement.tenant.TenantContext).key(#result.id)";
+
+    @Value("${task.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${task.cache.ttl:10m}")
+    private Duration ttl;
+
+    @Value("${task.cache.warm-on-create:true}")
+    private boolean warmOnCreate;
+
+    // Read by the @CachePut condition on createTask
+    public boolean isWarmOnCreate() {
+        return warmOnCreate;
+    }
+
+    // Bounded by size and TTL; stats feed the cache.gets / cache.evictions metrics
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(TASKS_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,30 @@
+package com.learn.taskManagement.config;
+
+import com.learn.taskManagement.filter.ConcurrencyLimitFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "task.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    // The change feed answers from memory and its long-polls and streams park for minutes; they would only hold
+    // permits that requests needing a connection are waiting for
+    private static final List<String> UNLIMITED = List.of("/api/tasks/changes");
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${task.concurrency-limit.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${task.concurrency-limit.acquire-timeout:2s}") Duration acquireTimeout) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(maxConcurrent, acquireTimeout.toMillis(), UNLIMITED));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,45 @@
+package com.learn.taskManagement.config;
+
+import com.learn.taskManagement.metrics.RequestQueryInterceptor;
+import com.learn.taskManagement.metrics.StatementCountingInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final int statementWarnThreshold;
+
+    public MetricsConfig(ObjectProvider<MeterRegistry> meterRegistry,
+                         @Value("${task.metrics.statement-warn-threshold:20}") int statementWarnThreshold) {
+        // Web slices such as @WebMvcTest have no registry; the global one is an empty composite, so meters go nowhere
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.statementWarnThreshold = statementWarnThreshold;
+    }
+
+    @Bean
+    public StatementCountingInspector statementCountingInspector() {
+        return new StatementCountingInspector(meterRegistry);
+    }
+
+    // Hibernate takes the Spring-managed instance instead of instantiating its own
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(StatementCountingInspector inspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestQueryInterceptor(meterRegistry, statementWarnThreshold))
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,28 @@
+package com.learn.taskManagement.config;
+
+import com.learn.taskManagement.due.LoggingOverdueSink;
+import com.learn.taskManagement.due.OverdueSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // "Today" for due-date checks; replaceable in tests
+    @Bean
+    @ConditionalOnMissingBean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OverdueSink overdueSink() {
+        return new LoggingOverdueSink();
+    }
+}
@@ -0,0 +1,29 @@
+package com.learn.taskManagement.config;
+
+import com.learn.taskManagement.filter.TenantFilter;
+import com.learn.taskManagement.tenant.TenantRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class TenantConfig {
+
+    // Ahead of the concurrency limit, so a tenant over its rate never holds one of the shared permits
+    @Bean
+    public FilterRegistrationBean<TenantFilter> tenantFilter(
+            @Value("${task.tenant.header:X-Tenant-ID}") String header,
+            @Value("${task.tenant.rate-limit.requests-per-second:0}") double requestsPerSecond,
+            @Value("${task.tenant.rate-limit.burst:0}") int burst) {
+        TenantRateLimiter rateLimiter = requestsPerSecond > 0
+                ? new TenantRateLimiter(requestsPerSecond, burst > 0 ? burst : (int) Math.ceil(requestsPerSecond))
+                : null;
+        FilterRegistrationBean<TenantFilter> registration =
+                new FilterRegistrationBean<>(new TenantFilter(header, rateLimiter));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,48 @@
+package com.learn.taskManagement.config;
+
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.SearchMode;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.render.TaskColumnarHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // Case-insensitive enum path variables and query params. An unknown value is rejected rather than converted to
+    // null, which would silently switch an optional filter off; Spring answers 400 for the type mismatch
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, Priority.class, strict(Priority.class, Priority::fromValue));
+        registry.addConverter(String.class, TaskStatus.class, strict(TaskStatus.class, TaskStatus::fromValue));
+        registry.addConverter(String.class, SearchMode.class, strict(SearchMode.class, SearchMode::fromValue));
+    }
+
+    // An empty value still means "not given"
+    private static <E extends Enum<E>> Converter<String, E> strict(Class<E> type, Function<String, E> lookup) {
+        return value -> {
+            if (value.isEmpty()) {
+                return null;
+            }
+            E constant = lookup.apply(value);
+            if (constant == null) {
+                throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " '" + value + "'");
+            }
+            return constant;
+        };
+    }
+
+    // Columnar task lists for clients that send Accept: application/vnd.taskmanagement.columnar; appended after
+    // Jackson so JSON stays the default
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new TaskColumnarHttpMessageConverter());
+    }
+}
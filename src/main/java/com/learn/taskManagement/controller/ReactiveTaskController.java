@@ -0,0 +1,108 @@
+package com.learn.taskManagement.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.service.ReactiveTaskService;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Enabled with the "reactive" profile. Collections stream as NDJSON or SSE (pick with Accept) with backpressure
+// from the socket: a slow client slows the page queries instead of growing a list in memory.
+@RestController
+@RequestMapping("/api/reactive/tasks")
+@Profile("reactive")
+public class ReactiveTaskController {
+
+    private static final int NDJSON_CHUNK_SIZE = 256;
+
+    private final ReactiveTaskService taskService;
+    private final ObjectWriter writer;
+
+    public ReactiveTaskController(ReactiveTaskService taskService, ObjectMapper objectMapper) {
+        this.taskService = taskService;
+        this.writer = objectMapper.writerFor(TaskResponseDto.class);
+    }
+
+    // Create new task
+    @PostMapping("/task")
+    public Mono<TaskResponseDto> createTask(@Valid @RequestBody TaskRequestDto taskRequestDto) {
+        return taskService.createTask(taskRequestDto);
+    }
+
+    // Stream all tasks
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<String> getAllTasks() {
+        return ndjson(taskService.getAllTasks());
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<TaskResponseDto> getAllTaskEvents() {
+        return taskService.getAllTasks();
+    }
+
+    // Get Tasks by ID
+    @GetMapping("/{id}")
+    public Mono<TaskResponseDto> getTaskById(@PathVariable Long id) {
+        return taskService.getTaskById(id);
+    }
+
+    // Update existing task
+    @PutMapping("/{id}")
+    public Mono<TaskResponseDto> updateTask(@PathVariable Long id, @Valid @RequestBody TaskRequestDto requestDto) {
+        return taskService.updateTask(id, requestDto);
+    }
+
+    // Delete task
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTask(@PathVariable Long id) {
+        return taskService.deleteTask(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    // Stream tasks by priority
+    @GetMapping(value = "/priority/{priority}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<String> getTasksByPriority(@PathVariable Priority priority) {
+        return ndjson(taskService.getTasksByPriority(priority));
+    }
+
+    @GetMapping(value = "/priority/{priority}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<TaskResponseDto> getTaskEventsByPriority(@PathVariable Priority priority) {
+        return taskService.getTasksByPriority(priority);
+    }
+
+    // Stream tasks by status
+    @GetMapping(value = "/status/{status}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<String> getTasksByStatus(@PathVariable TaskStatus status) {
+        return ndjson(taskService.getTasksByStatus(status));
+    }
+
+    @GetMapping(value = "/status/{status}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<TaskResponseDto> getTaskEventsByStatus(@PathVariable TaskStatus status) {
+        return taskService.getTasksByStatus(status);
+    }
+
+    // MVC flushes after every streamed element, so NDJSON lines are grouped into one write per chunk.
+    // Strings are written as they are, with no separator, so every line carries its own newline.
+    private Flux<String> ndjson(Flux<TaskResponseDto> tasks) {
+        return tasks.buffer(NDJSON_CHUNK_SIZE).map(chunk -> {
+            StringBuilder lines = new StringBuilder(chunk.size() * 256);
+            for (TaskResponseDto task : chunk) {
+                try {
+                    lines.append(writer.writeValueAsString(task)).append('\n');
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return lines.toString();
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.learn.taskManagement.controller;
+
+import com.learn.taskManagement.changes.ChangePoll;
+import com.learn.taskManagement.changes.ChangeStream;
+import com.learn.taskManagement.changes.TaskChangeFeed;
+import com.learn.taskManagement.dto.TaskChangesResponseDto;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+// Change feed over committed task writes: long-poll or SSE, both resumable from a sequence number
+@RestController
+@RequestMapping("/api/tasks/changes")
+public class TaskChangeController {
+
+    private final TaskChangeFeed changeFeed;
+    private final Executor executor;
+    private final Duration pollTimeout;
+    private final Duration streamTimeout;
+    private final int batchSize;
+
+    public TaskChangeController(TaskChangeFeed changeFeed,
+                                @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor,
+                                @Value("${task.changes.poll-timeout:30s}") Duration pollTimeout,
+                                @Value("${task.changes.stream-timeout:30m}") Duration streamTimeout,
+                                @Value("${task.changes.batch-size:500}") int batchSize) {
+        this.changeFeed = changeFeed;
+        this.executor = executor;
+        this.pollTimeout = pollTimeout;
+        this.streamTimeout = streamTimeout;
+        this.batchSize = batchSize;
+    }
+
+    // Changes after since; waits up to the poll timeout when there are none yet (empty answer on timeout)
+    @GetMapping
+    public DeferredResult<TaskChangesResponseDto> getChanges(@RequestParam(defaultValue = "0") long since,
+                                                             @RequestParam(defaultValue = "500") int limit) {
+        int pageSize = limit <= 0 ? batchSize : Math.min(limit, batchSize);
+        // Re-reads run on the executor, so the tenant is captured here
+        String tenantId = TenantContext.current();
+        TaskChangesResponseDto current = changeFeed.read(tenantId, since, pageSize);
+        DeferredResult<TaskChangesResponseDto> result = new DeferredResult<>(pollTimeout.toMillis(), current);
+        if (isReady(current)) {
+            result.setResult(current);
+            return result;
+        }
+        // Resumes after what this read already scanned
+        new ChangePoll(changeFeed, tenantId, result, executor, current.getNextSince(), pageSize).start();
+        return result;
+    }
+
+    // Server-sent events from Last-Event-ID on reconnect, else from since, else from the current end of the feed.
+    // An EventSource reconnects to its original URL, so since is still present then and must not win
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) Long since,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        long start = lastEventId != null ? lastEventId : since != null ? since : changeFeed.lastSequence();
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        new ChangeStream(changeFeed, TenantContext.current(), emitter, executor, start, batchSize).start();
+        return emitter;
+    }
+
+    private static boolean isReady(TaskChangesResponseDto changes) {
+        return changes.isResyncRequired() || !changes.getChanges().isEmpty();
+    }
+}
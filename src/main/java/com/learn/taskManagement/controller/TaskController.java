@@ -1,15 +1,49 @@
 package com.learn.taskManagement.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.learn.taskManagement.dto.TaskBatchResponseDto;
+import com.learn.taskManagement.dto.TaskBatchUpdateDto;
+import com.learn.taskManagement.dto.TaskPageResponseDto;
+import com.learn.taskManagement.dto.TaskPatchDto;
 import com.learn.taskManagement.dto.TaskRequestDto;
 import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.dto.TaskSearchHitDto;
+import com.learn.taskManagement.dto.TaskStatsDto;
+import com.learn.taskManagement.dto.TaskStatusUpdateDto;
+import com.learn.taskManagement.dto.TaskSyncResponseDto;
 import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.SearchMode;
 import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.exception.PreconditionFailedException;
+import com.learn.taskManagement.render.JsonList;
+import com.learn.taskManagement.render.TaskColumnarCodec;
+import com.learn.taskManagement.render.TaskJsonCache;
 import com.learn.taskManagement.service.TaskService;
+import com.learn.taskManagement.tenant.TenantContext;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
 import java.util.List;
 
 @RestController
@@ -18,6 +52,11 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final TaskJsonCache taskJsonCache;
+
+    @Value("${task.write-behind.enabled:false}")
+    private boolean writeBehind;
 
     // Create new task
     @PostMapping("/task")
@@ -32,35 +71,266 @@ public class TaskController {
         return taskService.getAllTasks();
     }
 
-    // Get Tasks by ID
+    // Get tasks one page at a time (keyset on id)
+    @GetMapping("/page")
+    public ResponseEntity<TaskPageResponseDto> getTasksPage(@RequestParam(required = false) String cursor,
+                                                            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(taskService.getTasksPage(cursor, size));
+    }
+
+    // Tasks changed and deleted after updatedAfter; follow nextCursor, then sync again from the returned watermark.
+    // Archived tasks are not reported (see TaskSyncResponseDto.deleted)
+    @GetMapping("/since")
+    public ResponseEntity<TaskSyncResponseDto> getChangesSince(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedAfter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(taskService.getChangesSince(updatedAfter, cursor, size));
+    }
+
+    // Export all tasks as newline-delimited JSON, streamed row by row
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        ObjectWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        // The body is written on an async executor thread, so the tenant is captured here and entered there
+        String tenantId = TenantContext.current();
+        StreamingResponseBody body = out -> {
+            BufferedOutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+            try (TenantContext.Scope scope = TenantContext.enter(tenantId);
+                 SequenceWriter sequence = writer.writeValues(buffered)) {
+                taskService.streamAllTasks(task -> {
+                    try {
+                        sequence.write(task);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // Keyword search over title and description; mode=OR matches any term instead of all of them
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskSearchHitDto>> searchTasks(@RequestParam String q,
+                                                              @RequestParam(defaultValue = "AND") SearchMode mode,
+                                                              @RequestParam(required = false) TaskStatus status,
+                                                              @RequestParam(required = false) Priority priority,
+                                                              @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(taskService.searchTasks(q, mode, status, priority, limit));
+    }
+
+    // Open tasks that are overdue or due within an ISO-8601 period (P0D = due today), earliest first
+    @GetMapping("/due")
+    public ResponseEntity<List<TaskResponseDto>> getTasksDue(@RequestParam(defaultValue = "P0D") Period within,
+                                                             @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(taskService.getTasksDueWithin(within, limit));
+    }
+
+    // Archived tasks, keyset-paged in id order
+    @GetMapping("/archive")
+    public ResponseEntity<List<TaskResponseDto>> getArchivedTasks(@RequestParam(defaultValue = "0") long after,
+                                                                  @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(taskService.getArchivedTasks(after, limit));
+    }
+
+    // Get Tasks by ID; a matching If-None-Match is answered from the version alone
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable Long id,
+                                                       @RequestParam(defaultValue = "false") boolean includeArchived,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Falls back to the archive when the task is no longer live; archived tasks never change, so the ETag is checked
+        // against the loaded task instead of a separate version lookup
+        if (includeArchived) {
+            TaskResponseDto task = taskService.getTaskIncludingArchived(id);
+            String etag = eTag(task.getVersion());
+            if (ifNoneMatch != null && (ifNoneMatch.trim().equals("*") || matchesAny(ifNoneMatch, etag))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            return ResponseEntity.ok().eTag(etag).body(task);
+        }
+        if (ifNoneMatch != null) {
+            String etag = eTag(taskService.getTaskVersion(id));
+            if (ifNoneMatch.trim().equals("*") || matchesAny(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        TaskResponseDto task = taskService.getTaskById(id);
+        return ResponseEntity.ok().eTag(eTag(task.getVersion())).body(task);
     }
 
-    // Update existing task
+    // Update existing task; If-Match makes it conditional on the version the client last saw
     @PutMapping("/{id}")
-    public ResponseEntity<TaskResponseDto> updateTask(@PathVariable Long id, @Valid @RequestBody TaskRequestDto requestDto) {
-        return ResponseEntity.ok(taskService.updateTask(id, requestDto));
+    public ResponseEntity<TaskResponseDto> updateTask(@PathVariable Long id, @Valid @RequestBody TaskRequestDto requestDto,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponseDto updated = ifMatch == null
+                ? taskService.updateTask(id, requestDto)
+                : taskService.updateTask(id, requestDto, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(updated.getVersion())).body(updated);
+    }
+
+    // Partially update a task; only the fields sent are written
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskResponseDto> patchTask(@PathVariable Long id, @Valid @RequestBody TaskPatchDto patchDto) {
+        TaskResponseDto patched = taskService.patchTask(id, patchDto);
+        return ResponseEntity.ok().eTag(eTag(patched.getVersion())).body(patched);
+    }
+
+    // Move many tasks to one status
+    @PatchMapping("/status")
+    public ResponseEntity<TaskBatchResponseDto> updateTaskStatuses(@Valid @RequestBody TaskStatusUpdateDto statusUpdateDto) {
+        if (writeBehind) {
+            // 202: held in memory until the next flush; 503 when the buffer refused every id
+            TaskBatchResponseDto queued = taskService.queueTaskStatuses(statusUpdateDto.getIds(), statusUpdateDto.getTaskStatus());
+            if (queued.getSucceeded() == 0) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(queued);
+            }
+            return ResponseEntity.accepted().body(queued);
+        }
+        return ResponseEntity.ok(taskService.updateTaskStatuses(statusUpdateDto.getIds(), statusUpdateDto.getTaskStatus()));
     }
 
-    // Delete task
+    // Delete task; If-Match makes it conditional on the version the client last saw
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
-        taskService.deleteTask(id);
+    public ResponseEntity<Void> deleteTask(@PathVariable Long id,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch == null) {
+            taskService.deleteTask(id);
+        } else {
+            taskService.deleteTask(id, expectedVersion(ifMatch));
+        }
         return ResponseEntity.noContent().build();
     }
 
-    // Get tasks by priority
-    @GetMapping("/priority/{priority}")
-    public ResponseEntity<List<TaskResponseDto>> getTasksByPriority(@PathVariable Priority priority) {
-        return ResponseEntity.ok(taskService.getTasksByPriority(priority));
+    // Get tasks by priority, served from pre-encoded JSON
+    @GetMapping(value = "/priority/{priority}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getTasksByPriority(@PathVariable Priority priority,
+                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        JsonList tasks = taskJsonCache.tasksByPriority(TenantContext.current(), priority, () -> taskService.getTasksByPriority(priority));
+        return jsonList(tasks, ifNoneMatch, acceptEncoding);
+    }
+
+    // Get tasks by status, served from pre-encoded JSON
+    @GetMapping(value = "/status/{status}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getTasksByStatus(@PathVariable TaskStatus status,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                   @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        JsonList tasks = taskJsonCache.tasksByStatus(TenantContext.current(), status, () -> taskService.getTasksByStatus(status));
+        return jsonList(tasks, ifNoneMatch, acceptEncoding);
+    }
+
+    // The same lists in the columnar encoding, chosen when the Accept header asks for it
+    @GetMapping(value = "/priority/{priority}", produces = TaskColumnarCodec.MEDIA_TYPE_VALUE)
+    public List<TaskResponseDto> getTasksByPriorityColumnar(@PathVariable Priority priority) {
+        return taskService.getTasksByPriority(priority);
+    }
+
+    @GetMapping(value = "/status/{status}", produces = TaskColumnarCodec.MEDIA_TYPE_VALUE)
+    public List<TaskResponseDto> getTasksByStatusColumnar(@PathVariable TaskStatus status) {
+        return taskService.getTasksByStatus(status);
+    }
+
+    // Filter tasks by any combination of status, priority and due-date range
+    @GetMapping("/filter")
+    public ResponseEntity<PagedModel<TaskResponseDto>> filterTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @PageableDefault(size = 50, sort = "dueDate", direction = Sort.Direction.ASC) Pageable pageable) {
+        return ResponseEntity.ok(new PagedModel<>(taskService.filterTasks(status, priority, dueFrom, dueTo, pageable)));
+    }
+
+    // Get task counts by status and priority
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsDto> getTaskStats() {
+        return ResponseEntity.ok(taskService.getTaskStats());
+    }
+
+    // Create tasks in bulk; invalid items are reported individually
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponseDto> createTasks(@RequestBody List<TaskRequestDto> taskRequestDtos) {
+        return ResponseEntity.ok(taskService.createTasks(taskRequestDtos));
+    }
+
+    // Update tasks in bulk
+    @PatchMapping("/batch")
+    public ResponseEntity<TaskBatchResponseDto> updateTasks(@RequestBody List<TaskBatchUpdateDto> updates) {
+        return ResponseEntity.ok(taskService.updateTasks(updates));
+    }
+
+    // Delete tasks in bulk
+    @DeleteMapping("/batch")
+    public ResponseEntity<TaskBatchResponseDto> deleteTasks(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(taskService.deleteTasks(ids));
+    }
+
+    // The tag is weak because gzip and identity bodies share it
+    private static ResponseEntity<byte[]> jsonList(JsonList tasks, String ifNoneMatch, String acceptEncoding) {
+        String etag = "W/" + tasks.eTag();
+        if (ifNoneMatch != null && (ifNoneMatch.trim().equals("*") || matchesAny(ifNoneMatch, tasks.eTag()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        byte[] gzip = acceptsGzip(acceptEncoding) ? tasks.gzip() : null;
+        if (gzip != null) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+        }
+        return response.body(tasks.json());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static String eTag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // If-None-Match uses weak comparison, so W/ prefixes are ignored
+    private static boolean matchesAny(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    // Get tasks by status
-    @GetMapping("/status/{status}")
-    public ResponseEntity<List<TaskResponseDto>> getTasksByStatus(@PathVariable TaskStatus status) {
-        System.out.println("HERE: " + status);
-        return ResponseEntity.ok(taskService.getTasksByStatus(status));
+    // If-Match needs a strong tag naming one version; "*" is null, which only requires the task to exist
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            throw new PreconditionFailedException("If-Match must be a single strong ETag, got " + ifMatch);
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not name a task version: " + ifMatch);
+        }
     }
 }
@@ -0,0 +1,53 @@
+package com.learn.taskManagement.controller;
+
+import com.learn.taskManagement.dto.TaskImportJobDto;
+import com.learn.taskManagement.enums.ImportFormat;
+import com.learn.taskManagement.importer.TaskImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.InputStream;
+
+// Bulk import: create a job, PUT the CSV or NDJSON file to it, poll it for progress. After a failure, PUT the same
+// file again to resume from the last committed chunk.
+@RestController
+@RequestMapping("/api/tasks/imports")
+@RequiredArgsConstructor
+public class TaskImportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final TaskImportService importService;
+
+    @PostMapping
+    public ResponseEntity<TaskImportJobDto> createImport() {
+        TaskImportJobDto job = importService.create();
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}").buildAndExpand(job.getId()).toUri())
+                .body(job);
+    }
+
+    // The body is streamed, never buffered; the response comes once it has been read and committed
+    @PutMapping(value = "/{id}", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<TaskImportJobDto> upload(@PathVariable String id,
+                                                   @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                   InputStream body) {
+        ImportFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType) ? ImportFormat.NDJSON : ImportFormat.CSV;
+        return ResponseEntity.ok(importService.upload(id, format, body));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskImportJobDto> getImport(@PathVariable String id) {
+        return ResponseEntity.ok(importService.get(id));
+    }
+}
@@ -0,0 +1,20 @@
+package com.learn.taskManagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBatchItemResultDto {
+    // Position of the item in the request body
+    private int index;
+    private Long id;
+    private boolean success;
+    private List<String> errors;
+}
@@ -0,0 +1,18 @@
+package com.learn.taskManagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBatchResponseDto {
+    private int succeeded;
+    private int failed;
+    private List<TaskBatchItemResultDto> results;
+}
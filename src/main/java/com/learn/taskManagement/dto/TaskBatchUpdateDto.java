@@ -0,0 +1,15 @@
+package com.learn.taskManagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBatchUpdateDto {
+    private Long id;
+    private TaskRequestDto task;
+}
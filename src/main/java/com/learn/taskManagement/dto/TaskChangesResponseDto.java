@@ -0,0 +1,21 @@
+package com.learn.taskManagement.dto;
+
+import com.learn.taskManagement.changes.TaskChange;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskChangesResponseDto {
+    private List<TaskChange> changes;
+    // Pass back as since on the next poll
+    private long nextSince;
+    // The requested position is no longer buffered: reload the tasks, then continue from nextSince
+    private boolean resyncRequired;
+}
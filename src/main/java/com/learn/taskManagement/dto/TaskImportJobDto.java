@@ -0,0 +1,37 @@
+package com.learn.taskManagement.dto;
+
+import com.learn.taskManagement.enums.ImportFormat;
+import com.learn.taskManagement.enums.ImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportJobDto {
+    private String id;
+    private ImportStatus status;
+    private ImportFormat format;
+    // Data rows read from the current upload, including the ones skipped on resume
+    private long rowsRead;
+    // Rows covered by committed chunks; a re-upload skips this many
+    private long committedRows;
+    private long imported;
+    private long failed;
+    // Committed rows per second over the current upload
+    private double rowsPerSecond;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    // Why the last upload stopped, when it failed
+    private String message;
+    // Rejected rows, index being the zero-based data row; capped, with errorsTruncated set past the cap
+    private List<TaskBatchItemResultDto> errors;
+    private boolean errorsTruncated;
+}
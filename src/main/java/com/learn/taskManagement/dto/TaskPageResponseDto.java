@@ -0,0 +1,18 @@
+package com.learn.taskManagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskPageResponseDto {
+    private List<TaskResponseDto> items;
+    // Opaque token for the next page, null when there are no more rows
+    private String nextCursor;
+}
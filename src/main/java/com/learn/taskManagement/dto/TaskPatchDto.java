@@ -0,0 +1,42 @@
+package com.learn.taskManagement.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.learn.taskManagement.dto.json.PriorityDeserializer;
+import com.learn.taskManagement.dto.json.TaskStatusDeserializer;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+// Sparse update: null fields are left unchanged
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskPatchDto {
+    @JsonDeserialize(using = PriorityDeserializer.class)
+    private Priority priority;
+
+    @JsonDeserialize(using = TaskStatusDeserializer.class)
+    private TaskStatus taskStatus;
+
+    // Absent leaves the title alone, but a present one must not be blank
+    @Pattern(regexp = ".*\\S.*", flags = Pattern.Flag.DOTALL, message = "Title can not be blank")
+    @Size(min = 3, max = 100, message = "Title must be between 3 to 100 char")
+    private String title;
+
+    @FutureOrPresent(message = "Due date must be today or a future date")
+    private LocalDate dueDate;
+
+    @Size(max = 500, message = "Description can not exceed 500 char")
+    private String description;
+}
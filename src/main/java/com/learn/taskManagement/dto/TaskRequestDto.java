@@ -1,24 +1,35 @@
 package com.learn.taskManagement.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.learn.taskManagement.dto.json.PriorityDeserializer;
+import com.learn.taskManagement.dto.json.TaskStatusDeserializer;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
 
 @Getter
 @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 @Builder
 public class TaskRequestDto {
     @NotNull(message = "Priority is required")
-    private String priority;
+    @JsonDeserialize(using = PriorityDeserializer.class)
+    private Priority priority;
 
     @NotNull(message = "Task Status is required")
-    private String taskStatus;
+    @JsonDeserialize(using = TaskStatusDeserializer.class)
+    private TaskStatus taskStatus;
 
     @NotBlank(message = "Title is mandatory")
     @Size(min = 3, max = 100, message = "Title must be between 3 to 100 char")
@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
 @Builder
 public class TaskResponseDto {
     private Long id;
+    private String tenantId;
     private String title;
     private String description;
     private Priority priority;
@@ -23,4 +24,5 @@ public class TaskResponseDto {
     private LocalDate dueDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
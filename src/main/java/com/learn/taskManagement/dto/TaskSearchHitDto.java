@@ -0,0 +1,16 @@
+package com.learn.taskManagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSearchHitDto {
+    // BM25 relevance; only comparable between hits of the same query
+    private double score;
+    private TaskResponseDto task;
+}
@@ -0,0 +1,21 @@
+package com.learn.taskManagement.dto;
+
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskStatsDto {
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+    private Map<Priority, Long> byPriority;
+    private Map<TaskStatus, Map<Priority, Long>> byStatusAndPriority;
+}
@@ -0,0 +1,28 @@
+package com.learn.taskManagement.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.learn.taskManagement.dto.json.TaskStatusDeserializer;
+import com.learn.taskManagement.enums.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskStatusUpdateDto {
+    @NotEmpty(message = "At least one task id is required")
+    private List<Long> ids;
+
+    @NotNull(message = "Task Status is required")
+    @JsonDeserialize(using = TaskStatusDeserializer.class)
+    private TaskStatus taskStatus;
+}
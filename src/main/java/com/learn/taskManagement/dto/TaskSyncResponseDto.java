@@ -0,0 +1,30 @@
+package com.learn.taskManagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSyncResponseDto {
+    // Tasks created or changed since the watermark
+    private List<TaskResponseDto> updated;
+    // Ids deleted since the watermark. Archival is not a deletion and is not reported here: an archived task was
+    // COMPLETED and unchanged for task.archive.after, so a synced client already holds its final state. Clients that
+    // must drop archived tasks follow the change feed, which carries them as ARCHIVED, or do a full reload
+    private List<Long> deleted;
+    // Opaque token for the next page, null when this sync is complete
+    private String nextCursor;
+    // Once nextCursor is null, pass this as updatedAfter on the next sync. Each sync re-sends changes from the
+    // overlap window (task.sync.overlap) before it; a write whose commit lags its timestamp by more than that is missed
+    private LocalDateTime watermark;
+    // Set on the first page when the watermark is older than tombstone retention, so deletions may be missing;
+    // do a full reload
+    private boolean resyncRequired;
+}
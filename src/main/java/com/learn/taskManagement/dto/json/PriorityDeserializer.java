@@ -0,0 +1,27 @@
+package com.learn.taskManagement.dto.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.exception.InvalidEnumValueException;
+
+import java.io.IOException;
+
+public class PriorityDeserializer extends StdScalarDeserializer<Priority> {
+
+    public PriorityDeserializer() {
+        super(Priority.class);
+    }
+
+    @Override
+    public Priority deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        String value = parser.getValueAsString();
+        Priority priority = Priority.fromValue(value);
+        if (priority == null) {
+            throw new InvalidEnumValueException(parser,
+                    "Invalid priority '" + value + "', expected one of LOW, MEDIUM, HIGH", Priority.class);
+        }
+        return priority;
+    }
+}
@@ -0,0 +1,28 @@
+package com.learn.taskManagement.dto.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.exception.InvalidEnumValueException;
+
+import java.io.IOException;
+
+public class TaskStatusDeserializer extends StdScalarDeserializer<TaskStatus> {
+
+    public TaskStatusDeserializer() {
+        super(TaskStatus.class);
+    }
+
+    @Override
+    public TaskStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        String value = parser.getValueAsString();
+        TaskStatus status = TaskStatus.fromValue(value);
+        if (status == null) {
+            throw new InvalidEnumValueException(parser,
+                    "Invalid task status '" + value + "', expected one of NOT_STARTED, IN_PROGRESS, PENDING, COMPLETED",
+                    TaskStatus.class);
+        }
+        return status;
+    }
+}
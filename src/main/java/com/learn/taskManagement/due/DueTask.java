@@ -0,0 +1,6 @@
+package com.learn.taskManagement.due;
+
+import java.time.LocalDate;
+
+public record DueTask(String tenantId, long id, LocalDate dueDate) {
+}
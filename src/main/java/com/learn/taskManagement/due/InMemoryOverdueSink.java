@@ -0,0 +1,20 @@
+package com.learn.taskManagement.due;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+// Queues batches for a consumer in the same process (and for tests)
+public class InMemoryOverdueSink implements OverdueSink {
+
+    private final BlockingQueue<List<DueTask>> batches = new LinkedBlockingQueue<>();
+
+    @Override
+    public void publish(List<DueTask> batch) {
+        batches.add(List.copyOf(batch));
+    }
+
+    public BlockingQueue<List<DueTask>> batches() {
+        return batches;
+    }
+}
@@ -0,0 +1,15 @@
+package com.learn.taskManagement.due;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+// Default sink; swap in a queue or notifier by declaring another OverdueSink bean
+@Slf4j
+public class LoggingOverdueSink implements OverdueSink {
+
+    @Override
+    public void publish(List<DueTask> batch) {
+        log.info("{} tasks became overdue: {}", batch.size(), batch);
+    }
+}
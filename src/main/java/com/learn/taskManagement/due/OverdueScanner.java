@@ -0,0 +1,53 @@
+package com.learn.taskManagement.due;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+// Announces tasks whose due date has just passed; reads only the day buckets crossed since the last scan
+@Slf4j
+@Component
+public class OverdueScanner {
+
+    private final TaskDueIndex dueIndex;
+    private final OverdueSink sink;
+    private final Clock clock;
+    private final int batchSize;
+
+    // Tasks already overdue at startup are not announced again
+    private LocalDate announcedThrough;
+
+    public OverdueScanner(TaskDueIndex dueIndex,
+                          OverdueSink sink,
+                          Clock clock,
+                          @Value("${task.due.batch-size:500}") int batchSize) {
+        this.dueIndex = dueIndex;
+        this.sink = sink;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.announcedThrough = LocalDate.now(clock).minusDays(1);
+    }
+
+    // Returns how many tasks were published
+    @Scheduled(initialDelayString = "${task.due.scan-interval:1m}", fixedDelayString = "${task.due.scan-interval:1m}")
+    public synchronized int scan() {
+        LocalDate lastOverdueDay = LocalDate.now(clock).minusDays(1);
+        if (!lastOverdueDay.isAfter(announcedThrough)) {
+            return 0;
+        }
+        List<DueTask> overdue = dueIndex.dueBetween(announcedThrough.plusDays(1), lastOverdueDay);
+        for (int from = 0; from < overdue.size(); from += batchSize) {
+            sink.publish(overdue.subList(from, Math.min(from + batchSize, overdue.size())));
+        }
+        announcedThrough = lastOverdueDay;
+        if (!overdue.isEmpty()) {
+            log.debug("Published {} newly overdue tasks through {}", overdue.size(), lastOverdueDay);
+        }
+        return overdue.size();
+    }
+}
@@ -0,0 +1,9 @@
+package com.learn.taskManagement.due;
+
+import java.util.List;
+
+// Receives tasks that have just become overdue, one batch at a time
+public interface OverdueSink {
+
+    void publish(List<DueTask> batch);
+}
@@ -0,0 +1,153 @@
+package com.learn.taskManagement.due;
+
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.event.TaskEvent;
+import com.learn.taskManagement.store.TaskStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Open (not COMPLETED) tasks bucketed by due date, one partition per tenant, kept current from committed TaskEvents.
+// A tenant's queries only read and lock its own partition.
+@Slf4j
+@Component
+public class TaskDueIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private static final class Partition {
+        final NavigableMap<LocalDate, TreeSet<Long>> buckets = new TreeMap<>();
+        final Map<Long, LocalDate> dueDates = new HashMap<>();
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+    }
+
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+    private final TaskStore taskStore;
+    private final Clock clock;
+
+    public TaskDueIndex(TaskStore taskStore, Clock clock) {
+        this.taskStore = taskStore;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long lastId = 0;
+        List<Task> page;
+        do {
+            page = taskStore.findAfter(null, lastId, REBUILD_PAGE_SIZE);
+            for (Task task : page) {
+                put(task.getTenantId(), task.getId(), task.getDueDate(), task.getTaskStatus());
+                lastId = task.getId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        log.info("Built due-date index with {} open tasks", size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        TaskResponseDto after = event.after();
+        if (after == null) {
+            put(event.tenantId(), event.taskId(), null, null);
+        } else {
+            put(event.tenantId(), after.getId(), after.getDueDate(), after.getTaskStatus());
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Partition partition : partitions.values()) {
+            partition.lock.readLock().lock();
+            try {
+                size += partition.dueDates.size();
+            } finally {
+                partition.lock.readLock().unlock();
+            }
+        }
+        return size;
+    }
+
+    // The tenant's overdue tasks plus those due from today through today + within, earliest first
+    public List<DueTask> dueWithin(String tenantId, Period within, int limit) {
+        Partition partition = partitions.get(tenantId);
+        if (partition == null) {
+            return List.of();
+        }
+        return collect(tenantId, partition, partition.buckets.headMap(LocalDate.now(clock).plus(within), true), limit);
+    }
+
+    // Every tenant's tasks due on any day in [first, last], earliest first
+    public List<DueTask> dueBetween(LocalDate first, LocalDate last) {
+        if (last.isBefore(first)) {
+            return List.of();
+        }
+        List<DueTask> due = new ArrayList<>();
+        partitions.forEach((tenantId, partition) ->
+                due.addAll(collect(tenantId, partition, partition.buckets.subMap(first, true, last, true), Integer.MAX_VALUE)));
+        due.sort(Comparator.comparing(DueTask::dueDate));
+        return due;
+    }
+
+    private static List<DueTask> collect(String tenantId, Partition partition,
+                                         NavigableMap<LocalDate, TreeSet<Long>> range, int limit) {
+        partition.lock.readLock().lock();
+        try {
+            List<DueTask> result = new ArrayList<>();
+            for (Map.Entry<LocalDate, TreeSet<Long>> bucket : range.entrySet()) {
+                for (Long id : bucket.getValue()) {
+                    if (result.size() == limit) {
+                        return result;
+                    }
+                    result.add(new DueTask(tenantId, id, bucket.getKey()));
+                }
+            }
+            return result;
+        } finally {
+            partition.lock.readLock().unlock();
+        }
+    }
+
+    // A null due date or a COMPLETED status removes the task
+    private void put(String tenantId, Long id, LocalDate dueDate, TaskStatus status) {
+        boolean open = dueDate != null && status != TaskStatus.COMPLETED;
+        Partition partition = open ? partitions.computeIfAbsent(tenantId, t -> new Partition()) : partitions.get(tenantId);
+        if (partition == null) {
+            return;
+        }
+        partition.lock.writeLock().lock();
+        try {
+            LocalDate previous = open ? partition.dueDates.put(id, dueDate) : partition.dueDates.remove(id);
+            if (previous != null && (!open || !previous.equals(dueDate))) {
+                TreeSet<Long> bucket = partition.buckets.get(previous);
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    partition.buckets.remove(previous);
+                }
+            }
+            if (open) {
+                partition.buckets.computeIfAbsent(dueDate, d -> new TreeSet<>()).add(id);
+            }
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+    }
+}
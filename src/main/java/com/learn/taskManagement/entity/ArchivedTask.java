@@ -0,0 +1,54 @@
+package com.learn.taskManagement.entity;
+
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Cold tier: COMPLETED tasks TaskArchiver moved out of the task table, so the live table, its indexes and the buffer
+// pool only carry active work. Rows keep their task id, columns and version; they are read-only from here on.
+@Entity
+@Table(name = "task_archive", indexes = {
+        // Archive listings page through one tenant's rows in id order
+        @Index(name = "idx_task_archive_tenant_id", columnList = "tenantId, id")
+})
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ArchivedTask {
+    // Assigned from the task, never generated
+    @Id
+    private Long id;
+
+    @Column(nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Priority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus taskStatus;
+
+    private String title;
+
+    private LocalDate dueDate;
+
+    private String description;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updateAt;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
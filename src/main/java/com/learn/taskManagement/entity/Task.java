@@ -2,29 +2,68 @@ package com.learn.taskManagement.entity;
 
 import com.learn.taskManagement.enums.Priority;
 import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.metrics.RowCountingListener;
+import com.learn.taskManagement.tenant.TenantContext;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+// UPDATE statements list only the columns that actually changed
+@DynamicUpdate
+// Counts loaded rows per request for the query metrics
+@EntityListeners(RowCountingListener.class)
+// Deletes leave a tombstone so incremental sync can report them; TombstoneCompactor purges old ones
+@SQLDelete(sql = "update task set deleted_at = current_timestamp(6), update_at = current_timestamp(6), version = version + 1"
+        + " where id = ? and version = ?")
+@SQLRestriction("deleted_at is null")
+// Every query is scoped to one tenant, so every index leads with tenantId and a tenant's reads only walk its own rows;
+// the two background jobs (tombstone compaction and archival) are the exceptions
+@Table(indexes = {
+        // Leading columns serve status-only filters; full key serves status + priority + due-date range
+        @Index(name = "idx_task_tenant_status_priority_due", columnList = "tenantId, taskStatus, priority, dueDate"),
+        @Index(name = "idx_task_tenant_priority_due", columnList = "tenantId, priority, dueDate"),
+        @Index(name = "idx_task_tenant_due_date", columnList = "tenantId, dueDate"),
+        // Keyset streams by status or priority walk these in id order instead of sorting every page
+        @Index(name = "idx_task_tenant_status_id", columnList = "tenantId, taskStatus, id"),
+        @Index(name = "idx_task_tenant_priority_id", columnList = "tenantId, priority, id"),
+        @Index(name = "idx_task_tenant_id", columnList = "tenantId, id"),
+        // Incremental sync walks (updateAt, id) per tenant; the compactor finds old tombstones across tenants by deletedAt
+        @Index(name = "idx_task_tenant_update_at_id", columnList = "tenantId, updateAt, id"),
+        @Index(name = "idx_task_deleted_at", columnList = "deletedAt"),
+        // TaskArchiver finds COMPLETED tasks untouched since its cutoff across tenants
+        @Index(name = "idx_task_status_update_at", columnList = "taskStatus, updateAt")
+})
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 public class Task {
+    // Pooled sequence (a table on MySQL) so inserts can be JDBC-batched; IDENTITY forces one round-trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
+    // Owning tenant, fixed at creation; the default backfills rows created before tenants existed
+    @Builder.Default
+    @ColumnDefault("'" + TenantContext.DEFAULT_TENANT + "'")
+    @Column(nullable = false, updatable = false, length = 64)
+    private String tenantId = TenantContext.DEFAULT_TENANT;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @NotNull
@@ -51,4 +90,13 @@ public class Task {
 
     @UpdateTimestamp
     private LocalDateTime updateAt;
+
+    // Optimistic lock, also served as the ETag; the default backfills rows created before the column existed
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Set instead of removing the row; null for live tasks
+    private LocalDateTime deletedAt;
 }
@@ -0,0 +1,8 @@
+package com.learn.taskManagement.enums;
+
+public enum ImportFormat {
+    // RFC 4180 with a header row naming the TaskRequestDto fields
+    CSV,
+    // One TaskRequestDto JSON object per line
+    NDJSON
+}
@@ -0,0 +1,10 @@
+package com.learn.taskManagement.enums;
+
+public enum ImportStatus {
+    // Created, nothing uploaded yet
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    // The upload stopped early; uploading the same file again resumes after the last committed chunk
+    FAILED
+}
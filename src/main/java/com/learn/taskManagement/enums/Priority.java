@@ -3,5 +3,20 @@ package com.learn.taskManagement.enums;
 public enum Priority {
     LOW,
     MEDIUM,
-    HIGH
+    HIGH;
+
+    private static final Priority[] VALUES = values();
+
+    // Case-insensitive lookup without upper-casing or exceptions; null when nothing matches
+    public static Priority fromValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (Priority priority : VALUES) {
+            if (priority.name().equalsIgnoreCase(value)) {
+                return priority;
+            }
+        }
+        return null;
+    }
 }
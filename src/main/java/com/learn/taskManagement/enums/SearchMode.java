@@ -0,0 +1,23 @@
+package com.learn.taskManagement.enums;
+
+public enum SearchMode {
+    // Every query term must appear
+    AND,
+    // Any query term may appear; more matching terms rank higher
+    OR;
+
+    private static final SearchMode[] VALUES = values();
+
+    // Case-insensitive lookup without upper-casing or exceptions; null when nothing matches
+    public static SearchMode fromValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (SearchMode mode : VALUES) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        return null;
+    }
+}
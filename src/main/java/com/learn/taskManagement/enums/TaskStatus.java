@@ -4,5 +4,20 @@ public enum TaskStatus {
     NOT_STARTED,
     IN_PROGRESS,
     PENDING,
-    COMPLETED
-}
\ No newline at end of file
+    COMPLETED;
+
+    private static final TaskStatus[] VALUES = values();
+
+    // Case-insensitive lookup without upper-casing or exceptions; null when nothing matches
+    public static TaskStatus fromValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (TaskStatus status : VALUES) {
+            if (status.name().equalsIgnoreCase(value)) {
+                return status;
+            }
+        }
+        return null;
+    }
+}
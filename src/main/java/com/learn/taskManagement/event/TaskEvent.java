@@ -0,0 +1,42 @@
+package com.learn.taskManagement.event;
+
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.tenant.TenantContext;
+
+// Published by TaskServiceImpl for every committed write; before is null on create, after is null on delete and on
+// archive, which takes the task out of every live read
+public record TaskEvent(Type type, TaskResponseDto before, TaskResponseDto after) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        ARCHIVED
+    }
+
+    public static TaskEvent created(TaskResponseDto after) {
+        return new TaskEvent(Type.CREATED, null, after);
+    }
+
+    public static TaskEvent updated(TaskResponseDto before, TaskResponseDto after) {
+        return new TaskEvent(Type.UPDATED, before, after);
+    }
+
+    public static TaskEvent deleted(TaskResponseDto before) {
+        return new TaskEvent(Type.DELETED, before, null);
+    }
+
+    public static TaskEvent archived(TaskResponseDto before) {
+        return new TaskEvent(Type.ARCHIVED, before, null);
+    }
+
+    public Long taskId() {
+        return after != null ? after.getId() : before.getId();
+    }
+
+    // A task never changes tenant; states built without one belong to the default tenant, like the column
+    public String tenantId() {
+        String tenantId = after != null ? after.getTenantId() : before.getTenantId();
+        return tenantId == null ? TenantContext.DEFAULT_TENANT : tenantId;
+    }
+}
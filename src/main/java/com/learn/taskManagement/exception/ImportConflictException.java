@@ -0,0 +1,11 @@
+package com.learn.taskManagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ImportConflictException extends RuntimeException {
+    public ImportConflictException(String s) {
+        super(s);
+    }
+}
@@ -0,0 +1,16 @@
+package com.learn.taskManagement.exception;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+// Bad client input while binding a request body; Spring answers 400. No stack trace is captured.
+public class InvalidEnumValueException extends MismatchedInputException {
+    public InvalidEnumValueException(JsonParser parser, String s, Class<?> targetType) {
+        super(parser, s, targetType);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
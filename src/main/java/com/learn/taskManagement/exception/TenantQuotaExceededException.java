@@ -0,0 +1,11 @@
+package com.learn.taskManagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class TenantQuotaExceededException extends RuntimeException {
+    public TenantQuotaExceededException(String s) {
+        super(s);
+    }
+}
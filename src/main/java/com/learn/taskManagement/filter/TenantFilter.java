@@ -0,0 +1,47 @@
+package com.learn.taskManagement.filter;
+
+import com.learn.taskManagement.tenant.TenantContext;
+import com.learn.taskManagement.tenant.TenantRateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Scopes each API request to the tenant named in the tenant header (the default tenant when absent) and applies
+// that tenant's rate limit before any other work is done for it
+public class TenantFilter extends OncePerRequestFilter {
+
+    private final String header;
+    private final TenantRateLimiter rateLimiter;
+
+    // A null rate limiter turns rate limiting off
+    public TenantFilter(String header, TenantRateLimiter rateLimiter) {
+        this.header = header;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String tenantId = request.getHeader(header);
+        if (tenantId == null || tenantId.isEmpty()) {
+            tenantId = TenantContext.DEFAULT_TENANT;
+        } else if (!TenantContext.isValid(tenantId)) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Invalid " + header + " header");
+            return;
+        }
+        if (rateLimiter != null && !rateLimiter.tryAcquire(tenantId)) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(rateLimiter.retryAfterSeconds()));
+            return;
+        }
+        try (TenantContext.Scope scope = TenantContext.enter(tenantId)) {
+            chain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.learn.taskManagement.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+// Splits an upload into records without holding more than one of them: lines for NDJSON, and for CSV lines whose
+// line breaks inside quoted fields are kept. Blank lines are skipped and a trailing \r is dropped.
+final class RecordReader implements Closeable {
+
+    private final Reader in;
+    private final boolean quoted;
+    private final int maxRecordLength;
+    private final char[] buffer = new char[64 * 1024];
+    private int position;
+    private int limit;
+
+    RecordReader(Reader in, boolean quoted, int maxRecordLength) {
+        this.in = in;
+        this.quoted = quoted;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    // The next non-blank record, or null at the end of the upload
+    String next() throws IOException {
+        StringBuilder record = new StringBuilder();
+        while (true) {
+            boolean inQuotes = false;
+            record.setLength(0);
+            int c;
+            while ((c = read()) >= 0) {
+                if (c == '"' && quoted) {
+                    inQuotes = !inQuotes;
+                } else if (c == '\n' && !inQuotes) {
+                    break;
+                }
+                if (record.length() == maxRecordLength) {
+                    throw new IllegalArgumentException("Record longer than " + maxRecordLength + " characters"
+                            + (inQuotes ? ", probably an unterminated quote" : ""));
+                }
+                record.append((char) c);
+            }
+            int length = record.length();
+            if (length > 0 && record.charAt(length - 1) == '\r') {
+                record.setLength(length - 1);
+            }
+            String value = record.toString();
+            if (!value.isBlank()) {
+                return value;
+            }
+            if (c < 0) {
+                return null;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
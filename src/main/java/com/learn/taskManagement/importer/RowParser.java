@@ -0,0 +1,119 @@
+package com.learn.taskManagement.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Turns one record into a TaskRequestDto; an IllegalArgumentException rejects just that row. Stateless after
+// construction, so worker threads share one instance.
+interface RowParser {
+
+    TaskRequestDto parse(String record);
+
+    static RowParser ndjson(ObjectReader reader) {
+        return record -> {
+            try {
+                return reader.readValue(record);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException(e.getOriginalMessage(), e);
+            }
+        };
+    }
+
+    // Columns are matched to TaskRequestDto fields by header name, ignoring case; empty fields are null
+    static RowParser csv(String header) {
+        if (header == null) {
+            throw new IllegalArgumentException("Empty CSV upload, expected a header row");
+        }
+        // Spreadsheet exports often start with a byte order mark
+        List<String> columns = new ArrayList<>();
+        for (String column : fields(header.startsWith("\uFEFF") ? header.substring(1) : header)) {
+            String name = column.trim().toLowerCase(Locale.ROOT);
+            if (!List.of("title", "description", "priority", "taskstatus", "duedate").contains(name)) {
+                throw new IllegalArgumentException("Unknown CSV column '" + column
+                        + "', expected title, description, priority, taskStatus and dueDate");
+            }
+            columns.add(name);
+        }
+        return record -> {
+            List<String> values = fields(record);
+            if (values.size() != columns.size()) {
+                throw new IllegalArgumentException("Expected " + columns.size() + " fields but found " + values.size());
+            }
+            TaskRequestDto dto = new TaskRequestDto();
+            for (int i = 0; i < values.size(); i++) {
+                String value = values.get(i).isEmpty() ? null : values.get(i);
+                switch (columns.get(i)) {
+                    case "title" -> dto.setTitle(value);
+                    case "description" -> dto.setDescription(value);
+                    case "priority" -> dto.setPriority(priority(value));
+                    case "taskstatus" -> dto.setTaskStatus(status(value));
+                    default -> dto.setDueDate(date(value));
+                }
+            }
+            return dto;
+        };
+    }
+
+    private static Priority priority(String value) {
+        Priority priority = Priority.fromValue(value);
+        if (value != null && priority == null) {
+            throw new IllegalArgumentException("Invalid priority '" + value + "', expected one of LOW, MEDIUM, HIGH");
+        }
+        return priority;
+    }
+
+    private static TaskStatus status(String value) {
+        TaskStatus status = TaskStatus.fromValue(value);
+        if (value != null && status == null) {
+            throw new IllegalArgumentException("Invalid task status '" + value
+                    + "', expected one of NOT_STARTED, IN_PROGRESS, PENDING, COMPLETED");
+        }
+        return status;
+    }
+
+    private static LocalDate date(String value) {
+        try {
+            return value == null ? null : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid due date '" + value + "', expected yyyy-MM-dd");
+        }
+    }
+
+    // RFC 4180 fields: comma separated, optionally quoted, with "" for a quote inside a quoted field
+    static List<String> fields(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (inQuotes) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
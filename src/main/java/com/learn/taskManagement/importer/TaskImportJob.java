@@ -0,0 +1,114 @@
+package com.learn.taskManagement.importer;
+
+import com.learn.taskManagement.dto.TaskBatchItemResultDto;
+import com.learn.taskManagement.dto.TaskImportJobDto;
+import com.learn.taskManagement.enums.ImportFormat;
+import com.learn.taskManagement.enums.ImportStatus;
+import com.learn.taskManagement.exception.ImportConflictException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Progress of one import. The reader thread reports rows read, the writer reports each committed chunk, and
+// committedRows is only ever advanced by a commit, so it is always a safe point to resume from.
+final class TaskImportJob {
+
+    private final String id;
+    private final String tenantId;
+    private final int maxErrors;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final List<TaskBatchItemResultDto> errors = new ArrayList<>();
+
+    private ImportStatus status = ImportStatus.PENDING;
+    private ImportFormat format;
+    private volatile long rowsRead;
+    private long committedRows;
+    private long imported;
+    private long failed;
+    private boolean errorsTruncated;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long startedNanos;
+    private long finishedNanos;
+    private long uploadRows;
+    private String message;
+
+    TaskImportJob(String id, String tenantId, int maxErrors) {
+        this.id = id;
+        this.tenantId = tenantId;
+        this.maxErrors = maxErrors;
+    }
+
+    String id() {
+        return id;
+    }
+
+    String tenantId() {
+        return tenantId;
+    }
+
+    // Returns the rows to skip, i.e. those already committed by an earlier upload
+    synchronized long start(ImportFormat format) {
+        if (status == ImportStatus.RUNNING) {
+            throw new ImportConflictException("Import " + id + " is already receiving an upload");
+        }
+        if (status == ImportStatus.COMPLETED) {
+            throw new ImportConflictException("Import " + id + " has already completed");
+        }
+        this.status = ImportStatus.RUNNING;
+        this.format = format;
+        this.rowsRead = 0;
+        this.uploadRows = 0;
+        this.message = null;
+        this.startedAt = LocalDateTime.now();
+        this.startedNanos = System.nanoTime();
+        this.finishedAt = null;
+        return committedRows;
+    }
+
+    void read(long rows) {
+        rowsRead = rows;
+    }
+
+    synchronized void commit(long end, int importedRows, List<TaskBatchItemResultDto> rejected) {
+        uploadRows += end - committedRows;
+        committedRows = end;
+        imported += importedRows;
+        failed += rejected.size();
+        for (TaskBatchItemResultDto error : rejected) {
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    synchronized void finish(String failure) {
+        status = failure == null ? ImportStatus.COMPLETED : ImportStatus.FAILED;
+        message = failure;
+        finishedAt = LocalDateTime.now();
+        finishedNanos = System.nanoTime();
+    }
+
+    synchronized TaskImportJobDto toDto() {
+        long elapsed = (status == ImportStatus.RUNNING ? System.nanoTime() : finishedNanos) - startedNanos;
+        return TaskImportJobDto.builder()
+                .id(id)
+                .status(status)
+                .format(format)
+                .rowsRead(rowsRead)
+                .committedRows(committedRows)
+                .imported(imported)
+                .failed(failed)
+                .rowsPerSecond(startedAt == null || elapsed <= 0 ? 0 : uploadRows * 1e9 / elapsed)
+                .createdAt(createdAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .message(message)
+                .errors(List.copyOf(errors))
+                .errorsTruncated(errorsTruncated)
+                .build();
+    }
+}
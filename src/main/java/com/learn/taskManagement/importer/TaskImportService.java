@@ -0,0 +1,233 @@
+package com.learn.taskManagement.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.learn.taskManagement.dto.TaskBatchItemResultDto;
+import com.learn.taskManagement.dto.TaskImportJobDto;
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.enums.ImportFormat;
+import com.learn.taskManagement.exception.ResourceNotFoundException;
+import com.learn.taskManagement.service.TaskService;
+import com.learn.taskManagement.tenant.TenantContext;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Bulk import of CSV or NDJSON uploads. The request thread reads the body record by record and hands fixed-size
+// chunks to a worker pool that parses and validates them in parallel. The futures go, in upload order, through a
+// bounded queue to one writer per import, which commits each chunk in its own transaction. A full queue stops the
+// reader, so memory is bounded by queue-capacity chunks however large the upload is.
+@Slf4j
+@Service
+public class TaskImportService {
+
+    private record Chunk(long end, List<TaskRequestDto> valid, List<TaskBatchItemResultDto> rejected) {
+    }
+
+    // Marks the end of the upload in the writer's queue
+    private static final CompletableFuture<Chunk> END = CompletableFuture.completedFuture(null);
+
+    private final TaskService taskService;
+    private final Validator validator;
+    private final ObjectReader ndjsonReader;
+    private final int chunkSize;
+    private final int queueCapacity;
+    private final int maxErrors;
+    private final int maxRecordLength;
+    private final ExecutorService workers;
+    private final ExecutorService writers;
+    private final Cache<String, TaskImportJob> jobs;
+
+    public TaskImportService(TaskService taskService,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             @Value("${task.import.chunk-size:1000}") int chunkSize,
+                             @Value("${task.import.workers:0}") int workers,
+                             @Value("${task.import.queue-capacity:8}") int queueCapacity,
+                             @Value("${task.import.max-errors:1000}") int maxErrors,
+                             @Value("${task.import.max-record-length:16384}") int maxRecordLength,
+                             @Value("${task.import.job-retention:24h}") Duration jobRetention) {
+        this.taskService = taskService;
+        this.validator = validator;
+        this.ndjsonReader = objectMapper.readerFor(TaskRequestDto.class);
+        this.chunkSize = chunkSize;
+        this.queueCapacity = queueCapacity;
+        this.maxErrors = maxErrors;
+        this.maxRecordLength = maxRecordLength;
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.workers = Executors.newFixedThreadPool(threads, daemonThreads("task-import-worker-"));
+        this.writers = Executors.newCachedThreadPool(daemonThreads("task-import-writer-"));
+        // Finished jobs stay readable for a while; polling a running one keeps it
+        this.jobs = Caffeine.newBuilder().expireAfterAccess(jobRetention).build();
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory factory = new CustomizableThreadFactory(prefix);
+        factory.setDaemon(true);
+        return factory;
+    }
+
+    public TaskImportJobDto create() {
+        TaskImportJob job = new TaskImportJob(UUID.randomUUID().toString(), TenantContext.current(), maxErrors);
+        jobs.put(job.id(), job);
+        return job.toDto();
+    }
+
+    public TaskImportJobDto get(String id) {
+        return job(id).toDto();
+    }
+
+    private TaskImportJob job(String id) {
+        TaskImportJob job = jobs.getIfPresent(id);
+        // Another tenant's job is reported as missing, like its tasks
+        if (job == null || !job.tenantId().equals(TenantContext.current())) {
+            throw new ResourceNotFoundException("Import not found with ID: " + id);
+        }
+        return job;
+    }
+
+    // Runs until the body is consumed and every chunk read from it is committed or the upload fails. Rows the job
+    // already committed are read past without being parsed, so a failed upload resumes by sending the file again.
+    public TaskImportJobDto upload(String id, ImportFormat format, InputStream body) {
+        TaskImportJob job = job(id);
+        long skip = job.start(format);
+        BlockingQueue<CompletableFuture<Chunk>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> write(job, queue), writers);
+        String failure = null;
+        try (RecordReader records = new RecordReader(new InputStreamReader(body, StandardCharsets.UTF_8),
+                format == ImportFormat.CSV, maxRecordLength)) {
+            RowParser parser = format == ImportFormat.CSV ? RowParser.csv(records.next()) : RowParser.ndjson(ndjsonReader);
+            long row = 0;
+            List<String> chunk = new ArrayList<>(chunkSize);
+            String record;
+            while ((record = records.next()) != null) {
+                if (row++ < skip) {
+                    continue;
+                }
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    job.read(row);
+                    if (!submit(queue, writer, prepare(parser, chunk, row))) {
+                        break;
+                    }
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            job.read(row);
+            if (!chunk.isEmpty()) {
+                submit(queue, writer, prepare(parser, chunk, row));
+            }
+        } catch (IOException | RuntimeException e) {
+            failure = "Upload stopped: " + e.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = "Upload interrupted";
+        }
+        try {
+            submit(queue, writer, END);
+            writer.join();
+        } catch (CompletionException e) {
+            // A failed commit is the root cause of whatever the reader saw afterwards
+            failure = "Write failed: " + e.getCause().getMessage();
+            log.warn("Import {} stopped at row {}", id, job.toDto().getCommittedRows(), e.getCause());
+        } catch (InterruptedException e) {
+            // Drop what is queued and let the writer stop after its current chunk, without waiting for it
+            Thread.currentThread().interrupt();
+            queue.clear();
+            queue.offer(END);
+            failure = "Upload interrupted";
+        }
+        job.finish(failure);
+        return job.toDto();
+    }
+
+    // Waits for room in the queue; false once the writer has stopped, in which case nothing more will be taken
+    private static boolean submit(BlockingQueue<CompletableFuture<Chunk>> queue, CompletableFuture<Void> writer,
+                                  CompletableFuture<Chunk> chunk) throws InterruptedException {
+        while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CompletableFuture<Chunk> prepare(RowParser parser, List<String> records, long end) {
+        return CompletableFuture.supplyAsync(() -> {
+            long first = end - records.size();
+            List<TaskRequestDto> valid = new ArrayList<>(records.size());
+            List<TaskBatchItemResultDto> rejected = new ArrayList<>();
+            for (int i = 0; i < records.size(); i++) {
+                List<String> errors;
+                TaskRequestDto dto = null;
+                try {
+                    dto = parser.parse(records.get(i));
+                    errors = validate(dto);
+                } catch (IllegalArgumentException e) {
+                    errors = List.of(e.getMessage());
+                }
+                if (errors.isEmpty()) {
+                    valid.add(dto);
+                } else {
+                    rejected.add(TaskBatchItemResultDto.builder()
+                            .index(Math.toIntExact(first + i)).success(false).errors(errors).build());
+                }
+            }
+            return new Chunk(end, valid, rejected);
+        }, workers);
+    }
+
+    private List<String> validate(TaskRequestDto dto) {
+        Set<ConstraintViolation<TaskRequestDto>> violations = validator.validate(dto);
+        List<String> errors = new ArrayList<>(violations.size());
+        for (ConstraintViolation<TaskRequestDto> violation : violations) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return errors;
+    }
+
+    // One transaction per chunk, in upload order, so committedRows only ever covers a prefix of the upload.
+    // Runs as the job's tenant.
+    private void write(TaskImportJob job, BlockingQueue<CompletableFuture<Chunk>> queue) {
+        try (TenantContext.Scope scope = TenantContext.enter(job.tenantId())) {
+            CompletableFuture<Chunk> next;
+            while ((next = queue.take()) != END) {
+                Chunk chunk = next.join();
+                List<Long> ids = chunk.valid().isEmpty() ? List.of() : taskService.importTasks(chunk.valid());
+                job.commit(chunk.end(), ids.size(), chunk.rejected());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted writing import " + job.id(), e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        workers.shutdownNow();
+        writers.shutdownNow();
+    }
+}
@@ -0,0 +1,46 @@
+package com.learn.taskManagement.metrics;
+
+// SQL statements and loaded rows for the request running on the current thread
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int rows;
+
+    private RequestQueryStats() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new RequestQueryStats());
+    }
+
+    // Stats collected since begin(), or null when this thread is not tracking a request
+    public static RequestQueryStats end() {
+        RequestQueryStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void statementExecuted() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+        }
+    }
+
+    static void rowLoaded() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.rows++;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public int rows() {
+        return rows;
+    }
+}
@@ -0,0 +1,12 @@
+package com.learn.taskManagement.metrics;
+
+import jakarta.persistence.PostLoad;
+
+// Entity listener counting every row Hibernate materializes into an entity
+public class RowCountingListener {
+
+    @PostLoad
+    public void postLoad(Object entity) {
+        RequestQueryStats.rowLoaded();
+    }
+}
@@ -0,0 +1,47 @@
+package com.learn.taskManagement.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Sees every SQL string Hibernate prepares; counts it by kind and against the current request
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final String[] KINDS = {"select", "insert", "update", "delete", "other"};
+
+    private final Counter[] counters = new Counter[KINDS.length];
+
+    public StatementCountingInspector(MeterRegistry meterRegistry) {
+        for (int i = 0; i < KINDS.length; i++) {
+            counters[i] = Counter.builder("task.jpa.statements")
+                    .description("SQL statements prepared by Hibernate")
+                    .tag("kind", KINDS[i])
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        counters[kind(sql)].increment();
+        RequestQueryStats.statementExecuted();
+        return sql;
+    }
+
+    // Index into KINDS from the leading keyword, without lower-casing the whole statement
+    static int kind(String sql) {
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        // A CTE is still a read
+        if (sql.regionMatches(true, start, "with", 0, 4)) {
+            return 0;
+        }
+        for (int i = 0; i < KINDS.length - 1; i++) {
+            if (sql.regionMatches(true, start, KINDS[i], 0, KINDS[i].length())) {
+                return i;
+            }
+        }
+        return KINDS.length - 1;
+    }
+}
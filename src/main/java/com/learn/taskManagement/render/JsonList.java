@@ -0,0 +1,50 @@
+package com.learn.taskManagement.render;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+// One encoded list response: the JSON array, its entity tag, and the gzipped bytes once a client has asked for them
+public final class JsonList {
+
+    // Below this, gzip framing costs about as much as it saves
+    static final int MIN_GZIP_SIZE = 1024;
+
+    private final byte[] json;
+    private final String eTag;
+    private volatile byte[] gzip;
+
+    JsonList(byte[] json, String eTag) {
+        this.json = json;
+        this.eTag = eTag;
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    // Quoted opaque tag, derived from the ids and versions the list holds
+    public String eTag() {
+        return eTag;
+    }
+
+    // Compressed once per list and shared by every later gzip client; null when the body is too small to bother
+    public byte[] gzip() {
+        if (json.length < MIN_GZIP_SIZE) {
+            return null;
+        }
+        byte[] compressed = gzip;
+        if (compressed == null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream zip = new GZIPOutputStream(out, 8192)) {
+                zip.write(json);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            compressed = out.toByteArray();
+            gzip = compressed;
+        }
+        return compressed;
+    }
+}
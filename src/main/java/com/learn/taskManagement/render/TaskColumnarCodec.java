@@ -0,0 +1,331 @@
+package com.learn.taskManagement.render;
+
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+// Compact columnar encoding of task lists for service-to-service consumers. Layout, all integers as LEB128 varints:
+//   magic "TC", format version
+//   row count
+//   priority and status names, so ordinals stay meaningful if either enum grows
+//   string dictionary: every distinct title, description and tenant once, as UTF-8
+//   columns: id, title, description, priority, status, dueDate, createdAt, updatedAt, version, tenant
+// Version 1 payloads, which end before the tenant column, still decode.
+// String columns hold dictionary index + 1 and enum columns ordinal + 1, with 0 for null. Numeric columns are a
+// presence bitmap followed by zigzag deltas of the present values: ids, epoch days for dueDate and epoch micros (UTC
+// wall clock, like the journal) for the timestamps.
+public final class TaskColumnarCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.taskmanagement.columnar";
+
+    private static final byte[] MAGIC = {'T', 'C'};
+    private static final int FORMAT_VERSION = 2;
+
+    private TaskColumnarCodec() {
+    }
+
+    public static byte[] encode(List<TaskResponseDto> tasks) {
+        int count = tasks.size();
+        Sink out = new Sink(64 + count * 48);
+        out.bytes(MAGIC, 0, MAGIC.length);
+        out.varint(FORMAT_VERSION);
+        out.varint(count);
+        enumNames(out, Priority.values());
+        enumNames(out, TaskStatus.values());
+
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        int[] titles = new int[count];
+        int[] descriptions = new int[count];
+        int[] tenants = new int[count];
+        for (int i = 0; i < count; i++) {
+            TaskResponseDto task = tasks.get(i);
+            titles[i] = intern(task.getTitle(), dictionary, strings);
+            descriptions[i] = intern(task.getDescription(), dictionary, strings);
+            tenants[i] = intern(task.getTenantId(), dictionary, strings);
+        }
+        out.varint(strings.size());
+        for (String string : strings) {
+            byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+            out.varint(utf8.length);
+            out.bytes(utf8, 0, utf8.length);
+        }
+
+        longColumn(out, tasks, TaskResponseDto::getId);
+        for (int title : titles) {
+            out.varint(title);
+        }
+        for (int description : descriptions) {
+            out.varint(description);
+        }
+        for (TaskResponseDto task : tasks) {
+            out.varint(task.getPriority() == null ? 0 : task.getPriority().ordinal() + 1);
+        }
+        for (TaskResponseDto task : tasks) {
+            out.varint(task.getTaskStatus() == null ? 0 : task.getTaskStatus().ordinal() + 1);
+        }
+        longColumn(out, tasks, task -> task.getDueDate() == null ? null : task.getDueDate().toEpochDay());
+        longColumn(out, tasks, task -> micros(task.getCreatedAt()));
+        longColumn(out, tasks, task -> micros(task.getUpdatedAt()));
+        longColumn(out, tasks, TaskResponseDto::getVersion);
+        for (int tenant : tenants) {
+            out.varint(tenant);
+        }
+        return out.toByteArray();
+    }
+
+    public static List<TaskResponseDto> decode(byte[] data) {
+        Source in = new Source(data);
+        if (data.length < MAGIC.length || data[0] != MAGIC[0] || data[1] != MAGIC[1]) {
+            throw new IllegalArgumentException("Not a columnar task payload");
+        }
+        in.position = MAGIC.length;
+        int version = in.varint();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported columnar format version " + version);
+        }
+        int count = in.varint();
+        // Every row takes at least a byte in each string and enum column, so this rejects absurd counts before allocating
+        if (count > data.length) {
+            throw new IllegalArgumentException("Row count exceeds the columnar task payload");
+        }
+        Priority[] priorities = enumValues(in, Priority::fromValue, Priority[]::new);
+        TaskStatus[] statuses = enumValues(in, TaskStatus::fromValue, TaskStatus[]::new);
+        String[] strings = new String[in.varint()];
+        for (int i = 0; i < strings.length; i++) {
+            int length = in.varint();
+            strings[i] = new String(data, in.skip(length), length, StandardCharsets.UTF_8);
+        }
+
+        List<TaskResponseDto> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(new TaskResponseDto());
+        }
+        Long[] values = new Long[count];
+        readLongColumn(in, values);
+        for (int i = 0; i < count; i++) {
+            tasks.get(i).setId(values[i]);
+        }
+        for (TaskResponseDto task : tasks) {
+            task.setTitle(lookup(strings, in.varint()));
+        }
+        for (TaskResponseDto task : tasks) {
+            task.setDescription(lookup(strings, in.varint()));
+        }
+        for (TaskResponseDto task : tasks) {
+            task.setPriority(lookup(priorities, in.varint()));
+        }
+        for (TaskResponseDto task : tasks) {
+            task.setTaskStatus(lookup(statuses, in.varint()));
+        }
+        readLongColumn(in, values);
+        for (int i = 0; i < count; i++) {
+            tasks.get(i).setDueDate(values[i] == null ? null : LocalDate.ofEpochDay(values[i]));
+        }
+        readLongColumn(in, values);
+        for (int i = 0; i < count; i++) {
+            tasks.get(i).setCreatedAt(dateTime(values[i]));
+        }
+        readLongColumn(in, values);
+        for (int i = 0; i < count; i++) {
+            tasks.get(i).setUpdatedAt(dateTime(values[i]));
+        }
+        readLongColumn(in, values);
+        for (int i = 0; i < count; i++) {
+            tasks.get(i).setVersion(values[i]);
+        }
+        if (version >= 2) {
+            for (TaskResponseDto task : tasks) {
+                task.setTenantId(lookup(strings, in.varint()));
+            }
+        }
+        return tasks;
+    }
+
+    private static void enumNames(Sink out, Enum<?>[] constants) {
+        out.varint(constants.length);
+        for (Enum<?> constant : constants) {
+            byte[] name = constant.name().getBytes(StandardCharsets.US_ASCII);
+            out.varint(name.length);
+            out.bytes(name, 0, name.length);
+        }
+    }
+
+    // Constants this build does not know decode as null rather than failing the whole payload
+    private static <E> E[] enumValues(Source in, Function<String, E> fromValue, IntFunction<E[]> array) {
+        E[] values = array.apply(in.varint());
+        for (int i = 0; i < values.length; i++) {
+            int length = in.varint();
+            values[i] = fromValue.apply(new String(in.data, in.skip(length), length, StandardCharsets.US_ASCII));
+        }
+        return values;
+    }
+
+    private static int intern(String value, Map<String, Integer> dictionary, List<String> strings) {
+        if (value == null) {
+            return 0;
+        }
+        Integer index = dictionary.get(value);
+        if (index == null) {
+            strings.add(value);
+            index = strings.size();
+            dictionary.put(value, index);
+        }
+        return index;
+    }
+
+    private static <T> T lookup(T[] values, int reference) {
+        if (reference == 0) {
+            return null;
+        }
+        if (reference > values.length) {
+            throw new IllegalArgumentException("Reference " + reference + " outside a table of " + values.length);
+        }
+        return values[reference - 1];
+    }
+
+    private static void longColumn(Sink out, List<TaskResponseDto> tasks, Function<TaskResponseDto, Long> column) {
+        int count = tasks.size();
+        Long[] values = new Long[count];
+        byte[] present = new byte[(count + 7) >>> 3];
+        for (int i = 0; i < count; i++) {
+            values[i] = column.apply(tasks.get(i));
+            if (values[i] != null) {
+                present[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        out.bytes(present, 0, present.length);
+        long previous = 0;
+        for (Long value : values) {
+            if (value != null) {
+                out.zigzag(value - previous);
+                previous = value;
+            }
+        }
+    }
+
+    private static void readLongColumn(Source in, Long[] values) {
+        int bitmap = in.skip((values.length + 7) >>> 3);
+        long previous = 0;
+        for (int i = 0; i < values.length; i++) {
+            if ((in.data[bitmap + (i >>> 3)] & (1 << (i & 7))) != 0) {
+                previous += in.zigzag();
+                values[i] = previous;
+            } else {
+                values[i] = null;
+            }
+        }
+    }
+
+    private static Long micros(LocalDateTime value) {
+        if (value == null) {
+            return null;
+        }
+        return Math.addExact(Math.multiplyExact(value.toEpochSecond(ZoneOffset.UTC), 1_000_000L), value.getNano() / 1_000);
+    }
+
+    private static LocalDateTime dateTime(Long micros) {
+        if (micros == null) {
+            return null;
+        }
+        Instant instant = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static final class Sink {
+
+        private byte[] buffer;
+        private int size;
+
+        Sink(int capacity) {
+            buffer = new byte[capacity];
+        }
+
+        void varint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void zigzag(long value) {
+            varint((value << 1) ^ (value >> 63));
+        }
+
+        void bytes(byte[] source, int offset, int length) {
+            ensure(length);
+            System.arraycopy(source, offset, buffer, size, length);
+            size += length;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(size + extra, buffer.length * 2));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+
+    private static final class Source {
+
+        private final byte[] data;
+        private int position;
+
+        Source(byte[] data) {
+            this.data = data;
+        }
+
+        // Returns the start of the skipped range
+        int skip(int length) {
+            if (length < 0 || length > data.length - position) {
+                throw new IllegalArgumentException("Truncated columnar task payload");
+            }
+            int start = position;
+            position += length;
+            return start;
+        }
+
+        long varlong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = data[skip(1)];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in columnar task payload");
+        }
+
+        int varint() {
+            long value = varlong();
+            if (value < 0 || value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Count out of range in columnar task payload");
+            }
+            return (int) value;
+        }
+
+        long zigzag() {
+            long value = varlong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
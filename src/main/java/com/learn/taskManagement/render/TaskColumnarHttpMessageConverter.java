@@ -0,0 +1,98 @@
+package com.learn.taskManagement.render;
+
+import com.learn.taskManagement.dto.TaskResponseDto;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// Writes TaskResponseDto and collections of them with TaskColumnarCodec when the client asks for the columnar type;
+// a single task is a one-row payload. Registered after Jackson, so JSON stays the default for */* and no Accept.
+public class TaskColumnarHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(TaskColumnarCodec.MEDIA_TYPE_VALUE);
+
+    public TaskColumnarHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    // Coarse class check used to list producible types; the element type is checked by the Type overloads below
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TaskResponseDto.class == clazz || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return isTasks(type) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return isTasks(type != null ? type : clazz) && canWrite(mediaType);
+    }
+
+    // TaskResponseDto itself, or a List/Collection declared with it as the element type
+    private static boolean isTasks(Type type) {
+        ResolvableType resolved = ResolvableType.forType(type);
+        Class<?> raw = resolved.resolve();
+        if (raw == TaskResponseDto.class) {
+            return true;
+        }
+        return raw != null && Collection.class.isAssignableFrom(raw)
+                && resolved.asCollection().resolveGeneric(0) == TaskResponseDto.class;
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        List<TaskResponseDto> tasks;
+        if (body instanceof TaskResponseDto task) {
+            tasks = List.of(task);
+        } else if (body instanceof List<?> list) {
+            tasks = castList(list);
+        } else {
+            tasks = castList(new ArrayList<>((Collection<?>) body));
+        }
+        byte[] encoded = TaskColumnarCodec.encode(tasks);
+        outputMessage.getHeaders().setContentLength(encoded.length);
+        outputMessage.getBody().write(encoded);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<TaskResponseDto> castList(List<?> list) {
+        return (List<TaskResponseDto>) list;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        List<TaskResponseDto> tasks = decode(inputMessage);
+        if (ResolvableType.forType(type).resolve() != TaskResponseDto.class) {
+            return tasks;
+        }
+        if (tasks.size() != 1) {
+            throw new HttpMessageNotReadableException("Expected one task but the payload holds " + tasks.size(), inputMessage);
+        }
+        return tasks.get(0);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    private static List<TaskResponseDto> decode(HttpInputMessage inputMessage) throws IOException {
+        try {
+            return TaskColumnarCodec.decode(inputMessage.getBody().readAllBytes());
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+}
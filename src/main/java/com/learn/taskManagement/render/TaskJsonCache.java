@@ -0,0 +1,206 @@
+package com.learn.taskManagement.render;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.event.TaskEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+// Pre-encoded JSON for the by-priority and by-status lists. Each task is serialized once per version into a byte
+// fragment; a list is the fragments joined into one array that is served as-is until a committed write touches a
+// task on either side of it. Rebuilding a list re-queries it but only encodes the tasks that changed. Lists are
+// kept per tenant, for the most recently used max-tenants tenants; fragments are keyed by task id, which is unique
+// across tenants.
+@Component
+public class TaskJsonCache {
+
+    // Invalidations bump the generation, so a list loaded from before a write is never stored after it
+    private static final class Slot {
+        long generation;
+        JsonList list;
+        long builtAt;
+        CompletableFuture<JsonList> loading;
+        long loadingGeneration;
+    }
+
+    private record Fragment(Long version, byte[] json) {
+    }
+
+    private static final class Slots {
+        final Map<Priority, Slot> byPriority = new EnumMap<>(Priority.class);
+        final Map<TaskStatus, Slot> byStatus = new EnumMap<>(TaskStatus.class);
+
+        Slots() {
+            for (Priority priority : Priority.values()) {
+                byPriority.put(priority, new Slot());
+            }
+            for (TaskStatus status : TaskStatus.values()) {
+                byStatus.put(status, new Slot());
+            }
+        }
+    }
+
+    private final ObjectWriter writer;
+    private final Cache<Long, Fragment> fragments;
+    private final long maxAgeNanos;
+    private final Cache<String, Slots> tenants;
+
+    public TaskJsonCache(ObjectMapper objectMapper,
+                         @Value("${task.json-cache.max-fragments:100000}") long maxFragments,
+                         @Value("${task.json-cache.max-age:30s}") Duration maxAge,
+                         @Value("${task.json-cache.max-tenants:1000}") long maxTenants) {
+        // The MVC converter's mapper, so cached bytes match what Jackson would have written
+        this.writer = objectMapper.writerFor(TaskResponseDto.class);
+        this.fragments = Caffeine.newBuilder().maximumSize(maxFragments).build();
+        this.maxAgeNanos = maxAge.toNanos();
+        // An evicted tenant only loses its pre-encoded lists; the next read rebuilds them
+        this.tenants = Caffeine.newBuilder().maximumSize(maxTenants).build();
+    }
+
+    public JsonList tasksByPriority(String tenantId, Priority priority, Supplier<List<TaskResponseDto>> loader) {
+        return list(slots(tenantId).byPriority.get(priority), loader);
+    }
+
+    public JsonList tasksByStatus(String tenantId, TaskStatus status, Supplier<List<TaskResponseDto>> loader) {
+        return list(slots(tenantId).byStatus.get(status), loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        fragments.invalidate(event.taskId());
+        // A tenant with no cached lists has nothing to invalidate
+        Slots slots = tenants.getIfPresent(event.tenantId());
+        if (slots == null) {
+            return;
+        }
+        invalidate(slots, event.before());
+        invalidate(slots, event.after());
+    }
+
+    private Slots slots(String tenantId) {
+        return tenants.get(tenantId, t -> new Slots());
+    }
+
+    private static void invalidate(Slots slots, TaskResponseDto task) {
+        if (task == null) {
+            return;
+        }
+        if (task.getPriority() != null) {
+            invalidate(slots.byPriority.get(task.getPriority()));
+        }
+        if (task.getTaskStatus() != null) {
+            invalidate(slots.byStatus.get(task.getTaskStatus()));
+        }
+    }
+
+    private static void invalidate(Slot slot) {
+        synchronized (slot) {
+            slot.generation++;
+            slot.list = null;
+        }
+    }
+
+    // Concurrent misses share one load. max-age bounds how long a list read from a lagging replica can be served.
+    private JsonList list(Slot slot, Supplier<List<TaskResponseDto>> loader) {
+        CompletableFuture<JsonList> future;
+        long generation;
+        boolean owner = false;
+        synchronized (slot) {
+            if (slot.list != null && System.nanoTime() - slot.builtAt < maxAgeNanos) {
+                return slot.list;
+            }
+            if (slot.loading == null || slot.loadingGeneration != slot.generation) {
+                slot.loading = new CompletableFuture<>();
+                slot.loadingGeneration = slot.generation;
+                owner = true;
+            }
+            future = slot.loading;
+            generation = slot.loadingGeneration;
+        }
+        if (!owner) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        JsonList built;
+        try {
+            built = assemble(loader.get());
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            synchronized (slot) {
+                if (slot.loading == future) {
+                    slot.loading = null;
+                }
+            }
+            throw e;
+        }
+        future.complete(built);
+        synchronized (slot) {
+            if (slot.loading == future) {
+                slot.loading = null;
+            }
+            if (slot.generation == generation) {
+                slot.list = built;
+                slot.builtAt = System.nanoTime();
+            }
+        }
+        return built;
+    }
+
+    // One copy of each fragment into the response array; the array is then reused by every request
+    JsonList assemble(List<TaskResponseDto> tasks) {
+        byte[][] parts = new byte[tasks.size()][];
+        int length = 2 + Math.max(0, tasks.size() - 1);
+        long hash = 1;
+        for (int i = 0; i < parts.length; i++) {
+            TaskResponseDto task = tasks.get(i);
+            Fragment fragment = fragments.getIfPresent(task.getId());
+            if (fragment == null || !Objects.equals(fragment.version(), task.getVersion())) {
+                fragment = new Fragment(task.getVersion(), encode(task));
+                fragments.put(task.getId(), fragment);
+            }
+            parts[i] = fragment.json();
+            length += parts[i].length;
+            hash = 31 * hash + Objects.hashCode(task.getId());
+            hash = 31 * hash + Objects.hashCode(task.getVersion());
+        }
+        byte[] json = new byte[length];
+        int position = 0;
+        json[position++] = '[';
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                json[position++] = ',';
+            }
+            System.arraycopy(parts[i], 0, json, position, parts[i].length);
+            position += parts[i].length;
+        }
+        json[position] = ']';
+        return new JsonList(json, "\"" + Long.toHexString(hash) + "-" + tasks.size() + "\"");
+    }
+
+    private byte[] encode(TaskResponseDto task) {
+        try {
+            return writer.writeValueAsBytes(task);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode task " + task.getId(), e);
+        }
+    }
+}
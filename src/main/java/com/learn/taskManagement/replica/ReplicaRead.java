@@ -0,0 +1,15 @@
+package com.learn.taskManagement.replica;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks a read that may be served by a replica and so may lag the primary by the replication delay.
+// Lookups that must see the caller's own writes (by id, version checks, sync) are left unmarked.
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
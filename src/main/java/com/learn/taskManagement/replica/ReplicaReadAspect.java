@@ -0,0 +1,29 @@
+package com.learn.taskManagement.replica;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Opts @ReplicaRead calls into replica routing. Ordered outside the transaction interceptor so the flag is set
+// before a transaction fetches its connection; calls made inside a read-write transaction stay on the primary.
+@Aspect
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ReplicaReadAspect {
+
+    @Around("@annotation(com.learn.taskManagement.replica.ReplicaRead)")
+    public Object routeToReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return joinPoint.proceed();
+        }
+        boolean previous = ReplicaRoutingDataSource.enterReplicaRead();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingDataSource.exitReplicaRead(previous);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.learn.taskManagement.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Hands out primary connections, except inside @ReplicaRead calls, which get the next healthy replica in
+// round-robin order. A replica that fails to connect is skipped until the health check sees it valid again;
+// with none healthy, replica reads fall back to the primary.
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration validationTimeout) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+    }
+
+    // Returns the previous state for exitReplicaRead, so nested calls restore it
+    static boolean enterReplicaRead() {
+        boolean previous = REPLICA_READ.get() != null;
+        REPLICA_READ.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void exitReplicaRead(boolean previous) {
+        if (!previous) {
+            REPLICA_READ.remove();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (REPLICA_READ.get() == null) {
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = next.getAndIncrement();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, size));
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    // Explicit credentials belong to the primary's account
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    public boolean isHealthy(String name) {
+        return replicas.stream().anyMatch(replica -> replica.name.equals(name) && replica.healthy);
+    }
+
+    @Scheduled(initialDelayString = "${task.datasource.replica.health-check-interval:5s}",
+            fixedDelayString = "${task.datasource.replica.health-check-interval:5s}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean valid;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                valid = connection.isValid(validationTimeoutSeconds);
+            } catch (SQLException e) {
+                valid = false;
+            }
+            if (valid && !replica.healthy) {
+                log.info("Replica {} is back; routing reads to it again", replica.name);
+            } else if (!valid && replica.healthy) {
+                log.warn("Replica {} failed its health check; reads skip it", replica.name);
+            }
+            replica.healthy = valid;
+        }
+    }
+
+    private static void markDown(Replica replica, SQLException e) {
+        if (replica.healthy) {
+            log.warn("Replica {} refused a connection; reads skip it until the health check passes", replica.name, e);
+        }
+        replica.healthy = false;
+    }
+
+    // The primary is its own bean and is closed by the context
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
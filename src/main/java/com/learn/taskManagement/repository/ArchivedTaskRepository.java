@@ -0,0 +1,17 @@
+package com.learn.taskManagement.repository;
+
+import com.learn.taskManagement.entity.ArchivedTask;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+// Reads of the cold tier; rows only arrive through TaskRepository.copyToArchive
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    Optional<ArchivedTask> findByTenantIdAndId(String tenantId, Long id);
+
+    // Keyset page: next rows after the given id, in id order
+    List<ArchivedTask> findByTenantIdAndIdGreaterThanOrderByIdAsc(String tenantId, Long id, Limit limit);
+}
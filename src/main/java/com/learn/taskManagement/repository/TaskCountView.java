@@ -0,0 +1,15 @@
+package com.learn.taskManagement.repository;
+
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+
+// Row of the tenant x status x priority GROUP BY used to seed and reconcile the in-memory counters
+public interface TaskCountView {
+    String getTenantId();
+
+    TaskStatus getTaskStatus();
+
+    Priority getPriority();
+
+    long getCount();
+}
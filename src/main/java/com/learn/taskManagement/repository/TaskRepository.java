@@ -4,13 +4,121 @@ package com.learn.taskManagement.repository;
 import com.learn.taskManagement.entity.Task;
 import com.learn.taskManagement.enums.Priority;
 import com.learn.taskManagement.enums.TaskStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+// Every finder is tenant-scoped except where noted; the tenant is the leading column of each index they use
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
-    List<Task> findByPriority(Priority priority);
+    List<Task> findByTenantId(String tenantId);
 
-    List<Task> findByTaskStatus(TaskStatus status);
+    Optional<Task> findByTenantIdAndId(String tenantId, Long id);
+
+    List<Task> findByTenantIdAndIdIn(String tenantId, Collection<Long> ids);
+
+    List<Task> findByTenantIdAndPriority(String tenantId, Priority priority);
+
+    List<Task> findByTenantIdAndTaskStatus(String tenantId, TaskStatus status);
+
+    // Keyset page: next rows after the given id, in id order
+    List<Task> findByTenantIdAndIdGreaterThanOrderByIdAsc(String tenantId, Long id, Limit limit);
+
+    // Same across every tenant, for rebuilding read models
+    List<Task> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Forward-only cursor over one tenant's tasks, fetched in chunks (needs useCursorFetch on MySQL)
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Task t where t.tenantId = :tenantId order by t.id")
+    Stream<Task> streamAll(@Param("tenantId") String tenantId);
+
+    @Query("select t.version from Task t where t.tenantId = :tenantId and t.id = :id")
+    Optional<Long> findVersionById(@Param("tenantId") String tenantId, @Param("id") Long id);
+
+    // Across every tenant, for seeding and reconciling the per-tenant counters
+    @Query("select t.tenantId as tenantId, t.taskStatus as taskStatus, t.priority as priority, count(t) as count"
+            + " from Task t group by t.tenantId, t.taskStatus, t.priority")
+    List<TaskCountView> countByTenantStatusAndPriority();
+
+    // One UPDATE for all ids; bypasses the persistence context, so it is cleared afterwards
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.taskStatus = :status, t.updateAt = :now, t.version = t.version + 1"
+            + " where t.tenantId = :tenantId and t.id in :ids")
+    int updateStatus(@Param("tenantId") String tenantId,
+                     @Param("ids") Collection<Long> ids,
+                     @Param("status") TaskStatus status,
+                     @Param("now") LocalDateTime now);
+
+    // Tombstones every id in one UPDATE, mirroring the entity's @SQLDelete
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.deletedAt = :now, t.updateAt = :now, t.version = t.version + 1"
+            + " where t.tenantId = :tenantId and t.id in :ids")
+    int softDeleteAll(@Param("tenantId") String tenantId,
+                      @Param("ids") Collection<Long> ids,
+                      @Param("now") LocalDateTime now);
+
+    // Live rows and tombstones changed after (updatedAfter, afterId), in (updateAt, id) order; native so the
+    // entity's deleted_at restriction does not hide the tombstones
+    @Query(value = "select * from task t where t.tenant_id = :tenantId"
+            + " and (t.update_at > :updatedAfter or (t.update_at = :updatedAfter and t.id > :afterId))"
+            + " order by t.update_at, t.id limit :limit", nativeQuery = true)
+    List<Task> findChangedAfter(@Param("tenantId") String tenantId,
+                                @Param("updatedAfter") LocalDateTime updatedAfter,
+                                @Param("afterId") long afterId,
+                                @Param("limit") int limit);
+
+    // Tombstone compaction is the same for every tenant
+    @Query(value = "select t.id from task t where t.deleted_at < :cutoff order by t.deleted_at limit :limit", nativeQuery = true)
+    List<Long> findTombstoneIdsBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from task where id in :ids and deleted_at is not null", nativeQuery = true)
+    int purgeTombstones(@Param("ids") Collection<Long> ids);
+
+    // Archival is the same for every tenant: COMPLETED tasks untouched since the cutoff, oldest first
+    @Query(value = "select t.id from task t where t.task_status = 'COMPLETED' and t.deleted_at is null"
+            + " and t.update_at < :cutoff order by t.update_at limit :limit", nativeQuery = true)
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // Locks the ids that are still eligible; a task changed meanwhile is skipped, one changing now waits for the move
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id in :ids and t.taskStatus = :status and t.updateAt < :cutoff")
+    List<Task> lockArchivable(@Param("ids") Collection<Long> ids,
+                              @Param("status") TaskStatus status,
+                              @Param("cutoff") LocalDateTime cutoff);
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into task_archive (id, tenant_id, priority, task_status, title, due_date, description,"
+            + " created_at, update_at, version, archived_at)"
+            + " select id, tenant_id, priority, task_status, title, due_date, description, created_at, update_at,"
+            + " version, :now from task where id in :ids", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // A physical delete, not a tombstone: the task lives on in task_archive
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "delete from task where id in :ids", nativeQuery = true)
+    int deleteArchived(@Param("ids") Collection<Long> ids);
 }
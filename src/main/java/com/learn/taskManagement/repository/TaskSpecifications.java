@@ -0,0 +1,60 @@
+package com.learn.taskManagement.repository;
+
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// The tenant always leads and only non-null filters follow it, so the WHERE clause always matches an index prefix
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> filter(String tenantId, TaskStatus status, Priority priority,
+                                             LocalDate dueFrom, LocalDate dueTo) {
+        List<Specification<Task>> specs = new ArrayList<>(5);
+        specs.add(hasTenant(tenantId));
+        if (status != null) {
+            specs.add(hasStatus(status));
+        }
+        if (priority != null) {
+            specs.add(hasPriority(priority));
+        }
+        if (dueFrom != null) {
+            specs.add(dueOnOrAfter(dueFrom));
+        }
+        if (dueTo != null) {
+            specs.add(dueOnOrBefore(dueTo));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Task> hasTenant(String tenantId) {
+        return (root, query, cb) -> cb.equal(root.get("tenantId"), tenantId);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("taskStatus"), status);
+    }
+
+    public static Specification<Task> hasPriority(Priority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> idGreaterThan(long id) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+}
@@ -0,0 +1,69 @@
+package com.learn.taskManagement.search;
+
+import java.util.Arrays;
+
+// Task ids containing one term, kept sorted in primitive arrays alongside the term frequency per task
+final class PostingList {
+
+    private long[] ids = new long[4];
+    private int[] frequencies = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    long id(int index) {
+        return ids[index];
+    }
+
+    int frequency(int index) {
+        return frequencies[index];
+    }
+
+    // Index of id, or a negative value when absent (same contract as Arrays.binarySearch)
+    int indexOf(long id) {
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+
+    void put(long id, int frequency) {
+        // New tasks get increasing ids, so the common case is an append
+        if (size == 0 || ids[size - 1] < id) {
+            grow();
+            ids[size] = id;
+            frequencies[size] = frequency;
+            size++;
+            return;
+        }
+        int index = indexOf(id);
+        if (index >= 0) {
+            frequencies[index] = frequency;
+            return;
+        }
+        int insertAt = -index - 1;
+        grow();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        frequencies[insertAt] = frequency;
+        size++;
+    }
+
+    void remove(long id) {
+        int index = indexOf(id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+        size--;
+    }
+
+    private void grow() {
+        if (size == ids.length) {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            frequencies = Arrays.copyOf(frequencies, capacity);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.learn.taskManagement.search;
+
+public record SearchHit(long id, double score) {
+}
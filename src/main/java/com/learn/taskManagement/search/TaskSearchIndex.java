@@ -0,0 +1,276 @@
+package com.learn.taskManagement.search;
+
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.SearchMode;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.event.TaskEvent;
+import com.learn.taskManagement.store.TaskStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index over title + description, kept current from committed TaskEvents and ranked with BM25.
+// Each tenant has its own partition (postings, document stats and lock), so a search only walks the tenant's own
+// postings and its scores do not depend on other tenants' tasks.
+@Slf4j
+@Component
+public class TaskSearchIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Comparator<SearchHit> BY_SCORE = Comparator.comparingDouble(SearchHit::score)
+            .thenComparing(Comparator.comparingLong(SearchHit::id).reversed());
+
+    // Per-task data needed to unindex it and to apply filters without touching the database
+    private record Document(TaskStatus status, Priority priority, String[] terms, int length) {
+    }
+
+    private static final class Partition {
+        final Map<String, PostingList> postings = new HashMap<>();
+        final Map<Long, Document> documents = new HashMap<>();
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+        long totalLength;
+    }
+
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+    private final TaskStore taskStore;
+
+    public TaskSearchIndex(TaskStore taskStore) {
+        this.taskStore = taskStore;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // Keyset pages keep memory bounded and need no open transaction
+        long indexed = 0;
+        long lastId = 0;
+        List<Task> page;
+        do {
+            page = taskStore.findAfter(null, lastId, REBUILD_PAGE_SIZE);
+            for (Task task : page) {
+                index(task.getTenantId(), task.getId(), task.getTitle(), task.getDescription(), task.getTaskStatus(),
+                        task.getPriority());
+                lastId = task.getId();
+            }
+            indexed += page.size();
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        log.info("Built search index for {} tasks", indexed);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        TaskResponseDto after = event.after();
+        if (after == null) {
+            remove(event.tenantId(), event.taskId());
+        } else {
+            index(event.tenantId(), after.getId(), after.getTitle(), after.getDescription(), after.getTaskStatus(),
+                    after.getPriority());
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Partition partition : partitions.values()) {
+            partition.lock.readLock().lock();
+            try {
+                size += partition.documents.size();
+            } finally {
+                partition.lock.readLock().unlock();
+            }
+        }
+        return size;
+    }
+
+    // The tenant's best matches first; status and priority are optional filters
+    public List<SearchHit> search(String tenantId, String query, SearchMode mode, TaskStatus status, Priority priority,
+                                  int limit) {
+        Map<String, Integer> queryTerms = tokenize(query);
+        Partition partition = partitions.get(tenantId);
+        if (queryTerms.isEmpty() || limit <= 0 || partition == null) {
+            return List.of();
+        }
+        partition.lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms.keySet()) {
+                PostingList list = partition.postings.get(term);
+                if (list != null) {
+                    lists.add(list);
+                } else if (mode == SearchMode.AND) {
+                    return List.of();
+                }
+            }
+            if (lists.isEmpty()) {
+                return List.of();
+            }
+            PriorityQueue<SearchHit> top = new PriorityQueue<>(limit + 1, BY_SCORE);
+            if (mode == SearchMode.AND) {
+                searchAll(partition, lists, status, priority, limit, top);
+            } else {
+                searchAny(partition, lists, status, priority, limit, top);
+            }
+            List<SearchHit> hits = new ArrayList<>(top);
+            hits.sort(BY_SCORE.reversed());
+            return hits;
+        } finally {
+            partition.lock.readLock().unlock();
+        }
+    }
+
+    // Walks the rarest term's postings and probes the others, so cost follows the most selective term
+    private static void searchAll(Partition partition, List<PostingList> lists, TaskStatus status, Priority priority,
+                                  int limit, PriorityQueue<SearchHit> top) {
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        PostingList rarest = lists.get(0);
+        double averageLength = averageLength(partition);
+        candidates:
+        for (int i = 0; i < rarest.size(); i++) {
+            long id = rarest.id(i);
+            Document document = partition.documents.get(id);
+            if (!matches(document, status, priority)) {
+                continue;
+            }
+            double score = termScore(partition, rarest, rarest.frequency(i), document, averageLength);
+            for (int l = 1; l < lists.size(); l++) {
+                PostingList other = lists.get(l);
+                int index = other.indexOf(id);
+                if (index < 0) {
+                    continue candidates;
+                }
+                score += termScore(partition, other, other.frequency(index), document, averageLength);
+            }
+            offer(top, new SearchHit(id, score), limit);
+        }
+    }
+
+    private static void searchAny(Partition partition, List<PostingList> lists, TaskStatus status, Priority priority,
+                                  int limit, PriorityQueue<SearchHit> top) {
+        double averageLength = averageLength(partition);
+        Map<Long, Double> scores = new HashMap<>();
+        for (PostingList list : lists) {
+            for (int i = 0; i < list.size(); i++) {
+                long id = list.id(i);
+                Document document = partition.documents.get(id);
+                if (matches(document, status, priority)) {
+                    scores.merge(id, termScore(partition, list, list.frequency(i), document, averageLength), Double::sum);
+                }
+            }
+        }
+        scores.forEach((id, score) -> offer(top, new SearchHit(id, score), limit));
+    }
+
+    private static void offer(PriorityQueue<SearchHit> top, SearchHit hit, int limit) {
+        top.offer(hit);
+        if (top.size() > limit) {
+            top.poll();
+        }
+    }
+
+    private static boolean matches(Document document, TaskStatus status, Priority priority) {
+        return document != null
+                && (status == null || document.status() == status)
+                && (priority == null || document.priority() == priority);
+    }
+
+    private static double termScore(Partition partition, PostingList list, int frequency, Document document,
+                                    double averageLength) {
+        int total = partition.documents.size();
+        int containing = list.size();
+        double idf = Math.log(1 + (total - containing + 0.5) / (containing + 0.5));
+        double norm = K1 * (1 - B + B * document.length() / averageLength);
+        return idf * frequency * (K1 + 1) / (frequency + norm);
+    }
+
+    private static double averageLength(Partition partition) {
+        return partition.documents.isEmpty() ? 1 : Math.max(1, (double) partition.totalLength / partition.documents.size());
+    }
+
+    private void index(String tenantId, Long id, String title, String description, TaskStatus status, Priority priority) {
+        Map<String, Integer> frequencies = tokenize(title);
+        tokenize(description).forEach((term, count) -> frequencies.merge(term, count, Integer::sum));
+        int length = 0;
+        for (int count : frequencies.values()) {
+            length += count;
+        }
+        Document document = new Document(status, priority, frequencies.keySet().toArray(String[]::new), length);
+
+        Partition partition = partitions.computeIfAbsent(tenantId, t -> new Partition());
+        partition.lock.writeLock().lock();
+        try {
+            unindex(partition, id);
+            frequencies.forEach((term, count) -> partition.postings.computeIfAbsent(term, t -> new PostingList()).put(id, count));
+            partition.documents.put(id, document);
+            partition.totalLength += length;
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(String tenantId, Long id) {
+        Partition partition = partitions.get(tenantId);
+        if (partition == null) {
+            return;
+        }
+        partition.lock.writeLock().lock();
+        try {
+            unindex(partition, id);
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the partition's write lock
+    private static void unindex(Partition partition, Long id) {
+        Document previous = partition.documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        partition.totalLength -= previous.length();
+        for (String term : previous.terms()) {
+            PostingList list = partition.postings.get(term);
+            if (list != null) {
+                list.remove(id);
+                if (list.size() == 0) {
+                    partition.postings.remove(term);
+                }
+            }
+        }
+    }
+
+    // Lower-cased runs of letters and digits with their counts, in first-seen order
+    static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> terms = new LinkedHashMap<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.merge(text.substring(start, i).toLowerCase(Locale.ROOT), 1, Integer::sum);
+                start = -1;
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,33 @@
+package com.learn.taskManagement.service;
+
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Non-blocking counterpart of TaskService; collections are streamed page by page as the subscriber requests them
+public interface ReactiveTaskService {
+
+    // Create new task
+    Mono<TaskResponseDto> createTask(TaskRequestDto taskRequestDto);
+
+    // Get Single task by ID
+    Mono<TaskResponseDto> getTaskById(Long id);
+
+    // Update an existing task
+    Mono<TaskResponseDto> updateTask(Long id, TaskRequestDto taskRequestDto);
+
+    // Delete a task
+    Mono<Void> deleteTask(Long id);
+
+    // Stream all tasks in id order
+    Flux<TaskResponseDto> getAllTasks();
+
+    // Stream tasks filtered by Priority
+    Flux<TaskResponseDto> getTasksByPriority(Priority priority);
+
+    // Stream tasks filtered by status
+    Flux<TaskResponseDto> getTasksByStatus(TaskStatus status);
+}
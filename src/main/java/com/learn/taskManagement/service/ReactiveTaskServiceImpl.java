@@ -0,0 +1,113 @@
+package com.learn.taskManagement.service;
+
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+// JDBC stays blocking, so every call runs on the bounded-elastic pool and request threads are never held.
+// Writes delegate to TaskService to keep its caching, validation and events. The caller's tenant is captured when
+// the publisher is created and entered on the pool thread that does the work.
+@Service
+@Profile("reactive")
+public class ReactiveTaskServiceImpl implements ReactiveTaskService {
+
+    private final TaskService taskService;
+    private final Scheduler scheduler;
+    private final int pageSize;
+
+    @Autowired
+    public ReactiveTaskServiceImpl(TaskService taskService,
+                                   @Value("${task.reactive.page-size:500}") int pageSize) {
+        this(taskService, Schedulers.boundedElastic(), pageSize);
+    }
+
+    ReactiveTaskServiceImpl(TaskService taskService, Scheduler scheduler, int pageSize) {
+        this.taskService = taskService;
+        this.scheduler = scheduler;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public Mono<TaskResponseDto> createTask(TaskRequestDto taskRequestDto) {
+        return call(() -> taskService.createTask(taskRequestDto));
+    }
+
+    @Override
+    public Mono<TaskResponseDto> getTaskById(Long id) {
+        return call(() -> taskService.getTaskById(id));
+    }
+
+    @Override
+    public Mono<TaskResponseDto> updateTask(Long id, TaskRequestDto taskRequestDto) {
+        return call(() -> taskService.updateTask(id, taskRequestDto));
+    }
+
+    @Override
+    public Mono<Void> deleteTask(Long id) {
+        return call(() -> {
+            taskService.deleteTask(id);
+            return null;
+        });
+    }
+
+    @Override
+    public Flux<TaskResponseDto> getAllTasks() {
+        return pages(null, null);
+    }
+
+    @Override
+    public Flux<TaskResponseDto> getTasksByPriority(Priority priority) {
+        return pages(null, priority);
+    }
+
+    @Override
+    public Flux<TaskResponseDto> getTasksByStatus(TaskStatus status) {
+        return pages(status, null);
+    }
+
+    private <T> Mono<T> call(Callable<T> work) {
+        String tenantId = TenantContext.current();
+        return Mono.fromCallable(() -> {
+            try (TenantContext.Scope scope = TenantContext.enter(tenantId)) {
+                return work.call();
+            }
+        }).subscribeOn(scheduler);
+    }
+
+    // One keyset query per downstream request for more; at most one page is buffered ahead of the subscriber
+    private Flux<TaskResponseDto> pages(TaskStatus status, Priority priority) {
+        String tenantId = TenantContext.current();
+        return Flux.<List<TaskResponseDto>, Long>generate(() -> 0L, (lastId, sink) -> {
+                    if (lastId < 0) {
+                        sink.complete();
+                        return lastId;
+                    }
+                    List<TaskResponseDto> page;
+                    try (TenantContext.Scope scope = TenantContext.enter(tenantId)) {
+                        page = taskService.getTasksAfter(status, priority, lastId, pageSize);
+                    }
+                    if (page.isEmpty()) {
+                        sink.complete();
+                        return lastId;
+                    }
+                    sink.next(page);
+                    // A short page is the last one; skip the empty query that would confirm it
+                    return page.size() < pageSize ? -1L : page.get(page.size() - 1).getId();
+                })
+                .subscribeOn(scheduler)
+                .flatMapIterable(page -> page, 1);
+    }
+}
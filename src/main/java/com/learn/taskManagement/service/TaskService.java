@@ -1,11 +1,26 @@
 package com.learn.taskManagement.service;
 
+import com.learn.taskManagement.dto.TaskBatchResponseDto;
+import com.learn.taskManagement.dto.TaskBatchUpdateDto;
+import com.learn.taskManagement.dto.TaskPageResponseDto;
+import com.learn.taskManagement.dto.TaskPatchDto;
 import com.learn.taskManagement.dto.TaskRequestDto;
 import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.dto.TaskSearchHitDto;
+import com.learn.taskManagement.dto.TaskStatsDto;
+import com.learn.taskManagement.dto.TaskSyncResponseDto;
 import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.SearchMode;
 import com.learn.taskManagement.enums.TaskStatus;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TaskService {
     // create new task
@@ -14,21 +29,86 @@ public interface TaskService {
     // Get all tasks
     List<TaskResponseDto> getAllTasks();
 
+    // Get one page of tasks ordered by id, starting after the given cursor
+    TaskPageResponseDto getTasksPage(String cursor, int size);
+
+    // Push every task to the consumer without holding the whole table in memory
+    void streamAllTasks(Consumer<TaskResponseDto> consumer);
+
+    // Tasks changed and ids deleted after the watermark, one keyset page on (updateAt, id) at a time
+    TaskSyncResponseDto getChangesSince(LocalDateTime updatedAfter, String cursor, int size);
+
     // Get Single task by ID
     TaskResponseDto getTaskById(Long id);
 
+    // Current version of a task, enough to answer conditional requests
+    Long getTaskVersion(Long id);
+
     // Update an existing task
     TaskResponseDto updateTask(Long id, TaskRequestDto taskRequestDto);
 
+    // Update an existing task only if it is still at the expected version; null matches any version, but the task
+    // must exist (If-Match: *)
+    TaskResponseDto updateTask(Long id, TaskRequestDto taskRequestDto, Long expectedVersion);
+
+    // Change only the fields present in the patch
+    TaskResponseDto patchTask(Long id, TaskPatchDto taskPatchDto);
+
+    // Move many tasks to one status with a single UPDATE
+    TaskBatchResponseDto updateTaskStatuses(List<Long> ids, TaskStatus status);
+
+    // Acknowledge status changes from memory; they are coalesced per task and written by the next flush
+    TaskBatchResponseDto queueTaskStatuses(List<Long> ids, TaskStatus status);
+
     // Delete a task
     void deleteTask(Long id);
 
+    // Delete a task only if it is still at the expected version; null matches any version, but the task must exist
+    void deleteTask(Long id, Long expectedVersion);
+
     // Get tasks filtered by Priority
     List<TaskResponseDto> getTasksByPriority(Priority priority);
 
     // Get tasks filtered by status
     List<TaskResponseDto> getTasksByStatus(TaskStatus status);
 
+    // One keyset page (ids above afterId, ascending) of tasks matching the optional status and priority
+    List<TaskResponseDto> getTasksAfter(TaskStatus status, Priority priority, long afterId, int limit);
+
+    // Get tasks matching any combination of status, priority and due-date range, sorted and paged
+    Page<TaskResponseDto> filterTasks(TaskStatus status, Priority priority, LocalDate dueFrom, LocalDate dueTo, Pageable pageable);
+
+    // Full-text search over title and description, best matches first
+    List<TaskSearchHitDto> searchTasks(String query, SearchMode mode, TaskStatus status, Priority priority, int limit);
+
+    // Open tasks that are overdue or due within the given period, earliest due date first
+    List<TaskResponseDto> getTasksDueWithin(Period within, int limit);
+
+    // Get task counts by status and priority
+    TaskStatsDto getTaskStats();
+
+    // Create many tasks, validating each one and persisting in batched chunks
+    TaskBatchResponseDto createTasks(List<TaskRequestDto> taskRequestDtos);
+
+    // Insert tasks the caller has already validated in one transaction; returns their ids in input order
+    List<Long> importTasks(List<TaskRequestDto> taskRequestDtos);
+
+    // Update many tasks, reporting missing or invalid items individually
+    TaskBatchResponseDto updateTasks(List<TaskBatchUpdateDto> updates);
+
+    // Delete many tasks, reporting ids that do not exist
+    TaskBatchResponseDto deleteTasks(List<Long> ids);
+
+    // Get a task from the live tasks, or from the archive once it has been archived
+    TaskResponseDto getTaskIncludingArchived(Long id);
+
+    // One keyset page (ids above afterId, ascending) of archived tasks
+    List<TaskResponseDto> getArchivedTasks(long afterId, int limit);
+
+    // Move up to limit COMPLETED tasks not updated since completedBefore, of every tenant, to the archive;
+    // returns how many moved
+    int archiveCompletedTasks(LocalDateTime completedBefore, int limit);
+
 }
 
 
@@ -1,94 +1,814 @@
 package com.learn.taskManagement.service;
 
+import com.learn.taskManagement.config.CacheConfig;
+import com.learn.taskManagement.dto.TaskBatchItemResultDto;
+import com.learn.taskManagement.dto.TaskBatchResponseDto;
+import com.learn.taskManagement.dto.TaskBatchUpdateDto;
+import com.learn.taskManagement.dto.TaskPageResponseDto;
+import com.learn.taskManagement.dto.TaskPatchDto;
 import com.learn.taskManagement.dto.TaskRequestDto;
 import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.dto.TaskSearchHitDto;
+import com.learn.taskManagement.dto.TaskStatsDto;
+import com.learn.taskManagement.dto.TaskSyncResponseDto;
+import com.learn.taskManagement.due.DueTask;
+import com.learn.taskManagement.due.TaskDueIndex;
 import com.learn.taskManagement.entity.Task;
 import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.SearchMode;
 import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.event.TaskEvent;
+import com.learn.taskManagement.exception.InvalidCursorException;
+import com.learn.taskManagement.exception.PreconditionFailedException;
 import com.learn.taskManagement.exception.ResourceNotFoundException;
-import com.learn.taskManagement.repository.TaskRepository;
+import com.learn.taskManagement.exception.TenantQuotaExceededException;
+import com.learn.taskManagement.replica.ReplicaRead;
+import com.learn.taskManagement.search.SearchHit;
+import com.learn.taskManagement.search.TaskSearchIndex;
+import com.learn.taskManagement.stats.TaskCounters;
+import com.learn.taskManagement.store.TaskStore;
+import com.learn.taskManagement.tenant.TenantContext;
+import com.learn.taskManagement.writebehind.StatusWriteBuffer;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+// One timer per public method, tagged class and method
+@Timed(value = "task.service", description = "TaskService method latency")
 public class TaskServiceImpl implements TaskService {
 
-    private final TaskRepository taskRepository;
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+    static final LocalDateTime SYNC_EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+    private final TaskStore taskStore;
+    private final Validator validator;
+    private final CacheManager cacheManager;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskCounters taskCounters;
+    private final TaskSearchIndex searchIndex;
+    private final TaskDueIndex dueIndex;
+    private final StatusWriteBuffer statusBuffer;
+
+    @Value("${task.batch.chunk-size:500}")
+    private int batchChunkSize = 500;
+
+    // Deletions older than this are compacted away, so a sync from before it cannot be trusted
+    @Value("${task.tombstones.retention:30d}")
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    // updateAt is stamped before commit, so a sync re-reads this far behind its watermark to catch rows that
+    // committed after the previous sync with an earlier timestamp
+    @Value("${task.sync.overlap:5s}")
+    private Duration syncOverlap = Duration.ofSeconds(5);
+
+    // Live tasks one tenant may hold; 0 means no limit
+    @Value("${task.tenant.max-rows:0}")
+    private long maxRowsPerTenant;
 
     @Autowired
-    public TaskServiceImpl(TaskRepository taskRepository) {
-        this.taskRepository = taskRepository;
+    public TaskServiceImpl(TaskStore taskStore,
+                           Validator validator,
+                           CacheManager cacheManager,
+                           TransactionOperations transactionOperations,
+                           ApplicationEventPublisher eventPublisher,
+                           TaskCounters taskCounters,
+                           TaskSearchIndex searchIndex,
+                           TaskDueIndex dueIndex,
+                           StatusWriteBuffer statusBuffer) {
+        this.taskStore = taskStore;
+        this.validator = validator;
+        this.cacheManager = cacheManager;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.taskCounters = taskCounters;
+        this.searchIndex = searchIndex;
+        this.dueIndex = dueIndex;
+        this.statusBuffer = statusBuffer;
     }
 
     @Override
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = CacheConfig.CREATED_TASK_KEY, condition = "@cacheConfig.warmOnCreate")
     public TaskResponseDto createTask(TaskRequestDto taskRequestDto) {
+        checkQuota(TenantContext.current(), 1);
         Task task = mapToEntity(taskRequestDto);
-        Task saved = taskRepository.save(task);
-        return mapToDto(saved);
+        Task saved = taskStore.save(task);
+        TaskResponseDto created = mapToDto(saved);
+        eventPublisher.publishEvent(TaskEvent.created(created));
+        return created;
     }
 
     @Override
+    @ReplicaRead
     public List<TaskResponseDto> getAllTasks() {
-        return taskRepository
-                .findAll()
+        return taskStore
+                .findAll(TenantContext.current())
                 .stream()
                 .map(this::mapToDto)
                 .toList();
     }
 
     @Override
+    @ReplicaRead
+    public TaskPageResponseDto getTasksPage(String cursor, int size) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        long afterId = cursor == null || cursor.isBlank() ? 0L : decodeCursor(cursor);
+
+        // Fetch one extra row to know whether another page exists
+        List<Task> rows = taskStore.findAfter(TenantContext.current(), afterId, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<Task> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        return TaskPageResponseDto.builder()
+                .items(page.stream().map(this::mapToDto).toList())
+                .nextCursor(hasMore ? encodeCursor(page.get(page.size() - 1).getId()) : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @ReplicaRead
+    public void streamAllTasks(Consumer<TaskResponseDto> consumer) {
+        try (Stream<Task> tasks = taskStore.streamAll(TenantContext.current())) {
+            tasks.forEach(task -> consumer.accept(mapToDto(task)));
+        }
+    }
+
+    @Override
+    public TaskSyncResponseDto getChangesSince(LocalDateTime updatedAfter, String cursor, int size) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        boolean firstPage = cursor == null || cursor.isBlank();
+        SyncPosition from;
+        if (!firstPage) {
+            from = decodeSyncCursor(cursor);
+        } else if (updatedAfter == null) {
+            from = new SyncPosition(SYNC_EPOCH, Long.MAX_VALUE);
+        } else {
+            // Rows inside the overlap window come again; applying them twice is harmless
+            from = new SyncPosition(updatedAfter.minus(syncOverlap), 0);
+        }
+
+        // Tombstones are included, so deletes arrive in the same (updateAt, id) order as updates
+        List<Task> rows = taskStore.findChangedAfter(TenantContext.current(), from.updateAt(), from.id(), pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<Task> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<TaskResponseDto> updated = new ArrayList<>(page.size());
+        List<Long> deleted = new ArrayList<>();
+        for (Task task : page) {
+            if (task.getDeletedAt() != null) {
+                deleted.add(task.getId());
+            } else {
+                updated.add(mapToDto(task));
+            }
+        }
+        Task last = page.isEmpty() ? null : page.get(page.size() - 1);
+        LocalDateTime watermark = last == null ? from.updateAt() : last.getUpdateAt();
+        // Re-read rows never move the watermark back
+        if (firstPage && updatedAfter != null && watermark.isBefore(updatedAfter)) {
+            watermark = updatedAfter;
+        }
+        // Judged on the watermark the sync started from, once: later pages of a full sync walk old rows legitimately
+        boolean resyncRequired = firstPage && updatedAfter != null
+                && updatedAfter.isBefore(LocalDateTime.now().minus(tombstoneRetention));
+        return TaskSyncResponseDto.builder()
+                .updated(updated)
+                .deleted(deleted)
+                .nextCursor(hasMore ? encodeSyncCursor(last.getUpdateAt(), last.getId()) : null)
+                .watermark(watermark)
+                .resyncRequired(resyncRequired)
+                .build();
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.TASKS_CACHE, key = CacheConfig.TASK_KEY)
     public TaskResponseDto getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+        String tenantId = TenantContext.current();
+        Task task = taskStore.findById(tenantId, id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + id));
-        return mapToDto(task);
+        return withQueuedStatus(tenantId, mapToDto(task));
+    }
+
+    // Read-your-writes: a queued status shows up at the version its flush will write
+    private TaskResponseDto withQueuedStatus(String tenantId, TaskResponseDto dto) {
+        TaskStatus queued = statusBuffer.pending(tenantId, dto.getId());
+        if (queued != null) {
+            dto.setTaskStatus(queued);
+            dto.setVersion(dto.getVersion() + 1);
+        }
+        return dto;
     }
 
     @Override
-    public TaskResponseDto updateTask(Long id, TaskRequestDto taskRequestDto) {
-        Task task = taskRepository.findById(id)
+    public Long getTaskVersion(Long id) {
+        // A cached response already knows its version; otherwise read the single column
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        TaskResponseDto cached = cache == null ? null : cache.get(TenantContext.key(id), TaskResponseDto.class);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        String tenantId = TenantContext.current();
+        long version = taskStore.findVersionById(tenantId, id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + id));
+        return statusBuffer.pending(tenantId, id) == null ? version : version + 1;
+    }
+
+    @Override
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = CacheConfig.TASK_KEY)
+    public TaskResponseDto updateTask(Long id, TaskRequestDto taskRequestDto) {
+        return applyUpdate(id, taskRequestDto, null, false);
+    }
+
+    @Override
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = CacheConfig.TASK_KEY)
+    public TaskResponseDto updateTask(Long id, TaskRequestDto taskRequestDto, Long expectedVersion) {
+        return applyUpdate(id, taskRequestDto, expectedVersion, true);
+    }
+
+    // A conditional write (any If-Match, "*" included, which arrives as a null version) needs the task to exist
+    private TaskResponseDto applyUpdate(Long id, TaskRequestDto taskRequestDto, Long expectedVersion, boolean conditional) {
+        String tenantId = TenantContext.current();
+        // The full update carries its own status, so a queued one is superseded once this commits. Claimed before the
+        // read, so a flush already writing it finishes first and this update starts from the flushed row
+        statusBuffer.supersede(tenantId, id);
+        Task task = taskStore.findById(tenantId, id)
+                .orElseThrow(() -> conditional
+                        ? new PreconditionFailedException("Task not found with ID: " + id)
+                        : new ResourceNotFoundException("Task not found with ID: " + id));
+        checkVersion(task, expectedVersion);
+        TaskResponseDto before = mapToDto(task);
 
         task.setTitle(taskRequestDto.getTitle());
         task.setDescription(taskRequestDto.getDescription());
         task.setDueDate(taskRequestDto.getDueDate());
-        task.setPriority(Priority.valueOf(taskRequestDto.getPriority().toUpperCase()));
-        task.setTaskStatus(TaskStatus.valueOf(taskRequestDto.getTaskStatus().toUpperCase()));
+        task.setPriority(taskRequestDto.getPriority());
+        task.setTaskStatus(taskRequestDto.getTaskStatus());
+
+        Task updated = taskStore.save(task);
+        // Flush so the returned version (and ETag) reflects this write
+        taskStore.flush();
+        TaskResponseDto after = mapToDto(updated);
+        eventPublisher.publishEvent(TaskEvent.updated(before, after));
+        return after;
+    }
+
+    @Override
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = CacheConfig.TASK_KEY)
+    public TaskResponseDto patchTask(Long id, TaskPatchDto taskPatchDto) {
+        String tenantId = TenantContext.current();
+        // A queued status is folded into this write unless the patch sets its own
+        TaskStatus queued = statusBuffer.supersede(tenantId, id);
+        Task task = taskStore.findById(tenantId, id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + id));
+        TaskResponseDto before = mapToDto(task);
+
+        if (taskPatchDto.getTitle() != null) {
+            task.setTitle(taskPatchDto.getTitle());
+        }
+        if (taskPatchDto.getDescription() != null) {
+            task.setDescription(taskPatchDto.getDescription());
+        }
+        if (taskPatchDto.getDueDate() != null) {
+            task.setDueDate(taskPatchDto.getDueDate());
+        }
+        if (taskPatchDto.getPriority() != null) {
+            task.setPriority(taskPatchDto.getPriority());
+        }
+        if (taskPatchDto.getTaskStatus() != null) {
+            task.setTaskStatus(taskPatchDto.getTaskStatus());
+        } else if (queued != null) {
+            task.setTaskStatus(queued);
+        }
+
+        // Flush now so the response carries the new timestamp; @DynamicUpdate limits the SET clause to dirty columns
+        Task patched = taskStore.saveAndFlush(task);
+        TaskResponseDto after = mapToDto(patched);
+        eventPublisher.publishEvent(TaskEvent.updated(before, after));
+        return after;
+    }
+
+    @Override
+    @Transactional
+    public TaskBatchResponseDto updateTaskStatuses(List<Long> ids, TaskStatus status) {
+        String tenantId = TenantContext.current();
+        List<TaskBatchItemResultDto> results = new ArrayList<>(ids.size());
+        for (int start = 0; start < ids.size(); start += batchChunkSize) {
+            List<Long> chunk = ids.subList(start, Math.min(start + batchChunkSize, ids.size()));
+            // Previous state is read once so listeners (counters, caches) see the transition
+            Map<Long, Task> existing = taskStore.findAllById(tenantId, chunk).stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+            Map<Long, TaskResponseDto> before = existing.values().stream()
+                    .collect(Collectors.toMap(Task::getId, this::mapToDto));
 
-        Task updated = taskRepository.save(task);
-        return mapToDto(updated);
+            if (!existing.isEmpty()) {
+                LocalDateTime now = LocalDateTime.now();
+                taskStore.updateStatus(tenantId, existing.keySet(), status, now);
+                for (Task task : existing.values()) {
+                    task.setTaskStatus(status);
+                    task.setUpdateAt(now);
+                    task.setVersion(task.getVersion() + 1);
+                    eventPublisher.publishEvent(TaskEvent.updated(before.get(task.getId()), mapToDto(task)));
+                }
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                Long id = chunk.get(i);
+                results.add(existing.containsKey(id)
+                        ? success(start + i, id)
+                        : failure(start + i, id, List.of("Task not found with ID: " + id)));
+            }
+        }
+        evictAll(results);
+        return summarize(results);
     }
 
     @Override
+    public TaskBatchResponseDto queueTaskStatuses(List<Long> ids, TaskStatus status) {
+        String tenantId = TenantContext.current();
+        List<TaskBatchItemResultDto> results = new ArrayList<>(ids.size());
+        boolean full = false;
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            // Once the buffer refuses one id the rest fail fast instead of each waiting out the offer timeout
+            full = full || !statusBuffer.offer(tenantId, id, status);
+            results.add(full
+                    ? failure(i, id, List.of("Write-behind buffer is full, retry later"))
+                    : success(i, id));
+        }
+        // Cached copies predate the queued status; the next read overlays it
+        evictAll(results);
+        return summarize(results);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = CacheConfig.TASK_KEY)
     public void deleteTask(Long id) {
-        taskRepository.deleteById(id);
+        removeTask(id, null, false);
     }
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = CacheConfig.TASK_KEY)
+    public void deleteTask(Long id, Long expectedVersion) {
+        removeTask(id, expectedVersion, true);
+    }
+
+    // As in applyUpdate, a conditional delete of a missing task fails its precondition instead of succeeding
+    private void removeTask(Long id, Long expectedVersion, boolean conditional) {
+        String tenantId = TenantContext.current();
+        statusBuffer.supersede(tenantId, id);
+        // Loaded first so listeners see what was deleted; deleteById reuses the managed instance
+        Task task = taskStore.findById(tenantId, id).orElse(null);
+        if (task == null) {
+            if (conditional) {
+                throw new PreconditionFailedException("Task not found with ID: " + id);
+            }
+            return;
+        }
+        checkVersion(task, expectedVersion);
+        taskStore.deleteById(id);
+        eventPublisher.publishEvent(TaskEvent.deleted(mapToDto(task)));
+    }
+
+    // Clients see the version a queued status will produce, so that is the one they must match
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return;
+        }
+        long current = statusBuffer.pending(task.getTenantId(), task.getId()) == null ? task.getVersion() : task.getVersion() + 1;
+        if (expectedVersion != current) {
+            throw new PreconditionFailedException("Task " + task.getId() + " is at version " + current
+                    + ", not " + expectedVersion);
+        }
+    }
+
+    @Override
+    @ReplicaRead
     public List<TaskResponseDto> getTasksByPriority(Priority priority) {
-        return taskRepository.findByPriority(priority)
+        return taskStore.findByPriority(TenantContext.current(), priority)
                 .stream()
                 .map(this::mapToDto)
                 .toList();
     }
 
     @Override
+    @ReplicaRead
     public List<TaskResponseDto> getTasksByStatus(TaskStatus status) {
-        return taskRepository.findByTaskStatus(status)
+        return taskStore.findByTaskStatus(TenantContext.current(), status)
+                .stream()
+                .map(this::mapToDto)
+                .toList();
+    }
+
+    @Override
+    @ReplicaRead
+    public List<TaskResponseDto> getTasksAfter(TaskStatus status, Priority priority, long afterId, int limit) {
+        int pageSize = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        return taskStore.findAfter(TenantContext.current(), status, priority, afterId, pageSize)
+                .stream()
+                .map(this::mapToDto)
+                .toList();
+    }
+
+    @Override
+    @ReplicaRead
+    public Page<TaskResponseDto> filterTasks(TaskStatus status, Priority priority, LocalDate dueFrom, LocalDate dueTo, Pageable pageable) {
+        return taskStore.filter(TenantContext.current(), status, priority, dueFrom, dueTo, pageable)
+                .map(this::mapToDto);
+    }
+
+    @Override
+    @ReplicaRead
+    public List<TaskSearchHitDto> searchTasks(String query, SearchMode mode, TaskStatus status, Priority priority, int limit) {
+        int pageSize = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        String tenantId = TenantContext.current();
+        List<SearchHit> hits = searchIndex.search(tenantId, query, mode == null ? SearchMode.AND : mode, status, priority,
+                pageSize);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        // The index ranks ids; one findAllById loads the rows, then the ranking order is restored
+        Map<Long, Task> tasks = taskStore.findAllById(tenantId, hits.stream().map(SearchHit::id).toList()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<TaskSearchHitDto> results = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            Task task = tasks.get(hit.id());
+            if (task != null) {
+                results.add(new TaskSearchHitDto(hit.score(), mapToDto(task)));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    @ReplicaRead
+    public List<TaskResponseDto> getTasksDueWithin(Period within, int limit) {
+        int pageSize = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        String tenantId = TenantContext.current();
+        List<DueTask> due = dueIndex.dueWithin(tenantId, within, pageSize);
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Task> tasks = taskStore.findAllById(tenantId, due.stream().map(DueTask::id).toList()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<TaskResponseDto> results = new ArrayList<>(due.size());
+        for (DueTask dueTask : due) {
+            Task task = tasks.get(dueTask.id());
+            if (task != null) {
+                results.add(mapToDto(task));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public TaskStatsDto getTaskStats() {
+        return taskCounters.snapshot(TenantContext.current());
+    }
+
+    @Override
+    public TaskBatchResponseDto createTasks(List<TaskRequestDto> taskRequestDtos) {
+        String tenantId = TenantContext.current();
+        List<TaskBatchItemResultDto> results = new ArrayList<>(taskRequestDtos.size());
+        for (int start = 0; start < taskRequestDtos.size(); start += batchChunkSize) {
+            int end = Math.min(start + batchChunkSize, taskRequestDtos.size());
+            List<Task> toSave = new ArrayList<>(end - start);
+            List<TaskBatchItemResultDto> saved = new ArrayList<>(end - start);
+
+            for (int i = start; i < end; i++) {
+                TaskRequestDto dto = taskRequestDtos.get(i);
+                List<String> errors = validate(dto);
+                if (!errors.isEmpty()) {
+                    results.add(failure(i, null, errors));
+                    continue;
+                }
+                toSave.add(mapToEntity(dto));
+                TaskBatchItemResultDto result = success(i, null);
+                saved.add(result);
+                results.add(result);
+            }
+
+            // A chunk that would take the tenant past its quota is refused whole
+            if (!toSave.isEmpty() && !withinQuota(tenantId, toSave.size())) {
+                for (TaskBatchItemResultDto result : saved) {
+                    result.setSuccess(false);
+                    result.setErrors(List.of(quotaMessage(tenantId)));
+                }
+                continue;
+            }
+
+            // One transaction per chunk; the pooled id generator lets Hibernate batch the inserts
+            List<Task> persisted = taskStore.saveAll(toSave);
+            for (int i = 0; i < persisted.size(); i++) {
+                saved.get(i).setId(persisted.get(i).getId());
+                eventPublisher.publishEvent(TaskEvent.created(mapToDto(persisted.get(i))));
+            }
+        }
+        return summarize(results);
+    }
+
+    @Override
+    public List<Long> importTasks(List<TaskRequestDto> taskRequestDtos) {
+        checkQuota(TenantContext.current(), taskRequestDtos.size());
+        List<Task> toSave = new ArrayList<>(taskRequestDtos.size());
+        for (TaskRequestDto dto : taskRequestDtos) {
+            toSave.add(mapToEntity(dto));
+        }
+        List<Task> persisted = taskStore.saveAll(toSave);
+        List<Long> ids = new ArrayList<>(persisted.size());
+        for (Task task : persisted) {
+            ids.add(task.getId());
+            eventPublisher.publishEvent(TaskEvent.created(mapToDto(task)));
+        }
+        return ids;
+    }
+
+    @Override
+    public TaskBatchResponseDto updateTasks(List<TaskBatchUpdateDto> updates) {
+        List<TaskBatchItemResultDto> results = new ArrayList<>(updates.size());
+        for (int start = 0; start < updates.size(); start += batchChunkSize) {
+            List<TaskBatchUpdateDto> chunk = updates.subList(start, Math.min(start + batchChunkSize, updates.size()));
+            int offset = start;
+            List<TaskBatchItemResultDto> chunkResults = transactionOperations.execute(status -> updateChunk(chunk, offset));
+            results.addAll(chunkResults);
+        }
+        evictAll(results);
+        return summarize(results);
+    }
+
+    @Override
+    public TaskBatchResponseDto deleteTasks(List<Long> ids) {
+        String tenantId = TenantContext.current();
+        List<TaskBatchItemResultDto> results = new ArrayList<>(ids.size());
+        for (int start = 0; start < ids.size(); start += batchChunkSize) {
+            List<Long> chunk = ids.subList(start, Math.min(start + batchChunkSize, ids.size()));
+            int offset = start;
+            results.addAll(transactionOperations.execute(status -> deleteChunk(tenantId, chunk, offset)));
+        }
+        evictAll(results);
+        return summarize(results);
+    }
+
+    private List<TaskBatchItemResultDto> deleteChunk(String tenantId, List<Long> chunk, int offset) {
+        // As in removeTask: queued statuses are dropped with the rows instead of being flushed onto tombstones
+        chunk.forEach(id -> statusBuffer.supersede(tenantId, id));
+        Map<Long, Task> existing = taskStore.findAllById(tenantId, chunk).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        if (!existing.isEmpty()) {
+            // Single UPDATE ... WHERE id IN (...) per chunk, leaving tombstones for incremental sync
+            taskStore.softDeleteAll(tenantId, existing.keySet(), LocalDateTime.now());
+            existing.values().forEach(task -> eventPublisher.publishEvent(TaskEvent.deleted(mapToDto(task))));
+        }
+        List<TaskBatchItemResultDto> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Long id = chunk.get(i);
+            results.add(existing.containsKey(id)
+                    ? success(offset + i, id)
+                    : failure(offset + i, id, List.of("Task not found with ID: " + id)));
+        }
+        return results;
+    }
+
+    @Override
+    public TaskResponseDto getTaskIncludingArchived(Long id) {
+        String tenantId = TenantContext.current();
+        Optional<Task> live = taskStore.findById(tenantId, id);
+        if (live.isPresent()) {
+            return withQueuedStatus(tenantId, mapToDto(live.get()));
+        }
+        return taskStore.findArchivedById(tenantId, id)
+                .map(this::mapToDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + id));
+    }
+
+    @Override
+    @ReplicaRead
+    public List<TaskResponseDto> getArchivedTasks(long afterId, int limit) {
+        int pageSize = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        return taskStore.findArchivedAfter(TenantContext.current(), afterId, pageSize)
                 .stream()
                 .map(this::mapToDto)
                 .toList();
     }
 
+    // One transaction per batch: the rows stay locked from the copy to the delete, and the events that drop them
+    // from the read models fire once the move has committed
+    @Override
+    @Transactional
+    public int archiveCompletedTasks(LocalDateTime completedBefore, int limit) {
+        // A queued status is not in the row yet: archiving would drop it, and it may move the task out of COMPLETED.
+        // Those ids wait for a later run, after the flush
+        Set<Long> queued = statusBuffer.queuedIds();
+        List<Long> ids = taskStore.findArchivableIds(completedBefore, limit).stream()
+                .filter(id -> !queued.contains(id))
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Task> moved = taskStore.archive(ids, completedBefore, LocalDateTime.now());
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        for (Task task : moved) {
+            if (cache != null) {
+                cache.evict(TenantContext.key(task.getTenantId(), task.getId()));
+            }
+            eventPublisher.publishEvent(TaskEvent.archived(mapToDto(task)));
+        }
+        return moved.size();
+    }
+
+    // Runs inside one transaction so the loaded JPA entities stay managed and are flushed as a JDBC batch
+    private List<TaskBatchItemResultDto> updateChunk(List<TaskBatchUpdateDto> chunk, int offset) {
+        String tenantId = TenantContext.current();
+        // Validated before the read so only ids that will be written supersede their queued status, as in applyUpdate
+        List<List<String>> errors = new ArrayList<>(chunk.size());
+        for (TaskBatchUpdateDto update : chunk) {
+            List<String> itemErrors = update.getTask() == null
+                    ? List.of("Task body is required")
+                    : validate(update.getTask());
+            errors.add(itemErrors);
+            if (update.getId() != null && itemErrors.isEmpty()) {
+                statusBuffer.supersede(tenantId, update.getId());
+            }
+        }
+        List<Long> ids = chunk.stream().map(TaskBatchUpdateDto::getId).filter(Objects::nonNull).toList();
+        Map<Long, Task> tasks = taskStore.findAllById(tenantId, ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskBatchItemResultDto> results = new ArrayList<>(chunk.size());
+        Map<Long, TaskResponseDto> previous = new LinkedHashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            TaskBatchUpdateDto update = chunk.get(i);
+            Task task = update.getId() == null ? null : tasks.get(update.getId());
+            if (task == null) {
+                results.add(failure(offset + i, update.getId(), List.of("Task not found with ID: " + update.getId())));
+                continue;
+            }
+            if (!errors.get(i).isEmpty()) {
+                results.add(failure(offset + i, update.getId(), errors.get(i)));
+                continue;
+            }
+            TaskRequestDto changes = update.getTask();
+            TaskResponseDto before = mapToDto(task);
+            task.setTitle(changes.getTitle());
+            task.setDescription(changes.getDescription());
+            task.setDueDate(changes.getDueDate());
+            task.setPriority(changes.getPriority());
+            task.setTaskStatus(changes.getTaskStatus());
+            previous.put(task.getId(), before);
+            results.add(success(offset + i, task.getId()));
+        }
+        // One JDBC batch for the chunk (saveAll is a no-op merge for the managed JPA entities, and the write itself
+        // for the in-memory engine); afterwards versions and timestamps are current for the events
+        Map<Long, Task> saved = taskStore.saveAll(previous.keySet().stream().map(tasks::get).toList()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        taskStore.flush();
+        previous.forEach((id, before) -> eventPublisher.publishEvent(TaskEvent.updated(before, mapToDto(saved.get(id)))));
+        return results;
+    }
+
+    private List<String> validate(TaskRequestDto dto) {
+        Set<ConstraintViolation<TaskRequestDto>> violations = validator.validate(dto);
+        List<String> errors = new ArrayList<>(violations.size());
+        for (ConstraintViolation<TaskRequestDto> violation : violations) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return errors;
+    }
+
+    private void evictAll(List<TaskBatchItemResultDto> results) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (cache == null) {
+            return;
+        }
+        for (TaskBatchItemResultDto result : results) {
+            if (result.isSuccess()) {
+                cache.evict(TenantContext.key(result.getId()));
+            }
+        }
+    }
+
+    // Checked against the tenant's counters, which trail in-flight writes, so concurrent creates can overshoot
+    // the quota by what they add together. Drift the counters pick up (writes outside the service) is only
+    // corrected once two reconcile passes agree, so it can move the limit either way for up to two intervals
+    private boolean withinQuota(String tenantId, int adding) {
+        return maxRowsPerTenant <= 0 || taskCounters.total(tenantId) + adding <= maxRowsPerTenant;
+    }
+
+    private void checkQuota(String tenantId, int adding) {
+        if (!withinQuota(tenantId, adding)) {
+            throw new TenantQuotaExceededException(quotaMessage(tenantId));
+        }
+    }
+
+    private String quotaMessage(String tenantId) {
+        return "Tenant " + tenantId + " is limited to " + maxRowsPerTenant + " tasks";
+    }
+
+    private static TaskBatchItemResultDto success(int index, Long id) {
+        return TaskBatchItemResultDto.builder().index(index).id(id).success(true).errors(List.of()).build();
+    }
+
+    private static TaskBatchItemResultDto failure(int index, Long id, List<String> errors) {
+        return TaskBatchItemResultDto.builder().index(index).id(id).success(false).errors(errors).build();
+    }
+
+    private static TaskBatchResponseDto summarize(List<TaskBatchItemResultDto> results) {
+        int succeeded = (int) results.stream().filter(TaskBatchItemResultDto::isSuccess).count();
+        return TaskBatchResponseDto.builder()
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    // Cursor is the last seen id, base64url encoded so clients treat it as opaque
+    static String encodeCursor(long lastId) {
+        byte[] bytes = ByteBuffer.allocate(Long.BYTES).putLong(lastId).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static long decodeCursor(String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != Long.BYTES) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor);
+            }
+            return ByteBuffer.wrap(bytes).getLong();
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+
+    // Sync cursor is the last seen (updateAt in epoch micros, id), opaque to clients like the page cursor
+    static String encodeSyncCursor(LocalDateTime updateAt, long id) {
+        long micros = ChronoUnit.MICROS.between(SYNC_EPOCH, updateAt);
+        byte[] bytes = ByteBuffer.allocate(2 * Long.BYTES).putLong(micros).putLong(id).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static SyncPosition decodeSyncCursor(String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != 2 * Long.BYTES) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new SyncPosition(SYNC_EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS), buffer.getLong());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+
+    record SyncPosition(LocalDateTime updateAt, long id) {
+    }
+
     // Helper Function to map from DTO to entity
     public Task mapToEntity(TaskRequestDto dto) {
         return Task.builder()
+                .tenantId(TenantContext.current())
                 .title(dto.getTitle())
                 .description(dto.getDescription())
                 .dueDate(dto.getDueDate())
-                .priority(Priority.valueOf(dto.getPriority().toUpperCase()))
-                .taskStatus(TaskStatus.valueOf(dto.getTaskStatus().toUpperCase()))
+                .priority(dto.getPriority())
+                .taskStatus(dto.getTaskStatus())
                 .build();
     }
 
@@ -96,6 +816,7 @@ public class TaskServiceImpl implements TaskService {
     public TaskResponseDto mapToDto(Task task) {
         return TaskResponseDto.builder()
                 .id(task.getId())
+                .tenantId(task.getTenantId())
                 .title(task.getTitle())
                 .description(task.getDescription())
                 .dueDate(task.getDueDate())
@@ -103,6 +824,7 @@ public class TaskServiceImpl implements TaskService {
                 .taskStatus(task.getTaskStatus())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdateAt())
+                .version(task.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,199 @@
+package com.learn.taskManagement.stats;
+
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.dto.TaskStatsDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.event.TaskEvent;
+import com.learn.taskManagement.repository.TaskCountView;
+import com.learn.taskManagement.store.TaskStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-tenant status x priority task counts kept in memory and updated from committed TaskEvents; they also back
+// the per-tenant row quota
+@Slf4j
+@Component
+public class TaskCounters {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final Map<String, LongAdder[][]> counts = new ConcurrentHashMap<>();
+    private final TaskStore taskStore;
+    // Differences the last reconcile saw but did not apply; only touched under the reconcile lock
+    private Map<String, long[][]> unconfirmed = new HashMap<>();
+
+    public TaskCounters(TaskStore taskStore) {
+        this.taskStore = taskStore;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        long seeded = reconcile(true);
+        log.info("Seeded task counters with {} tasks", seeded);
+    }
+
+    // Catches anything the incremental path missed (writes outside the service, failed listeners)
+    @Scheduled(initialDelayString = "${task.stats.reconcile-interval:5m}", fixedDelayString = "${task.stats.reconcile-interval:5m}")
+    public void scheduledReconcile() {
+        long drift = reconcile();
+        if (drift != 0) {
+            log.warn("Task counters drifted by {} and were reconciled", drift);
+        }
+    }
+
+    // Corrects every cell that differed from the GROUP BY result on this pass and the one before, in the same
+    // direction, by the smaller of the two differences; returns the total absolute correction.
+    // The GROUP BY sees commits whose AFTER_COMMIT listener has not run yet, and misses ones whose listener already
+    // has, so a single pass cannot tell drift from a write in flight. Those show up on one pass only; real drift
+    // persists. A correction that still lands on a race is itself drift, undone by the next two passes. The quota
+    // therefore tolerates a count that is off by real drift for up to two reconcile intervals.
+    public synchronized long reconcile() {
+        return reconcile(false);
+    }
+
+    // Seeding applies the whole difference at once: the counters start empty, so nearly all of it is real
+    private synchronized long reconcile(boolean immediate) {
+        Map<String, long[][]> actual = new HashMap<>();
+        for (TaskCountView row : taskStore.countByTenantStatusAndPriority()) {
+            actual.computeIfAbsent(row.getTenantId(), t -> new long[STATUSES.length][PRIORITIES.length])
+                    [row.getTaskStatus().ordinal()][row.getPriority().ordinal()] = row.getCount();
+        }
+        // Tenants missing from the result have no tasks left
+        Set<String> tenants = new HashSet<>(counts.keySet());
+        tenants.addAll(actual.keySet());
+        Map<String, long[][]> observed = new HashMap<>();
+        long drift = 0;
+        for (String tenantId : tenants) {
+            long[][] expected = actual.getOrDefault(tenantId, new long[STATUSES.length][PRIORITIES.length]);
+            long[][] previous = unconfirmed.get(tenantId);
+            LongAdder[][] cells = cells(tenantId);
+            for (int s = 0; s < STATUSES.length; s++) {
+                for (int p = 0; p < PRIORITIES.length; p++) {
+                    long delta = expected[s][p] - cells[s][p].sum();
+                    if (delta == 0) {
+                        continue;
+                    }
+                    long correction = immediate ? delta : confirmed(previous == null ? 0 : previous[s][p], delta);
+                    if (correction != 0) {
+                        cells[s][p].add(correction);
+                        drift += Math.abs(correction);
+                    }
+                    if (delta != correction) {
+                        observed.computeIfAbsent(tenantId, t -> new long[STATUSES.length][PRIORITIES.length])
+                                [s][p] = delta - correction;
+                    }
+                }
+            }
+        }
+        unconfirmed = observed;
+        return drift;
+    }
+
+    private static long confirmed(long previous, long current) {
+        if (previous > 0 && current > 0) {
+            return Math.min(previous, current);
+        }
+        if (previous < 0 && current < 0) {
+            return Math.max(previous, current);
+        }
+        return 0;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        TaskResponseDto before = event.before();
+        TaskResponseDto after = event.after();
+        if (before != null && after != null
+                && before.getTaskStatus() == after.getTaskStatus()
+                && before.getPriority() == after.getPriority()) {
+            return;
+        }
+        LongAdder[][] cells = cells(event.tenantId());
+        if (before != null) {
+            cells[before.getTaskStatus().ordinal()][before.getPriority().ordinal()].decrement();
+        }
+        if (after != null) {
+            cells[after.getTaskStatus().ordinal()][after.getPriority().ordinal()].increment();
+        }
+    }
+
+    public long count(String tenantId, TaskStatus status, Priority priority) {
+        LongAdder[][] cells = counts.get(tenantId);
+        return cells == null ? 0 : cells[status.ordinal()][priority.ordinal()].sum();
+    }
+
+    // Live tasks the tenant holds
+    public long total(String tenantId) {
+        LongAdder[][] cells = counts.get(tenantId);
+        if (cells == null) {
+            return 0;
+        }
+        long total = 0;
+        for (LongAdder[] row : cells) {
+            for (LongAdder cell : row) {
+                total += cell.sum();
+            }
+        }
+        return total;
+    }
+
+    // Live tasks across every tenant
+    public long total() {
+        long total = 0;
+        for (String tenantId : counts.keySet()) {
+            total += total(tenantId);
+        }
+        return total;
+    }
+
+    public TaskStatsDto snapshot(String tenantId) {
+        Map<TaskStatus, Map<Priority, Long>> matrix = new EnumMap<>(TaskStatus.class);
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        long total = 0;
+        for (TaskStatus status : STATUSES) {
+            Map<Priority, Long> row = new EnumMap<>(Priority.class);
+            long statusTotal = 0;
+            for (Priority priority : PRIORITIES) {
+                long value = count(tenantId, status, priority);
+                row.put(priority, value);
+                byPriority.merge(priority, value, Long::sum);
+                statusTotal += value;
+            }
+            matrix.put(status, row);
+            byStatus.put(status, statusTotal);
+            total += statusTotal;
+        }
+        return TaskStatsDto.builder()
+                .total(total)
+                .byStatus(byStatus)
+                .byPriority(byPriority)
+                .byStatusAndPriority(matrix)
+                .build();
+    }
+
+    private LongAdder[][] cells(String tenantId) {
+        return counts.computeIfAbsent(tenantId, t -> {
+            LongAdder[][] cells = new LongAdder[STATUSES.length][PRIORITIES.length];
+            for (LongAdder[] row : cells) {
+                Arrays.setAll(row, p -> new LongAdder());
+            }
+            return cells;
+        });
+    }
+}
@@ -0,0 +1,795 @@
+package com.learn.taskManagement.store;
+
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.repository.TaskCountView;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Ephemeral engine for the "memory" profile. Rows live in an array addressed by their long id (ids come from this
+// store's own sequence, so the table is dense); tenant, status and priority indexes are bitsets over the same ids,
+// due date and deletedAt are sorted maps to bitsets, and updateAt is one such map per tenant. Every tenant-scoped
+// read starts from the tenant's own bitset. Callers only ever see copies, so nothing changes
+// without save. Each call is atomic under one read/write lock: the bitset indexes span every id, so stripes
+// would all have to be taken for any filter anyway. Rollbacks do not undo writes already made. When TaskJournal is
+// attached, every row image is appended to it before being applied, and acknowledged once it is durable.
+// Archived tasks leave the array and every index above for a per-tenant map that only archive reads consult.
+@Component
+@Profile("memory")
+public class InMemoryTaskStore implements TaskStore {
+
+    private static final Map<String, Comparator<Task>> SORTABLE = Map.of(
+            "id", nullsFirst(Task::getId),
+            "title", nullsFirst(Task::getTitle),
+            "description", nullsFirst(Task::getDescription),
+            // Enums are stored as strings, so the database orders them by name
+            "priority", nullsFirst(task -> task.getPriority() == null ? null : task.getPriority().name()),
+            "taskStatus", nullsFirst(task -> task.getTaskStatus() == null ? null : task.getTaskStatus().name()),
+            "dueDate", nullsFirst(Task::getDueDate),
+            "createdAt", nullsFirst(Task::getCreatedAt),
+            "updateAt", nullsFirst(Task::getUpdateAt),
+            "version", nullsFirst(Task::getVersion));
+
+    private static final BitSet EMPTY = new BitSet();
+
+    private final Clock clock;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // rows[id] holds the task or its tombstone; null once purged or never assigned
+    private Task[] rows = new Task[1024];
+    private long nextId = 1;
+    private final BitSet live = new BitSet();
+    private final Map<String, BitSet> byTenant = new HashMap<>();
+    private final Map<TaskStatus, BitSet> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<Priority, BitSet> byPriority = new EnumMap<>(Priority.class);
+    private final NavigableMap<LocalDate, BitSet> byDueDate = new TreeMap<>();
+    // Tombstones included, so sync sees deletes
+    private final Map<String, NavigableMap<LocalDateTime, BitSet>> byUpdateAt = new HashMap<>();
+    private final NavigableMap<LocalDateTime, BitSet> byDeletedAt = new TreeMap<>();
+    private final Map<String, NavigableMap<Long, Task>> archived = new HashMap<>();
+    private long archivedCount;
+    private volatile TaskWriteLog writeLog = TaskWriteLog.NONE;
+    // Log position of the last appended row image; guarded by the write lock
+    private long logged;
+
+    public InMemoryTaskStore(Clock clock) {
+        this.clock = clock;
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, new BitSet());
+        }
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, new BitSet());
+        }
+    }
+
+    @Override
+    public Task save(Task task) {
+        Task saved;
+        long position;
+        lock.writeLock().lock();
+        try {
+            saved = copy(write(task, now()));
+            position = logged;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        writeLog.awaitDurable(position);
+        return saved;
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<Task> saved = new ArrayList<>(tasks.size());
+        long position;
+        lock.writeLock().lock();
+        try {
+            LocalDateTime now = now();
+            for (Task task : tasks) {
+                saved.add(copy(write(task, now)));
+            }
+            position = logged;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        writeLog.awaitDurable(position);
+        return saved;
+    }
+
+    @Override
+    public Task saveAndFlush(Task task) {
+        return save(task);
+    }
+
+    @Override
+    public void flush() {
+        // Writes are applied as they are made
+    }
+
+    @Override
+    public Optional<Task> findById(String tenantId, Long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(liveRow(tenantId, id)).map(InMemoryTaskStore::copy);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Task> findAllById(String tenantId, Collection<Long> ids) {
+        List<Task> found = new ArrayList<>(ids.size());
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                Task task = liveRow(tenantId, id);
+                if (task != null) {
+                    found.add(copy(task));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<Long> findVersionById(String tenantId, Long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(liveRow(tenantId, id)).map(Task::getVersion);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Task> findAll(String tenantId) {
+        return findAfter(tenantId, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Stream<Task> streamAll(String tenantId) {
+        // A snapshot: the lock is not held while the caller consumes the stream
+        return findAll(tenantId).stream();
+    }
+
+    @Override
+    public List<Task> findByPriority(String tenantId, Priority priority) {
+        return findAfter(tenantId, null, priority, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Task> findByTaskStatus(String tenantId, TaskStatus status) {
+        return findAfter(tenantId, status, null, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Task> findAfter(String tenantId, long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            return collect(tenantId == null ? live : tenant(tenantId), afterId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Task> findAfter(String tenantId, TaskStatus status, Priority priority, long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            return collect(matching(tenantId, status, priority, null, null), afterId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Page<Task> filter(String tenantId, TaskStatus status, Priority priority, LocalDate dueFrom, LocalDate dueTo,
+                             Pageable pageable) {
+        Comparator<Task> order = comparator(pageable.getSort());
+        List<Task> matches;
+        lock.readLock().lock();
+        try {
+            matches = collect(matching(tenantId, status, priority, dueFrom, dueTo), 0, Integer.MAX_VALUE);
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(order);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matches, pageable, matches.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(new ArrayList<>(matches.subList(from, to)), pageable, matches.size());
+    }
+
+    @Override
+    public List<TaskCountView> countByTenantStatusAndPriority() {
+        List<TaskCountView> rows = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, BitSet> tenant : byTenant.entrySet()) {
+                for (TaskStatus status : TaskStatus.values()) {
+                    BitSet withStatus = (BitSet) tenant.getValue().clone();
+                    withStatus.and(byStatus.get(status));
+                    for (Priority priority : Priority.values()) {
+                        BitSet all = (BitSet) withStatus.clone();
+                        all.and(byPriority.get(priority));
+                        // Like GROUP BY, empty combinations produce no row
+                        if (!all.isEmpty()) {
+                            rows.add(new CountRow(tenant.getKey(), status, priority, all.cardinality()));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return rows;
+    }
+
+    @Override
+    public int updateStatus(String tenantId, Collection<Long> ids, TaskStatus status, LocalDateTime now) {
+        int updated = 0;
+        long position;
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                Task current = liveRow(tenantId, id);
+                if (current == null) {
+                    continue;
+                }
+                Task next = copy(current);
+                next.setTaskStatus(status);
+                next.setUpdateAt(micros(now));
+                next.setVersion(current.getVersion() + 1);
+                replace(current, next);
+                updated++;
+            }
+            position = logged;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        writeLog.awaitDurable(position);
+        return updated;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        softDeleteAll(null, List.of(id), now());
+    }
+
+    @Override
+    public int softDeleteAll(String tenantId, Collection<Long> ids, LocalDateTime now) {
+        int deleted = 0;
+        long position;
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                Task current = liveRow(tenantId, id);
+                if (current == null) {
+                    continue;
+                }
+                Task tombstone = copy(current);
+                tombstone.setDeletedAt(micros(now));
+                tombstone.setUpdateAt(micros(now));
+                tombstone.setVersion(current.getVersion() + 1);
+                replace(current, tombstone);
+                deleted++;
+            }
+            position = logged;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        writeLog.awaitDurable(position);
+        return deleted;
+    }
+
+    @Override
+    public List<Task> findChangedAfter(String tenantId, LocalDateTime updatedAfter, long afterId, int limit) {
+        List<Task> changed = new ArrayList<>(Math.min(limit, 1024));
+        lock.readLock().lock();
+        try {
+            NavigableMap<LocalDateTime, BitSet> changes = byUpdateAt.getOrDefault(tenantId, Collections.emptyNavigableMap());
+            for (Map.Entry<LocalDateTime, BitSet> entry : changes.tailMap(updatedAfter, true).entrySet()) {
+                BitSet ids = entry.getValue();
+                // Ties on the watermark itself continue after afterId
+                int id = entry.getKey().equals(updatedAfter) ? nextId(ids, afterId) : ids.nextSetBit(0);
+                for (; id >= 0 && changed.size() < limit; id = ids.nextSetBit(id + 1)) {
+                    changed.add(copy(rows[id]));
+                }
+                if (changed.size() == limit) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return changed;
+    }
+
+    @Override
+    public List<Long> findTombstoneIdsBefore(LocalDateTime cutoff, int limit) {
+        List<Long> ids = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (BitSet deleted : byDeletedAt.headMap(cutoff, false).values()) {
+                for (int id = deleted.nextSetBit(0); id >= 0 && ids.size() < limit; id = deleted.nextSetBit(id + 1)) {
+                    ids.add((long) id);
+                }
+                if (ids.size() == limit) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    @Override
+    public int purgeTombstones(Collection<Long> ids) {
+        int purged = 0;
+        long position;
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                Task row = row(id);
+                if (row == null || row.getDeletedAt() == null) {
+                    continue;
+                }
+                logged = writeLog.appendPurge(id);
+                unindex(row);
+                rows[row.getId().intValue()] = null;
+                purged++;
+            }
+            position = logged;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        writeLog.awaitDurable(position);
+        return purged;
+    }
+
+    @Override
+    public List<Long> findArchivableIds(LocalDateTime completedBefore, int limit) {
+        List<Long> ids = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            // Id order rather than update order: there is no index on updateAt across tenants
+            BitSet completed = byStatus.get(TaskStatus.COMPLETED);
+            for (int id = completed.nextSetBit(0); id >= 0 && ids.size() < limit; id = completed.nextSetBit(id + 1)) {
+                if (rows[id].getUpdateAt().isBefore(completedBefore)) {
+                    ids.add((long) id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    // The archive keeps the row image as it was; archivedAt is not recorded
+    @Override
+    public List<Task> archive(Collection<Long> ids, LocalDateTime completedBefore, LocalDateTime archivedAt) {
+        List<Task> moved = new ArrayList<>(ids.size());
+        long position;
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                Task current = liveRow(null, id);
+                if (current == null || current.getTaskStatus() != TaskStatus.COMPLETED
+                        || !current.getUpdateAt().isBefore(completedBefore)) {
+                    continue;
+                }
+                logged = writeLog.appendArchive(current);
+                unindex(current);
+                rows[id.intValue()] = null;
+                archived.computeIfAbsent(current.getTenantId(), t -> new TreeMap<>()).put(id, current);
+                archivedCount++;
+                moved.add(copy(current));
+            }
+            position = logged;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        writeLog.awaitDurable(position);
+        return moved;
+    }
+
+    @Override
+    public Optional<Task> findArchivedById(String tenantId, Long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(archived(tenantId).get(id)).map(InMemoryTaskStore::copy);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Task> findArchivedAfter(String tenantId, long afterId, int limit) {
+        List<Task> tasks = new ArrayList<>(Math.min(limit, 1024));
+        lock.readLock().lock();
+        try {
+            for (Task task : archived(tenantId).tailMap(afterId, false).values()) {
+                if (tasks.size() == limit) {
+                    break;
+                }
+                tasks.add(copy(task));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return tasks;
+    }
+
+    @Override
+    public long countArchived() {
+        lock.readLock().lock();
+        try {
+            return archivedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Routes row images to the journal from now on; TaskWriteLog.NONE detaches it
+    void attach(TaskWriteLog log) {
+        lock.writeLock().lock();
+        try {
+            writeLog = log;
+            logged = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Every row, tombstones included, indexed by id, and every archived row
+    record Checkpoint(Task[] rows, List<Task> archived) {
+    }
+
+    // Every row as of one instant; atomically runs at that instant, so a journal can start a new segment exactly
+    // where the copy ends. Stored rows are never modified in place, so sharing them with the caller is safe.
+    Checkpoint checkpoint(Runnable atomically) {
+        lock.writeLock().lock();
+        try {
+            atomically.run();
+            List<Task> archivedRows = new ArrayList<>((int) archivedCount);
+            archived.values().forEach(tenant -> archivedRows.addAll(tenant.values()));
+            return new Checkpoint(Arrays.copyOf(rows, (int) nextId), archivedRows);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Recovery: applies a journalled row image as-is, without version checks, new timestamps or logging
+    void restore(Task row) {
+        lock.writeLock().lock();
+        try {
+            int id = row.getId().intValue();
+            grow(id);
+            if (rows[id] != null) {
+                unindex(rows[id]);
+            }
+            rows[id] = row;
+            index(row);
+            nextId = Math.max(nextId, id + 1L);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void restorePurge(long id) {
+        lock.writeLock().lock();
+        try {
+            Task row = row(id);
+            if (row != null) {
+                unindex(row);
+                rows[(int) id] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void restoreArchive(Task row) {
+        lock.writeLock().lock();
+        try {
+            Task current = row(row.getId());
+            if (current != null) {
+                unindex(current);
+                rows[row.getId().intValue()] = null;
+            }
+            if (archived.computeIfAbsent(row.getTenantId(), t -> new TreeMap<>()).put(row.getId(), row) == null) {
+                archivedCount++;
+            }
+            nextId = Math.max(nextId, row.getId() + 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Ids are never reused, even when the highest ones were purged before the snapshot
+    void restoreSequence(long next) {
+        lock.writeLock().lock();
+        try {
+            nextId = Math.max(nextId, next);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock
+    private Task write(Task task, LocalDateTime now) {
+        if (task.getId() == null) {
+            Task inserted = copy(task);
+            inserted.setId(assignId());
+            inserted.setCreatedAt(now);
+            inserted.setUpdateAt(now);
+            inserted.setVersion(0L);
+            inserted.setDeletedAt(null);
+            logged = writeLog.append(inserted);
+            grow(inserted.getId());
+            rows[inserted.getId().intValue()] = inserted;
+            index(inserted);
+            return inserted;
+        }
+        Task current = liveRow(null, task.getId());
+        // A row deleted or archived since it was read fails like merging a detached versioned entity whose row is gone
+        if (current == null || task.getVersion() != null && !task.getVersion().equals(current.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, task.getId());
+        }
+        Task updated = copy(task);
+        // Like the column, the tenant is not updatable
+        updated.setTenantId(current.getTenantId());
+        updated.setCreatedAt(current.getCreatedAt());
+        updated.setUpdateAt(now);
+        updated.setVersion(current.getVersion() + 1);
+        updated.setDeletedAt(null);
+        replace(current, updated);
+        return updated;
+    }
+
+    private long assignId() {
+        if (nextId > Integer.MAX_VALUE) {
+            throw new IllegalStateException("In-memory store is out of ids");
+        }
+        return nextId++;
+    }
+
+    private void grow(long id) {
+        if (id >= rows.length) {
+            Task[] larger = new Task[(int) Math.min(Integer.MAX_VALUE - 8L, Math.max(id + 1, rows.length * 2L))];
+            System.arraycopy(rows, 0, larger, 0, rows.length);
+            rows = larger;
+        }
+    }
+
+    // Caller holds the write lock; row images pass through here, so the log is written before memory changes
+    private void replace(Task current, Task next) {
+        logged = writeLog.append(next);
+        unindex(current);
+        rows[next.getId().intValue()] = next;
+        index(next);
+    }
+
+    private void index(Task task) {
+        int id = task.getId().intValue();
+        add(byUpdateAt.computeIfAbsent(task.getTenantId(), t -> new TreeMap<>()), task.getUpdateAt(), id);
+        if (task.getDeletedAt() != null) {
+            add(byDeletedAt, task.getDeletedAt(), id);
+            return;
+        }
+        live.set(id);
+        byTenant.computeIfAbsent(task.getTenantId(), t -> new BitSet()).set(id);
+        byStatus.get(task.getTaskStatus()).set(id);
+        byPriority.get(task.getPriority()).set(id);
+        if (task.getDueDate() != null) {
+            add(byDueDate, task.getDueDate(), id);
+        }
+    }
+
+    private void unindex(Task task) {
+        int id = task.getId().intValue();
+        NavigableMap<LocalDateTime, BitSet> changes = byUpdateAt.get(task.getTenantId());
+        remove(changes, task.getUpdateAt(), id);
+        if (changes.isEmpty()) {
+            byUpdateAt.remove(task.getTenantId());
+        }
+        if (task.getDeletedAt() != null) {
+            remove(byDeletedAt, task.getDeletedAt(), id);
+            return;
+        }
+        live.clear(id);
+        BitSet tenant = byTenant.get(task.getTenantId());
+        tenant.clear(id);
+        if (tenant.isEmpty()) {
+            byTenant.remove(task.getTenantId());
+        }
+        byStatus.get(task.getTaskStatus()).clear(id);
+        byPriority.get(task.getPriority()).clear(id);
+        if (task.getDueDate() != null) {
+            remove(byDueDate, task.getDueDate(), id);
+        }
+    }
+
+    private static <K> void add(NavigableMap<K, BitSet> index, K key, int id) {
+        index.computeIfAbsent(key, k -> new BitSet()).set(id);
+    }
+
+    private static <K> void remove(NavigableMap<K, BitSet> index, K key, int id) {
+        BitSet ids = index.get(key);
+        if (ids != null) {
+            ids.clear(id);
+            if (ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    // Ids of the tenant's live tasks matching every non-null filter; caller holds the read lock
+    private BitSet matching(String tenantId, TaskStatus status, Priority priority, LocalDate dueFrom, LocalDate dueTo) {
+        BitSet result = (BitSet) tenant(tenantId).clone();
+        if (result.isEmpty()) {
+            return result;
+        }
+        if (status != null) {
+            result.and(byStatus.get(status));
+        }
+        if (priority != null) {
+            result.and(byPriority.get(priority));
+        }
+        if (dueFrom != null && dueTo != null && dueFrom.isAfter(dueTo)) {
+            // An inverted range matches nothing, as it does in SQL; subMap views would reject it
+            result.clear();
+            return result;
+        }
+        if (dueFrom != null || dueTo != null) {
+            NavigableMap<LocalDate, BitSet> range = byDueDate;
+            if (dueFrom != null) {
+                range = range.tailMap(dueFrom, true);
+            }
+            if (dueTo != null) {
+                range = range.headMap(dueTo, true);
+            }
+            BitSet due = new BitSet();
+            range.values().forEach(due::or);
+            result.and(due);
+        }
+        return result;
+    }
+
+    // Caller holds the read lock
+    private List<Task> collect(BitSet ids, long afterId, int limit) {
+        List<Task> tasks = new ArrayList<>(Math.min(limit, 1024));
+        for (int id = nextId(ids, afterId); id >= 0 && tasks.size() < limit; id = ids.nextSetBit(id + 1)) {
+            tasks.add(copy(rows[id]));
+        }
+        return tasks;
+    }
+
+    // Caller holds the read lock and must not modify the result
+    private NavigableMap<Long, Task> archived(String tenantId) {
+        return archived.getOrDefault(tenantId, Collections.emptyNavigableMap());
+    }
+
+    // The tenant's live ids; caller holds the read lock and must not modify the result
+    private BitSet tenant(String tenantId) {
+        return byTenant.getOrDefault(tenantId, EMPTY);
+    }
+
+    private static int nextId(BitSet ids, long afterId) {
+        return afterId >= Integer.MAX_VALUE ? -1 : ids.nextSetBit((int) Math.max(0, afterId + 1));
+    }
+
+    private Task row(Long id) {
+        return id == null || id <= 0 || id >= rows.length ? null : rows[id.intValue()];
+    }
+
+    // A null tenant matches any
+    private Task liveRow(String tenantId, Long id) {
+        Task task = row(id);
+        return task == null || task.getDeletedAt() != null
+                || tenantId != null && !tenantId.equals(task.getTenantId()) ? null : task;
+    }
+
+    private LocalDateTime now() {
+        return micros(LocalDateTime.now(clock));
+    }
+
+    // Same precision as the DATETIME(6) columns, so sync cursors round-trip on either engine
+    private static LocalDateTime micros(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static Comparator<Task> comparator(Sort sort) {
+        Comparator<Task> order = null;
+        for (Sort.Order sortOrder : sort) {
+            Comparator<Task> property = SORTABLE.get(sortOrder.getProperty());
+            if (property == null) {
+                throw new PropertyReferenceException(sortOrder.getProperty(), TypeInformation.of(Task.class), List.of());
+            }
+            if (sortOrder.isDescending()) {
+                property = property.reversed();
+            }
+            order = order == null ? property : order.thenComparing(property);
+        }
+        // Ties fall back to id, which is what the clustered primary key gives the database
+        Comparator<Task> byId = SORTABLE.get("id");
+        return order == null ? byId : order.thenComparing(byId);
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<Task> nullsFirst(Function<Task, T> property) {
+        return Comparator.comparing(property, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    static Task copy(Task task) {
+        return Task.builder()
+                .id(task.getId())
+                .tenantId(task.getTenantId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .priority(task.getPriority())
+                .taskStatus(task.getTaskStatus())
+                .dueDate(task.getDueDate())
+                .createdAt(task.getCreatedAt())
+                .updateAt(task.getUpdateAt())
+                .version(task.getVersion())
+                .deletedAt(task.getDeletedAt())
+                .build();
+    }
+
+    private record CountRow(String tenantId, TaskStatus status, Priority priority, long count) implements TaskCountView {
+
+        @Override
+        public String getTenantId() {
+            return tenantId;
+        }
+
+        @Override
+        public TaskStatus getTaskStatus() {
+            return status;
+        }
+
+        @Override
+        public Priority getPriority() {
+            return priority;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.learn.taskManagement.store;
+
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+
+// Binary row images shared by journal segments and snapshots. Each record is [int length][int crc32c][body];
+// the header is written last, so a zero length marks the unused tail of a pre-sized segment and a torn write
+// fails its checksum. Enums are written by name, like the database columns, so reordering constants is safe.
+final class JournalCodec {
+
+    static final int HEADER = 8;
+    static final int MAX_RECORD = 64 * 1024;
+
+    // Row images written before tenants existed; they replay into the default tenant
+    private static final byte PUT = 1;
+    private static final byte PURGE = 2;
+    // Row image followed by its tenant
+    private static final byte PUT_TENANT = 3;
+    // Same image, for a task moved from the live rows to the archive
+    private static final byte ARCHIVE = 4;
+    private static final long NULL = Long.MIN_VALUE;
+    private static final long WINDOW = 256L * 1024 * 1024;
+
+    // What replay hands back, record by record
+    interface Visitor {
+        void put(Task row);
+
+        void purge(long id);
+
+        void archive(Task row);
+    }
+
+    private JournalCodec() {
+    }
+
+    // Appends one framed record; returns false, leaving the buffer as it was, if it does not fit
+    static boolean put(ByteBuffer out, Task row) {
+        return image(out, PUT_TENANT, row);
+    }
+
+    static boolean archive(ByteBuffer out, Task row) {
+        return image(out, ARCHIVE, row);
+    }
+
+    private static boolean image(ByteBuffer out, byte op, Task row) {
+        int start = out.position();
+        if (out.remaining() < HEADER) {
+            return false;
+        }
+        try {
+            out.position(start + HEADER);
+            out.put(op);
+            out.putLong(row.getId());
+            out.putLong(row.getVersion());
+            putString(out, row.getPriority().name());
+            putString(out, row.getTaskStatus().name());
+            out.putLong(row.getDueDate() == null ? NULL : row.getDueDate().toEpochDay());
+            out.putLong(micros(row.getCreatedAt()));
+            out.putLong(micros(row.getUpdateAt()));
+            out.putLong(micros(row.getDeletedAt()));
+            putString(out, row.getTitle());
+            putString(out, row.getDescription());
+            putString(out, row.getTenantId());
+        } catch (BufferOverflowException e) {
+            out.position(start);
+            return false;
+        }
+        frame(out, start);
+        return true;
+    }
+
+    static boolean purge(ByteBuffer out, long id) {
+        int start = out.position();
+        if (out.remaining() < HEADER + 1 + Long.BYTES) {
+            return false;
+        }
+        out.position(start + HEADER);
+        out.put(PURGE);
+        out.putLong(id);
+        frame(out, start);
+        return true;
+    }
+
+    private static void frame(ByteBuffer out, int start) {
+        int length = out.position() - start - HEADER;
+        CRC32C crc = new CRC32C();
+        crc.update(out.slice(start + HEADER, length));
+        out.putInt(start + 4, (int) crc.getValue());
+        out.putInt(start, length);
+    }
+
+    // Applies every intact record from offset on, mapping the file read-only a window at a time.
+    // Returns the offset of the torn or corrupt record it stopped at, or -1 when every record was intact.
+    static long replay(Path file, long offset, Visitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = offset;
+            while (size - position >= HEADER) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW, size - position));
+                while (window.remaining() >= HEADER) {
+                    int start = window.position();
+                    int length = window.getInt(start);
+                    if (length == 0) {
+                        return -1;
+                    }
+                    if (length < 0 || length > MAX_RECORD || position + start + HEADER + length > size) {
+                        return position + start;
+                    }
+                    if (window.remaining() < HEADER + length) {
+                        // Straddles the window; the next window starts at this record
+                        break;
+                    }
+                    ByteBuffer body = window.slice(start + HEADER, length);
+                    CRC32C crc = new CRC32C();
+                    crc.update(body.duplicate());
+                    if ((int) crc.getValue() != window.getInt(start + 4) || !apply(body, visitor)) {
+                        return position + start;
+                    }
+                    window.position(start + HEADER + length);
+                }
+                position += window.position();
+            }
+            return -1;
+        }
+    }
+
+    private static boolean apply(ByteBuffer body, Visitor visitor) {
+        byte op = body.get();
+        long id = body.getLong();
+        if (op == PURGE) {
+            visitor.purge(id);
+            return true;
+        }
+        if (op != PUT && op != PUT_TENANT && op != ARCHIVE) {
+            return false;
+        }
+        long version = body.getLong();
+        Priority priority = Priority.valueOf(getString(body));
+        TaskStatus status = TaskStatus.valueOf(getString(body));
+        long dueDate = body.getLong();
+        LocalDateTime createdAt = time(body.getLong());
+        LocalDateTime updateAt = time(body.getLong());
+        LocalDateTime deletedAt = time(body.getLong());
+        Task row = Task.builder()
+                .id(id)
+                .version(version)
+                .priority(priority)
+                .taskStatus(status)
+                .dueDate(dueDate == NULL ? null : LocalDate.ofEpochDay(dueDate))
+                .createdAt(createdAt)
+                .updateAt(updateAt)
+                .deletedAt(deletedAt)
+                .title(getString(body))
+                .description(getString(body))
+                .build();
+        if (op != PUT) {
+            row.setTenantId(getString(body));
+        }
+        if (op == ARCHIVE) {
+            visitor.archive(row);
+        } else {
+            visitor.put(row);
+        }
+        return true;
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putInt(bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long micros(LocalDateTime time) {
+        if (time == null) {
+            return NULL;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime time(long micros) {
+        if (micros == NULL) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000), (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
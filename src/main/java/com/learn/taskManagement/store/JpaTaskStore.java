@@ -0,0 +1,209 @@
+package com.learn.taskManagement.store;
+
+import com.learn.taskManagement.entity.ArchivedTask;
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.repository.ArchivedTaskRepository;
+import com.learn.taskManagement.repository.TaskCountView;
+import com.learn.taskManagement.repository.TaskRepository;
+import com.learn.taskManagement.repository.TaskSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Default engine: MySQL (H2 in tests) through Spring Data JPA
+@Component
+@Profile("!memory")
+public class JpaTaskStore implements TaskStore {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public JpaTaskStore(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+    }
+
+    @Override
+    public Task save(Task task) {
+        return taskRepository.save(task);
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        return taskRepository.saveAll(tasks);
+    }
+
+    @Override
+    public Task saveAndFlush(Task task) {
+        return taskRepository.saveAndFlush(task);
+    }
+
+    @Override
+    public void flush() {
+        taskRepository.flush();
+    }
+
+    @Override
+    public Optional<Task> findById(String tenantId, Long id) {
+        return taskRepository.findByTenantIdAndId(tenantId, id);
+    }
+
+    @Override
+    public List<Task> findAllById(String tenantId, Collection<Long> ids) {
+        return taskRepository.findByTenantIdAndIdIn(tenantId, ids);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(String tenantId, Long id) {
+        return taskRepository.findVersionById(tenantId, id);
+    }
+
+    @Override
+    public List<Task> findAll(String tenantId) {
+        return taskRepository.findByTenantId(tenantId);
+    }
+
+    @Override
+    public Stream<Task> streamAll(String tenantId) {
+        // Drop each row from the persistence context once handed out so memory stays flat
+        return taskRepository.streamAll(tenantId).map(task -> {
+            entityManager.detach(task);
+            return task;
+        });
+    }
+
+    @Override
+    public List<Task> findByPriority(String tenantId, Priority priority) {
+        return taskRepository.findByTenantIdAndPriority(tenantId, priority);
+    }
+
+    @Override
+    public List<Task> findByTaskStatus(String tenantId, TaskStatus status) {
+        return taskRepository.findByTenantIdAndTaskStatus(tenantId, status);
+    }
+
+    @Override
+    public List<Task> findAfter(String tenantId, long afterId, int limit) {
+        return tenantId == null
+                ? taskRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit))
+                : taskRepository.findByTenantIdAndIdGreaterThanOrderByIdAsc(tenantId, afterId, Limit.of(limit));
+    }
+
+    @Override
+    public List<Task> findAfter(String tenantId, TaskStatus status, Priority priority, long afterId, int limit) {
+        Specification<Task> spec = TaskSpecifications.filter(tenantId, status, priority, null, null)
+                .and(TaskSpecifications.idGreaterThan(afterId));
+        return taskRepository.findBy(spec, query -> query.sortBy(Sort.by("id")).limit(limit).all());
+    }
+
+    @Override
+    public Page<Task> filter(String tenantId, TaskStatus status, Priority priority, LocalDate dueFrom, LocalDate dueTo,
+                             Pageable pageable) {
+        return taskRepository.findAll(TaskSpecifications.filter(tenantId, status, priority, dueFrom, dueTo), pageable);
+    }
+
+    @Override
+    public List<TaskCountView> countByTenantStatusAndPriority() {
+        return taskRepository.countByTenantStatusAndPriority();
+    }
+
+    @Override
+    public int updateStatus(String tenantId, Collection<Long> ids, TaskStatus status, LocalDateTime now) {
+        return taskRepository.updateStatus(tenantId, ids, status, now);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        // @SQLDelete on Task turns this into the tombstone UPDATE
+        taskRepository.deleteById(id);
+    }
+
+    @Override
+    public int softDeleteAll(String tenantId, Collection<Long> ids, LocalDateTime now) {
+        return taskRepository.softDeleteAll(tenantId, ids, now);
+    }
+
+    @Override
+    public List<Task> findChangedAfter(String tenantId, LocalDateTime updatedAfter, long afterId, int limit) {
+        return taskRepository.findChangedAfter(tenantId, updatedAfter, afterId, limit);
+    }
+
+    @Override
+    public List<Long> findTombstoneIdsBefore(LocalDateTime cutoff, int limit) {
+        return taskRepository.findTombstoneIdsBefore(cutoff, limit);
+    }
+
+    @Override
+    public int purgeTombstones(Collection<Long> ids) {
+        return taskRepository.purgeTombstones(ids);
+    }
+
+    @Override
+    public List<Long> findArchivableIds(LocalDateTime completedBefore, int limit) {
+        return taskRepository.findArchivableIds(completedBefore, limit);
+    }
+
+    @Override
+    public List<Task> archive(Collection<Long> ids, LocalDateTime completedBefore, LocalDateTime archivedAt) {
+        // Copy and delete under the row locks, so no update lands between them and is lost
+        List<Task> moved = taskRepository.lockArchivable(ids, TaskStatus.COMPLETED, completedBefore);
+        if (moved.isEmpty()) {
+            return moved;
+        }
+        List<Long> movedIds = moved.stream().map(Task::getId).toList();
+        taskRepository.copyToArchive(movedIds, archivedAt);
+        taskRepository.deleteArchived(movedIds);
+        return moved;
+    }
+
+    @Override
+    public Optional<Task> findArchivedById(String tenantId, Long id) {
+        return archivedTaskRepository.findByTenantIdAndId(tenantId, id).map(JpaTaskStore::toTask);
+    }
+
+    @Override
+    public List<Task> findArchivedAfter(String tenantId, long afterId, int limit) {
+        return archivedTaskRepository.findByTenantIdAndIdGreaterThanOrderByIdAsc(tenantId, afterId, Limit.of(limit))
+                .stream()
+                .map(JpaTaskStore::toTask)
+                .toList();
+    }
+
+    @Override
+    public long countArchived() {
+        return archivedTaskRepository.count();
+    }
+
+    private static Task toTask(ArchivedTask archived) {
+        return Task.builder()
+                .id(archived.getId())
+                .tenantId(archived.getTenantId())
+                .priority(archived.getPriority())
+                .taskStatus(archived.getTaskStatus())
+                .title(archived.getTitle())
+                .dueDate(archived.getDueDate())
+                .description(archived.getDescription())
+                .createdAt(archived.getCreatedAt())
+                .updateAt(archived.getUpdateAt())
+                .version(archived.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,465 @@
+package com.learn.taskManagement.store;
+
+import com.learn.taskManagement.entity.Task;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Makes the in-memory engine survive restarts. Every row image the store applies is appended to a memory-mapped
+// journal segment. A background thread forces the written range to disk as soon as a writer waits for it, and
+// at least every fsync-interval otherwise; writers that arrive while a force is running share the next one
+// (group commit). Periodic snapshots copy every row, archived ones included, and start a new segment at the same instant, then delete the
+// segments the snapshot covers. Startup loads the newest snapshot and replays the segments written after it; only
+// the newest segment may end in a torn record, anywhere else startup fails.
+@Slf4j
+@Component
+@Profile("memory")
+@ConditionalOnProperty(name = "task.journal.enabled", havingValue = "true")
+public class TaskJournal implements TaskWriteLog {
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final String TEMP_SUFFIX = ".tmp";
+    // "TASKSNAP"
+    private static final long SNAPSHOT_MAGIC = 0x5441534b534e4150L;
+    private static final int SNAPSHOT_HEADER = 2 * Long.BYTES;
+
+    // An open segment; positions across segments are baseLsn + offset, so they only ever grow
+    private record Segment(long number, FileChannel channel, MappedByteBuffer buffer, long baseLsn) {
+    }
+
+    private final InMemoryTaskStore store;
+    private final Path directory;
+    private final int segmentSize;
+    private final long fsyncIntervalNanos;
+    private final boolean awaitSync;
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final Thread syncer;
+
+    // segment, written, durable, waiting and failure are guarded by this monitor; appends themselves are
+    // serialized by the store's write lock, and the syncer only forces ranges that are already complete
+    private final Object monitor = new Object();
+    private Segment segment;
+    private long written;
+    private long durable;
+    private int waiting;
+    private RuntimeException failure;
+    private long snapshotted;
+    private volatile boolean closed;
+
+    public TaskJournal(InMemoryTaskStore store,
+                       @Value("${task.journal.dir:data/journal}") String directory,
+                       @Value("${task.journal.segment-size:64MB}") DataSize segmentSize,
+                       @Value("${task.journal.fsync-interval:10ms}") Duration fsyncInterval,
+                       @Value("${task.journal.await-sync:true}") boolean awaitSync) throws IOException {
+        if (segmentSize.toBytes() < JournalCodec.MAX_RECORD || segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("task.journal.segment-size must be between 64KB and 2GB");
+        }
+        this.store = store;
+        this.directory = Path.of(directory);
+        this.segmentSize = (int) segmentSize.toBytes();
+        this.fsyncIntervalNanos = Math.max(Duration.ofMillis(1).toNanos(), fsyncInterval.toNanos());
+        this.awaitSync = awaitSync;
+
+        Files.createDirectories(this.directory);
+        long next = recover();
+        segment = open(next, 0);
+        syncDirectory();
+        store.attach(this);
+        syncer = new Thread(this::syncLoop, "task-journal-sync");
+        syncer.setDaemon(true);
+        syncer.start();
+    }
+
+    @Override
+    public long append(Task row) {
+        return write(out -> JournalCodec.put(out, row));
+    }
+
+    @Override
+    public long appendPurge(long id) {
+        return write(out -> JournalCodec.purge(out, id));
+    }
+
+    @Override
+    public long appendArchive(Task row) {
+        return write(out -> JournalCodec.archive(out, row));
+    }
+
+    private interface Encoder {
+        boolean encode(ByteBuffer out);
+    }
+
+    // Caller holds the store's write lock
+    private long write(Encoder encoder) {
+        if (closed) {
+            throw new IllegalStateException("Task journal is closed");
+        }
+        if (!encoder.encode(segment.buffer())) {
+            roll(segment.number() + 1);
+            if (!encoder.encode(segment.buffer())) {
+                throw new IllegalArgumentException("Task record does not fit in a journal segment");
+            }
+        }
+        synchronized (monitor) {
+            written = segment.baseLsn() + segment.buffer().position();
+            return written;
+        }
+    }
+
+    @Override
+    public void awaitDurable(long position) {
+        if (!awaitSync) {
+            return;
+        }
+        synchronized (monitor) {
+            waiting++;
+            // Also wakes the syncer, which otherwise sleeps out the fsync interval
+            monitor.notifyAll();
+            try {
+                while (durable < position && failure == null && !closed) {
+                    monitor.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for the task journal", e);
+            } finally {
+                waiting--;
+            }
+            if (durable < position) {
+                throw new IllegalStateException("Task journal is not durable", failure);
+            }
+        }
+    }
+
+    private void syncLoop() {
+        while (!closed) {
+            synchronized (monitor) {
+                // A writer waiting on unforced data cuts the sleep short
+                if (!closed && (waiting == 0 || written <= durable)) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(monitor, fsyncIntervalNanos);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+            sync();
+        }
+    }
+
+    void sync() {
+        Segment target;
+        long from;
+        long upTo;
+        synchronized (monitor) {
+            if (written <= durable) {
+                return;
+            }
+            target = segment;
+            from = Math.max(durable, target.baseLsn());
+            upTo = written;
+        }
+        try {
+            target.buffer().force((int) (from - target.baseLsn()), (int) (upTo - from));
+            synchronized (monitor) {
+                durable = Math.max(durable, upTo);
+                failure = null;
+                monitor.notifyAll();
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not sync task journal segment {}", target.number(), e);
+            synchronized (monitor) {
+                failure = e;
+                monitor.notifyAll();
+            }
+        }
+    }
+
+    // Caller holds the store's write lock. The full segment is forced before writes move on, so the syncer
+    // only ever has the current segment to look after.
+    private void roll(long number) {
+        Segment previous = segment;
+        Segment next;
+        try {
+            next = open(number, previous.baseLsn() + previous.buffer().position());
+            syncDirectory();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open task journal segment " + number, e);
+        }
+        previous.buffer().force();
+        synchronized (monitor) {
+            segment = next;
+            durable = Math.max(durable, next.baseLsn());
+            monitor.notifyAll();
+        }
+        close(previous.channel());
+    }
+
+    private Segment open(long number, long baseLsn) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(number),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // Mapping past the end grows the file to its full size up front; the zero tail marks where records end
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        return new Segment(number, channel, buffer, baseLsn);
+    }
+
+    @Scheduled(initialDelayString = "${task.journal.snapshot-interval:10m}", fixedDelayString = "${task.journal.snapshot-interval:10m}")
+    public void snapshot() {
+        if (!snapshotLock.tryLock()) {
+            return;
+        }
+        try {
+            takeSnapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("Task snapshot failed; the journal is kept and replayed instead", e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    // Returns false when nothing was written since the last snapshot
+    boolean takeSnapshot() throws IOException {
+        if (closed) {
+            return false;
+        }
+        long[] start = new long[1];
+        long[] lsn = new long[1];
+        InMemoryTaskStore.Checkpoint checkpoint = store.checkpoint(() -> {
+            lsn[0] = written;
+            if (written != snapshotted) {
+                start[0] = segment.number() + 1;
+                roll(start[0]);
+            }
+        });
+        if (lsn[0] == snapshotted) {
+            return false;
+        }
+        long began = System.nanoTime();
+        Path snapshot = snapshotPath(start[0]);
+        Path temp = directory.resolve(snapshot.getFileName() + TEMP_SUFFIX);
+        int count = 0;
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer out = ByteBuffer.allocateDirect(1 << 20);
+            out.putLong(SNAPSHOT_MAGIC).putLong(checkpoint.rows().length);
+            for (Task row : checkpoint.rows()) {
+                if (row == null) {
+                    continue;
+                }
+                if (!JournalCodec.put(out, row)) {
+                    drain(channel, out);
+                    JournalCodec.put(out, row);
+                }
+                count++;
+            }
+            for (Task row : checkpoint.archived()) {
+                if (!JournalCodec.archive(out, row)) {
+                    drain(channel, out);
+                    JournalCodec.archive(out, row);
+                }
+                count++;
+            }
+            drain(channel, out);
+            channel.force(true);
+        }
+        // Only complete snapshots ever carry the final name
+        Files.move(temp, snapshot, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+        snapshotted = lsn[0];
+        deleteBefore(start[0]);
+        log.info("Wrote task snapshot {} with {} rows in {} ms", start[0], count,
+                Duration.ofNanos(System.nanoTime() - began).toMillis());
+        return true;
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer out) throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    // Loads the newest snapshot, replays the segments after it and returns the number for the next segment
+    private long recover() throws IOException {
+        long began = System.nanoTime();
+        List<Long> snapshots = numbers(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        long first = snapshots.isEmpty() ? 0 : snapshots.get(snapshots.size() - 1);
+        int[] records = new int[1];
+        JournalCodec.Visitor visitor = new JournalCodec.Visitor() {
+            @Override
+            public void put(Task row) {
+                store.restore(row);
+                records[0]++;
+            }
+
+            @Override
+            public void purge(long id) {
+                store.restorePurge(id);
+                records[0]++;
+            }
+
+            @Override
+            public void archive(Task row) {
+                store.restoreArchive(row);
+                records[0]++;
+            }
+        };
+
+        if (!snapshots.isEmpty()) {
+            Path snapshot = snapshotPath(first);
+            try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+                ByteBuffer header = ByteBuffer.allocate(SNAPSHOT_HEADER);
+                while (header.hasRemaining() && channel.read(header) >= 0) {
+                    // Header is tiny, keep reading until it is complete or the file ends
+                }
+                if (header.hasRemaining() || header.getLong(0) != SNAPSHOT_MAGIC) {
+                    throw new IllegalStateException("Not a task snapshot: " + snapshot);
+                }
+                store.restoreSequence(header.getLong(Long.BYTES));
+            }
+            if (JournalCodec.replay(snapshot, SNAPSHOT_HEADER, visitor) >= 0) {
+                throw new IllegalStateException("Task snapshot is corrupt: " + snapshot);
+            }
+        }
+        int fromSnapshot = records[0];
+
+        long next = first;
+        List<Long> segments = numbers(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        for (long number : segments) {
+            if (number < first) {
+                // Left behind by a snapshot that finished but was interrupted before cleaning up
+                Files.deleteIfExists(segmentPath(number));
+                continue;
+            }
+            long torn = JournalCodec.replay(segmentPath(number), 0, visitor);
+            if (torn >= 0) {
+                // Only the newest segment can have been cut short by a crash; damage anywhere else means records
+                // are missing from the middle of the history, and replaying past them would resurrect stale rows
+                if (number != segments.get(segments.size() - 1)) {
+                    throw new IllegalStateException("Task journal segment " + number + " is corrupt at offset " + torn
+                            + " and is not the newest; restore the journal directory from a backup");
+                }
+                log.warn("Task journal segment {} ends in a torn record at offset {}; it is dropped", number, torn);
+                seal(segmentPath(number), torn);
+            }
+            next = number + 1;
+        }
+        deleteBefore(first);
+        snapshotted = -1;
+        log.info("Recovered {} task rows from snapshot {} and {} journal records in {} ms", fromSnapshot,
+                snapshots.isEmpty() ? "(none)" : first, records[0] - fromSnapshot,
+                Duration.ofNanos(System.nanoTime() - began).toMillis());
+        return next;
+    }
+
+    // Ends the segment at offset, so it replays cleanly once a newer segment follows it
+    private static void seal(Path segment, long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES), offset);
+            channel.force(false);
+        }
+    }
+
+    private void deleteBefore(long number) throws IOException {
+        for (long older : numbers(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (older < number) {
+                Files.deleteIfExists(segmentPath(older));
+            }
+        }
+        for (long older : numbers(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (older < number) {
+                Files.deleteIfExists(snapshotPath(older));
+            }
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path temp : files.filter(file -> file.getFileName().toString().endsWith(TEMP_SUFFIX)).toList()) {
+                if (!temp.getFileName().toString().equals(snapshotPath(number).getFileName() + TEMP_SUFFIX)) {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        }
+    }
+
+    private List<Long> numbers(String prefix, String suffix) throws IOException {
+        List<Long> numbers = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .forEach(name -> numbers.add(Long.parseLong(name, prefix.length(), name.length() - suffix.length(), 10)));
+        }
+        numbers.sort(null);
+        return numbers;
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private Path snapshotPath(long number) {
+        return directory.resolve(String.format("%s%019d%s", SNAPSHOT_PREFIX, number, SNAPSHOT_SUFFIX));
+    }
+
+    // New and renamed files only survive a crash once their directory entry is on disk
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // Not supported on every platform; the files themselves are still forced
+            log.debug("Could not sync journal directory {}", directory, e);
+        }
+    }
+
+    // Runs after every lifecycle stop, so the write-behind flush has already reached the store
+    @PreDestroy
+    public void close() {
+        snapshotLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            store.attach(TaskWriteLog.NONE);
+            sync();
+            closed = true;
+            synchronized (monitor) {
+                monitor.notifyAll();
+            }
+            close(segment.channel());
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private static void close(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Could not close task journal segment", e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.learn.taskManagement.store;
+
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.repository.TaskCountView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Storage engine behind TaskService: JPA by default, in-memory with the "memory" profile.
+// Reads never return soft-deleted tasks except where noted. Tasks belong to one tenant (Task.tenantId, fixed at
+// creation); reads and bulk writes take the tenant and never see or touch another tenant's tasks.
+public interface TaskStore {
+
+    // Insert when the id is null or unknown, otherwise update; returns the stored state with id, version and timestamps
+    Task save(Task task);
+
+    List<Task> saveAll(List<Task> tasks);
+
+    // Save and make the new version visible immediately
+    Task saveAndFlush(Task task);
+
+    // Push pending writes to the database
+    void flush();
+
+    Optional<Task> findById(String tenantId, Long id);
+
+    List<Task> findAllById(String tenantId, Collection<Long> ids);
+
+    Optional<Long> findVersionById(String tenantId, Long id);
+
+    List<Task> findAll(String tenantId);
+
+    // Forward-only pass over the tenant's tasks in id order; close the stream when done
+    Stream<Task> streamAll(String tenantId);
+
+    List<Task> findByPriority(String tenantId, Priority priority);
+
+    List<Task> findByTaskStatus(String tenantId, TaskStatus status);
+
+    // Keyset page: the next tasks after the given id, in id order; a null tenant pages through every tenant,
+    // for rebuilding read models
+    List<Task> findAfter(String tenantId, long afterId, int limit);
+
+    // Keyset page of the tenant's tasks matching the optional status and priority
+    List<Task> findAfter(String tenantId, TaskStatus status, Priority priority, long afterId, int limit);
+
+    // Any combination of status, priority and due-date range, sorted and paged
+    Page<Task> filter(String tenantId, TaskStatus status, Priority priority, LocalDate dueFrom, LocalDate dueTo,
+                      Pageable pageable);
+
+    // Across every tenant
+    List<TaskCountView> countByTenantStatusAndPriority();
+
+    // Set one status on many tasks, bumping version and updateAt; returns how many changed
+    int updateStatus(String tenantId, Collection<Long> ids, TaskStatus status, LocalDateTime now);
+
+    // Soft delete: the task becomes a tombstone. Callers have already found the task in their tenant
+    void deleteById(Long id);
+
+    int softDeleteAll(String tenantId, Collection<Long> ids, LocalDateTime now);
+
+    // Tasks and tombstones after (updatedAfter, afterId) in (updateAt, id) order
+    List<Task> findChangedAfter(String tenantId, LocalDateTime updatedAfter, long afterId, int limit);
+
+    // Tombstone compaction runs across every tenant
+    List<Long> findTombstoneIdsBefore(LocalDateTime cutoff, int limit);
+
+    // Physically remove tombstones; live tasks in ids are left alone
+    int purgeTombstones(Collection<Long> ids);
+
+    // Archival runs across every tenant: ids of COMPLETED tasks not updated since completedBefore
+    List<Long> findArchivableIds(LocalDateTime completedBefore, int limit);
+
+    // Moves the ids that still qualify out of every read above into the archive, in the caller's transaction;
+    // returns the moved tasks as they were
+    List<Task> archive(Collection<Long> ids, LocalDateTime completedBefore, LocalDateTime archivedAt);
+
+    Optional<Task> findArchivedById(String tenantId, Long id);
+
+    // Keyset page of the tenant's archived tasks, in id order
+    List<Task> findArchivedAfter(String tenantId, long afterId, int limit);
+
+    // Across every tenant
+    long countArchived();
+}
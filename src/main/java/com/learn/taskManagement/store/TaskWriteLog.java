@@ -0,0 +1,40 @@
+package com.learn.taskManagement.store;
+
+import com.learn.taskManagement.entity.Task;
+
+// Receives every row image InMemoryTaskStore is about to apply, in apply order, while it holds its write lock
+interface TaskWriteLog {
+
+    TaskWriteLog NONE = new TaskWriteLog() {
+        @Override
+        public long append(Task row) {
+            return 0;
+        }
+
+        @Override
+        public long appendPurge(long id) {
+            return 0;
+        }
+
+        @Override
+        public long appendArchive(Task row) {
+            return 0;
+        }
+
+        @Override
+        public void awaitDurable(long position) {
+        }
+    };
+
+    // Insert, update or tombstone; returns the position that must be durable before the write is acknowledged
+    long append(Task row);
+
+    // Tombstone removed for good
+    long appendPurge(long id);
+
+    // Live row moved to the archive
+    long appendArchive(Task row);
+
+    // Called once the store lock is released, so writers waiting here share one fsync
+    void awaitDurable(long position);
+}
@@ -0,0 +1,51 @@
+package com.learn.taskManagement.sync;
+
+import com.learn.taskManagement.store.TaskStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Physically removes tombstones older than the retention window, a bounded batch per transaction
+@Slf4j
+@Component
+public class TombstoneCompactor {
+
+    private final TaskStore taskStore;
+    private final Clock clock;
+    private final Duration retention;
+    private final int batchSize;
+
+    public TombstoneCompactor(TaskStore taskStore,
+                              Clock clock,
+                              @Value("${task.tombstones.retention:30d}") Duration retention,
+                              @Value("${task.tombstones.compact-batch-size:1000}") int batchSize) {
+        this.taskStore = taskStore;
+        this.clock = clock;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    // Returns how many tombstones were purged
+    @Scheduled(initialDelayString = "${task.tombstones.compact-interval:1h}", fixedDelayString = "${task.tombstones.compact-interval:1h}")
+    public int compact() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(retention);
+        int purged = 0;
+        List<Long> ids;
+        do {
+            ids = taskStore.findTombstoneIdsBefore(cutoff, batchSize);
+            if (!ids.isEmpty()) {
+                purged += taskStore.purgeTombstones(ids);
+            }
+        } while (ids.size() == batchSize);
+        if (purged > 0) {
+            log.info("Purged {} tombstones deleted before {}", purged, cutoff);
+        }
+        return purged;
+    }
+}
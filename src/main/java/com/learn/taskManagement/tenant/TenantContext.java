@@ -0,0 +1,55 @@
+package com.learn.taskManagement.tenant;
+
+import java.util.regex.Pattern;
+
+// The tenant (workspace) the current thread works for. TenantFilter sets it per request; threads that continue
+// a request's work (import writers, reactive schedulers, write-behind flushes) enter it explicitly. Work outside
+// any tenant, and data from before tenants existed, belongs to the default tenant.
+public final class TenantContext {
+
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final Pattern VALID = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_-]{0,63}");
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String current() {
+        String tenantId = CURRENT.get();
+        return tenantId == null ? DEFAULT_TENANT : tenantId;
+    }
+
+    // Restores the previous tenant when closed, so scopes nest
+    public static Scope enter(String tenantId) {
+        String previous = CURRENT.get();
+        CURRENT.set(tenantId);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    // Letters, digits, '-' and '_', up to 64 characters (the column width)
+    public static boolean isValid(String tenantId) {
+        return tenantId != null && VALID.matcher(tenantId).matches();
+    }
+
+    // Task ids are global; cache keys are qualified so a tenant is never served another tenant's entry
+    public static String key(Object id) {
+        return key(current(), id);
+    }
+
+    // For work that spans tenants, such as archival
+    public static String key(String tenantId, Object id) {
+        return tenantId + ":" + id;
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
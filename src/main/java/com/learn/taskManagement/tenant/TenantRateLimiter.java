@@ -0,0 +1,60 @@
+package com.learn.taskManagement.tenant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+// One token bucket per tenant: requestsPerSecond sustained, up to burst at once. A tenant over its rate is
+// refused on its own, so a heavy tenant cannot take the threads and connections other tenants need.
+// Idle tenants' buckets are dropped; a returning tenant starts with a full bucket.
+public class TenantRateLimiter {
+
+    private final double tokensPerNano;
+    private final double burst;
+    private final LongSupplier nanoTime;
+    private final Cache<String, Bucket> buckets;
+
+    public TenantRateLimiter(double requestsPerSecond, int burst) {
+        this(requestsPerSecond, burst, System::nanoTime);
+    }
+
+    TenantRateLimiter(double requestsPerSecond, int burst, LongSupplier nanoTime) {
+        this.tokensPerNano = requestsPerSecond / 1e9;
+        this.burst = Math.max(1, burst);
+        this.nanoTime = nanoTime;
+        this.buckets = Caffeine.newBuilder().expireAfterAccess(Duration.ofMinutes(10)).build();
+    }
+
+    // True when the request may proceed
+    public boolean tryAcquire(String tenantId) {
+        return buckets.get(tenantId, t -> new Bucket(burst, nanoTime.getAsLong())).tryAcquire();
+    }
+
+    // Whole seconds until the tenant's next token, for Retry-After
+    public long retryAfterSeconds() {
+        return Math.max(1, (long) Math.ceil(1 / (tokensPerNano * 1e9)));
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        synchronized boolean tryAcquire() {
+            long now = nanoTime.getAsLong();
+            tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.learn.taskManagement.writebehind;
+
+import com.learn.taskManagement.dto.TaskBatchResponseDto;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.service.TaskService;
+import com.learn.taskManagement.tenant.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Writes queued statuses with one batched UPDATE per tenant and status, on a timer, when the buffer reaches the flush size,
+// and once more on shutdown after the web server has stopped taking requests
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task.write-behind.enabled", havingValue = "true")
+public class StatusWriteBehindFlusher implements SmartLifecycle {
+
+    private final StatusWriteBuffer buffer;
+    private final TaskService taskService;
+    private final Executor executor;
+    private final int batchSize;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean running;
+
+    public StatusWriteBehindFlusher(StatusWriteBuffer buffer,
+                                    TaskService taskService,
+                                    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor,
+                                    @Value("${task.write-behind.flush-size:500}") int batchSize) {
+        this.buffer = buffer;
+        this.taskService = taskService;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        buffer.onFlushThreshold(this::scheduleFlush);
+    }
+
+    private void scheduleFlush() {
+        if (running && scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                scheduled.set(false);
+                flushIfIdle();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task.write-behind.flush-interval:200ms}")
+    public void flushIfIdle() {
+        if (flushLock.tryLock()) {
+            try {
+                flush();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    // Writes full batches until one comes back short; failed batches stay queued for the next attempt
+    int flush() {
+        int flushed = 0;
+        Map<StatusWriteBuffer.Key, StatusWriteBuffer.Queued> batch;
+        do {
+            batch = buffer.claim(batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            Map<String, Map<TaskStatus, List<Long>>> byTenant = new HashMap<>();
+            batch.forEach((key, queued) -> byTenant
+                    .computeIfAbsent(key.tenantId(), t -> new EnumMap<>(TaskStatus.class))
+                    .computeIfAbsent(queued.status(), s -> new ArrayList<>())
+                    .add(key.id()));
+            boolean written = false;
+            try {
+                byTenant.forEach((tenantId, byStatus) -> {
+                    try (TenantContext.Scope scope = TenantContext.enter(tenantId)) {
+                        byStatus.forEach((status, ids) -> {
+                            // Buffer order is hash order; ascending ids keep row locks in a stable order
+                            ids.sort(Comparator.naturalOrder());
+                            TaskBatchResponseDto result = taskService.updateTaskStatuses(ids, status);
+                            if (result.getFailed() > 0) {
+                                log.warn("Dropped {} queued {} updates for tasks that no longer exist in tenant {}",
+                                        result.getFailed(), status, tenantId);
+                            }
+                        });
+                    }
+                });
+                written = true;
+            } catch (RuntimeException e) {
+                log.error("Write-behind flush of {} statuses failed, keeping them queued", batch.size(), e);
+                break;
+            } finally {
+                buffer.complete(batch, written);
+            }
+            flushed += batch.size();
+        } while (batch.size() == batchSize);
+        return flushed;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flushLock.lock();
+        try {
+            int flushed;
+            do {
+                flushed = flush();
+            } while (flushed > 0 && buffer.size() > 0);
+            if (buffer.size() > 0) {
+                log.warn("Write-behind buffer closed with {} statuses unwritten", buffer.size());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Below the web server's graceful-shutdown phase, so no request can queue after the final drain
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,203 @@
+package com.learn.taskManagement.writebehind;
+
+import com.learn.taskManagement.enums.TaskStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Status-only updates acknowledged from memory, coalesced per task id (last write wins). One permit per distinct
+// pending id bounds the buffer; entries stay readable until the flush that wrote them has committed. A flush and a
+// write superseding the same entry never overlap, so a flushed status cannot land on top of a newer full write.
+// Entries are keyed by the tenant that queued them, which is the tenant their flush runs as, so an id from another
+// tenant is neither overlaid on that tenant's reads nor written.
+@Component
+public class StatusWriteBuffer {
+
+    public record Key(String tenantId, Long id) {
+    }
+
+    // One per offer, compared by identity: a newer offer for the same task replaces it rather than updating it
+    public static final class Queued {
+        private final TaskStatus status;
+        // Guarded by lock
+        private int writers;
+        private boolean flushing;
+
+        private Queued(TaskStatus status) {
+            this.status = status;
+        }
+
+        public TaskStatus status() {
+            return status;
+        }
+    }
+
+    private final ConcurrentHashMap<Key, Queued> pending = new ConcurrentHashMap<>();
+    // Hands entries between writers superseding them and the flush writing them
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushed = lock.newCondition();
+    private final Semaphore permits;
+    private final long offerTimeoutNanos;
+    private final int flushSize;
+    private volatile Runnable flushTrigger = () -> {
+    };
+
+    public StatusWriteBuffer(@Value("${task.write-behind.capacity:10000}") int capacity,
+                             @Value("${task.write-behind.offer-timeout:100ms}") Duration offerTimeout,
+                             @Value("${task.write-behind.flush-size:500}") int flushSize) {
+        this.permits = new Semaphore(capacity);
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.flushSize = flushSize;
+    }
+
+    // Called whenever the number of pending ids reaches the flush size
+    public void onFlushThreshold(Runnable trigger) {
+        this.flushTrigger = trigger;
+    }
+
+    // False when the buffer stayed full for the whole offer timeout
+    public boolean offer(String tenantId, Long id, TaskStatus status) {
+        Key key = new Key(tenantId, id);
+        // Overwriting an id that is already pending needs no capacity
+        if (pending.replace(key, new Queued(status)) == null) {
+            try {
+                if (!permits.tryAcquire(offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    return false;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            boolean[] added = new boolean[1];
+            pending.compute(key, (k, previous) -> {
+                added[0] = previous == null;
+                return new Queued(status);
+            });
+            if (!added[0]) {
+                permits.release();
+            }
+        }
+        if (pending.size() >= flushSize) {
+            flushTrigger.run();
+        }
+        return true;
+    }
+
+    // The queued status for a task, or null when none is waiting
+    public TaskStatus pending(String tenantId, Long id) {
+        Queued queued = pending.get(new Key(tenantId, id));
+        return queued == null ? null : queued.status;
+    }
+
+    // Ids with a status waiting to be written, across every tenant
+    public Set<Long> queuedIds() {
+        Set<Long> ids = new HashSet<>();
+        pending.keySet().forEach(key -> ids.add(key.id()));
+        return ids;
+    }
+
+    // For writes that carry their own status (or fold the queued one in): returns the queued status and holds it for
+    // the rest of the caller's transaction, so no flush writes it meanwhile. It is dropped once the transaction
+    // commits and stays queued if it rolls back. Waits while a flush is writing it, so the write lands after the
+    // flushed status instead of being overwritten by it.
+    public TaskStatus supersede(String tenantId, Long id) {
+        Key key = new Key(tenantId, id);
+        Queued queued;
+        lock.lock();
+        try {
+            while ((queued = pending.get(key)) != null && queued.flushing) {
+                flushed.awaitUninterruptibly();
+            }
+            if (queued == null) {
+                return null;
+            }
+            queued.writers++;
+        } finally {
+            lock.unlock();
+        }
+        Queued held = queued;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release(key, held, status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            release(key, held, true);
+        }
+        return held.status;
+    }
+
+    private void release(Key key, Queued queued, boolean superseded) {
+        lock.lock();
+        try {
+            queued.writers--;
+            if (superseded) {
+                remove(key, queued);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Up to max pending entries that no writer is superseding, held for this flush until complete is called
+    public Map<Key, Queued> claim(int max) {
+        Map<Key, Queued> batch = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            for (Map.Entry<Key, Queued> entry : pending.entrySet()) {
+                if (batch.size() == max) {
+                    break;
+                }
+                Queued queued = entry.getValue();
+                if (queued.writers == 0 && !queued.flushing) {
+                    queued.flushing = true;
+                    batch.put(entry.getKey(), queued);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return batch;
+    }
+
+    // Ends a flush: written entries are dropped unless a newer status replaced them in the meantime, unwritten ones
+    // stay queued for the next attempt
+    public void complete(Map<Key, Queued> batch, boolean written) {
+        lock.lock();
+        try {
+            batch.forEach((key, queued) -> {
+                queued.flushing = false;
+                if (written) {
+                    remove(key, queued);
+                }
+            });
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Key key, Queued queued) {
+        if (pending.remove(key, queued)) {
+            permits.release();
+        }
+    }
+
+    public int size() {
+        return pending.size();
+    }
+}
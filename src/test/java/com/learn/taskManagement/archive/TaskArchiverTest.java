@@ -0,0 +1,68 @@
+package com.learn.taskManagement.archive;
+
+import com.learn.taskManagement.service.TaskService;
+import com.learn.taskManagement.stats.TaskCounters;
+import com.learn.taskManagement.store.TaskStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskArchiverTest {
+
+    static final Clock CLOCK = Clock.fixed(Instant.parse("2030-04-01T00:00:00Z"), ZoneOffset.UTC);
+    static final LocalDateTime CUTOFF = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Mock
+    TaskService taskService;
+
+    @Mock
+    TaskStore taskStore;
+
+    @Mock
+    TaskCounters taskCounters;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TaskArchiver archiver() {
+        return new TaskArchiver(taskService, taskStore, taskCounters, CLOCK, meterRegistry, Duration.ofDays(90), 2);
+    }
+
+    @Test
+    void shouldMoveOneBatchPerRunAndCountItPerTier() {
+        TaskArchiver archiver = archiver();
+        when(taskStore.countArchived()).thenReturn(10L);
+        when(taskCounters.total()).thenReturn(5L);
+        when(taskService.archiveCompletedTasks(CUTOFF, 2)).thenReturn(2, 1);
+        archiver.seed();
+
+        assertThat(archiver.archive()).isEqualTo(2);
+        assertThat(archiver.archive()).isEqualTo(1);
+
+        assertThat(meterRegistry.get("task.rows").tag("tier", "cold").gauge().value()).isEqualTo(13);
+        assertThat(meterRegistry.get("task.rows").tag("tier", "hot").gauge().value()).isEqualTo(5);
+        assertThat(meterRegistry.get("task.archive.moved").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("task.archive.batch").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotRecordIdleRuns() {
+        TaskArchiver archiver = archiver();
+        when(taskService.archiveCompletedTasks(CUTOFF, 2)).thenReturn(0);
+
+        assertThat(archiver.archive()).isZero();
+
+        assertThat(meterRegistry.get("task.archive.batch").timer().count()).isZero();
+    }
+}
@@ -0,0 +1,101 @@
+package com.learn.taskManagement.benchmark;
+
+import com.learn.taskManagement.TaskManagementApplication;
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.service.TaskServiceImpl;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.reflect.Constructor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Shared helpers for benchmarks that need the full application against the embedded database
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... extraProperties) {
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("h2")
+                .properties(extraProperties)
+                .run();
+    }
+
+    // Full web server on a random port; read it back with local.server.port
+    public static ConfigurableApplicationContext startWeb(String[] profiles, String... extraProperties) {
+        String[] allProfiles = new String[profiles.length + 1];
+        allProfiles[0] = "h2";
+        System.arraycopy(profiles, 0, allProfiles, 1, profiles.length);
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .profiles(allProfiles)
+                .properties("server.port=0")
+                .properties(extraProperties)
+                .run();
+    }
+
+    public static TaskRequestDto request(int i) {
+        return TaskRequestDto.builder()
+                .title("Benchmark task " + i)
+                .description("Generated for benchmarking")
+                .priority(Priority.values()[i % Priority.values().length])
+                .taskStatus(TaskStatus.values()[i % TaskStatus.values().length])
+                .dueDate(LocalDate.now().plusDays(i % 30))
+                .build();
+    }
+
+    public static TaskResponseDto response(int i) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(i);
+        return TaskResponseDto.builder()
+                .id((long) i)
+                .title("Benchmark task " + i)
+                .description("Generated for benchmarking")
+                .priority(Priority.values()[i % Priority.values().length])
+                .taskStatus(TaskStatus.values()[i % TaskStatus.values().length])
+                .dueDate(LocalDate.of(2025, 1, 1).plusDays(i % 30))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public static Task entity(int i) {
+        TaskResponseDto dto = response(i);
+        return Task.builder()
+                .id(dto.getId())
+                .title(dto.getTitle())
+                .description(dto.getDescription())
+                .priority(dto.getPriority())
+                .taskStatus(dto.getTaskStatus())
+                .dueDate(dto.getDueDate())
+                .createdAt(dto.getCreatedAt())
+                .updateAt(dto.getUpdatedAt())
+                .build();
+    }
+
+    // Service instance with no collaborators, good enough for the pure mapping helpers
+    public static TaskServiceImpl mappingOnlyService() {
+        try {
+            Constructor<?> constructor = TaskServiceImpl.class.getConstructors()[0];
+            return (TaskServiceImpl) constructor.newInstance(new Object[constructor.getParameterCount()]);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static List<TaskRequestDto> requests(int count) {
+        List<TaskRequestDto> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(request(i));
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,69 @@
+package com.learn.taskManagement.benchmark;
+
+import com.learn.taskManagement.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+// HTTP load against the running server in platform-thread vs virtual-thread mode.
+// SampleTime reports latency percentiles (p50/p99); throughput is in the Throughput rows.
+// Virtual mode only differs from platform mode on JDK 21+.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(128)
+@Fork(1)
+public class ExecutionModeLoadBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest pageRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] profiles = "virtual".equals(mode) ? new String[]{"virtual"} : new String[0];
+        context = BenchmarkApplication.startWeb(profiles, "logging.level.root=WARN");
+        if ("virtual".equals(mode) && Runtime.version().feature() < 21) {
+            System.err.println("Virtual threads need JDK 21+; 'virtual' runs with platform threads on this JVM");
+        }
+        context.getBean(TaskService.class).createTasks(BenchmarkApplication.requests(1_000));
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        pageRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/page?size=50")).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getPage() throws IOException, InterruptedException {
+        return client.send(pageRequest, HttpResponse.BodyHandlers.ofByteArray()).statusCode();
+    }
+}
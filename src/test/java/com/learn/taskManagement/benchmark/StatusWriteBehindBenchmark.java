@@ -0,0 +1,91 @@
+package com.learn.taskManagement.benchmark;
+
+import com.learn.taskManagement.dto.TaskBatchItemResultDto;
+import com.learn.taskManagement.dto.TaskBatchResponseDto;
+import com.learn.taskManagement.dto.TaskPatchDto;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Status flips/sec through the synchronous findById + save path versus the write-behind buffer.
+// Each thread owns its own tasks so the synchronous path never trips optimistic locking.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class StatusWriteBehindBenchmark {
+
+    private static final int TASKS_PER_THREAD = 250;
+    private static final int THREADS = 4;
+    private static final TaskStatus[] FLIPS = {TaskStatus.NOT_STARTED, TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED};
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private List<Long> ids;
+    private final AtomicInteger nextThread = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int offset;
+        int step;
+
+        @Setup(Level.Trial)
+        public void setUp(StatusWriteBehindBenchmark benchmark) {
+            offset = benchmark.nextThread.getAndIncrement() % THREADS * TASKS_PER_THREAD;
+        }
+
+        int next() {
+            return step++;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("task.write-behind.enabled=true");
+        taskService = context.getBean(TaskService.class);
+        ids = taskService.createTasks(BenchmarkApplication.requests(TASKS_PER_THREAD * THREADS)).getResults().stream()
+                .map(TaskBatchItemResultDto::getId)
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // Closing the context runs the shutdown drain
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponseDto synchronousPatch(Cursor cursor) {
+        int step = cursor.next();
+        Long id = ids.get(cursor.offset + step % TASKS_PER_THREAD);
+        return taskService.patchTask(id, TaskPatchDto.builder().taskStatus(FLIPS[step % FLIPS.length]).build());
+    }
+
+    @Benchmark
+    public TaskBatchResponseDto writeBehind(Cursor cursor) {
+        int step = cursor.next();
+        Long id = ids.get(cursor.offset + step % TASKS_PER_THREAD);
+        return taskService.queueTaskStatuses(List.of(id), FLIPS[step % FLIPS.length]);
+    }
+}
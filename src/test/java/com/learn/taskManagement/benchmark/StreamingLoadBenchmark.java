@@ -0,0 +1,90 @@
+package com.learn.taskManagement.benchmark;
+
+import com.learn.taskManagement.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+// Large collection reads: blocking GET /api/tasks/status/{s} (whole List in memory) vs the reactive NDJSON stream.
+// SampleTime gives p50/p99 per request; the server shares this JVM, so run with -prof gc for allocation rates.
+// Peak heap use across the trial is printed at teardown as the resident-memory comparison.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class StreamingLoadBenchmark {
+
+    @Param({"20000"})
+    private int rows;
+
+    @Param({"blocking", "reactive"})
+    private String api;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.startWeb(new String[]{"reactive"}, "logging.level.root=WARN");
+        context.getBean(TaskService.class).createTasks(BenchmarkApplication.requests(rows * 4));
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        String path = "reactive".equals(api) ? "/api/reactive/tasks/status/PENDING" : "/api/tasks/status/PENDING";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", "reactive".equals(api) ? "application/x-ndjson" : "application/json")
+                .GET()
+                .build();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        long peak = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+        System.out.printf("%n[%s, rows=%d] peak heap %d MB%n", api, rows, peak >> 20);
+        context.close();
+    }
+
+    // Drains the body without keeping it, as a streaming client would
+    @Benchmark
+    public long readAll() throws IOException, InterruptedException {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        try (InputStream body = client.send(request, HttpResponse.BodyHandlers.ofInputStream()).body()) {
+            for (int n; (n = body.read(buffer)) > 0; ) {
+                total += n;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,87 @@
+package com.learn.taskManagement.benchmark;
+
+import com.learn.taskManagement.dto.TaskBatchResponseDto;
+import com.learn.taskManagement.dto.TaskImportJobDto;
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.enums.ImportFormat;
+import com.learn.taskManagement.importer.TaskImportService;
+import com.learn.taskManagement.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Rows/sec of the single-create path versus POST /api/tasks/batch and a streamed CSV import
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskBatchInsertBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int IMPORT_ROWS = 20_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private List<TaskRequestDto> requests;
+    private TaskImportService importService;
+    private byte[] csv;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        taskService = context.getBean(TaskService.class);
+        requests = BenchmarkApplication.requests(ROWS);
+        importService = context.getBean(TaskImportService.class);
+        StringBuilder builder = new StringBuilder("title,description,priority,taskStatus,dueDate\n");
+        for (TaskRequestDto request : BenchmarkApplication.requests(IMPORT_ROWS)) {
+            builder.append(request.getTitle()).append(',').append(request.getDescription()).append(',')
+                    .append(request.getPriority()).append(',').append(request.getTaskStatus()).append(',')
+                    .append(request.getDueDate()).append('\n');
+        }
+        csv = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void singleCreate(Blackhole blackhole) {
+        for (TaskRequestDto request : requests) {
+            blackhole.consume(taskService.createTask(request));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public TaskBatchResponseDto batchCreate() {
+        return taskService.createTasks(requests);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IMPORT_ROWS)
+    public TaskImportJobDto csvImport() {
+        return importService.upload(importService.create().getId(), ImportFormat.CSV, new ByteArrayInputStream(csv));
+    }
+}
@@ -0,0 +1,153 @@
+package com.learn.taskManagement.benchmark;
+
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.store.InMemoryTaskStore;
+import com.learn.taskManagement.store.TaskJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Startup time of the journalled in-memory engine with 1M tasks, loaded from the journal alone or from a snapshot,
+// and sustained writes/sec with writers waiting for the group-commit fsync or acknowledged from the page cache.
+// The fork gets a larger heap because the previous run's store is still reachable while the next one loads
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class TaskJournalBenchmark {
+
+    private static final int STARTUP_TASKS = 1_000_000;
+    private static final int WRITE_TASKS = 10_000;
+
+    private static Task task(int i) {
+        return Task.builder()
+                .title("Journalled task " + i)
+                .description("Generated for the journal benchmark, row " + i)
+                .priority(Priority.values()[i % Priority.values().length])
+                .taskStatus(TaskStatus.values()[i % TaskStatus.values().length])
+                .dueDate(LocalDate.now().plusDays(i % 365))
+                .build();
+    }
+
+    private static TaskJournal journal(InMemoryTaskStore store, Path directory, boolean awaitSync) throws IOException {
+        return new TaskJournal(store, directory.toString(), DataSize.ofMegabytes(64), Duration.ofMillis(10), awaitSync);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Startup {
+
+        @Param({"journal", "snapshot"})
+        String from;
+
+        Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("task-journal-startup");
+            InMemoryTaskStore store = new InMemoryTaskStore(Clock.systemDefaultZone());
+            TaskJournal journal = journal(store, directory, false);
+            List<Task> chunk = new ArrayList<>(1_000);
+            for (int i = 0; i < STARTUP_TASKS; i++) {
+                chunk.add(task(i));
+                if (chunk.size() == 1_000) {
+                    store.saveAll(chunk);
+                    chunk.clear();
+                }
+            }
+            if (from.equals("snapshot")) {
+                journal.snapshot();
+            }
+            journal.close();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Writes {
+
+        @Param({"true", "false"})
+        boolean awaitSync;
+
+        Path directory;
+        InMemoryTaskStore store;
+        TaskJournal journal;
+        List<Long> ids;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("task-journal-writes");
+            store = new InMemoryTaskStore(Clock.systemDefaultZone());
+            journal = journal(store, directory, awaitSync);
+            List<Task> tasks = new ArrayList<>(WRITE_TASKS);
+            for (int i = 0; i < WRITE_TASKS; i++) {
+                tasks.add(task(i));
+            }
+            ids = store.saveAll(tasks).stream().map(Task::getId).toList();
+        }
+
+        // Snapshots between iterations keep the journal, and the disk it uses, bounded
+        @TearDown(Level.Iteration)
+        public void compact() {
+            journal.snapshot();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            journal.close();
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public int startup(Startup startup) throws IOException {
+        InMemoryTaskStore store = new InMemoryTaskStore(Clock.systemDefaultZone());
+        TaskJournal journal = journal(store, startup.directory, true);
+        journal.close();
+        return store.findAfter(null, STARTUP_TASKS - 1L, 1).size();
+    }
+
+    // Unversioned saves of existing tasks, so each write is a full row image without optimistic-lock failures
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    @Threads(8)
+    public Task write(Writes writes) {
+        int i = ThreadLocalRandom.current().nextInt(WRITE_TASKS);
+        Task task = task(i);
+        task.setId(writes.ids.get(i));
+        return writes.store.save(task);
+    }
+}
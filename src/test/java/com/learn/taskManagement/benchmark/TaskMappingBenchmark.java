@@ -0,0 +1,88 @@
+package com.learn.taskManagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.service.TaskServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import java.util.concurrent.TimeUnit;
+
+// DTO <-> entity mapping in TaskServiceImpl, including enum parsing on the request path.
+// Run with -prof gc to see allocations per operation.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    private TaskServiceImpl taskService;
+    private TaskRequestDto request;
+    private Task entity;
+    private String rawPriority;
+    private String rawStatus;
+    private ObjectReader requestReader;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() {
+        taskService = BenchmarkApplication.mappingOnlyService();
+        request = BenchmarkApplication.request(1);
+        entity = BenchmarkApplication.entity(1);
+        rawPriority = "high";
+        rawStatus = "in_progress";
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        requestReader = objectMapper.readerFor(TaskRequestDto.class);
+        requestJson = ("{\"title\":\"Benchmark task\",\"description\":\"Generated\","
+                + "\"priority\":\"high\",\"taskStatus\":\"in_progress\",\"dueDate\":\"2030-01-01\"}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Task mapToEntity() {
+        return taskService.mapToEntity(request);
+    }
+
+    @Benchmark
+    public TaskResponseDto mapToDto() {
+        return taskService.mapToDto(entity);
+    }
+
+    @Benchmark
+    public void parseEnums(Blackhole blackhole) {
+        blackhole.consume(Priority.fromValue(rawPriority));
+        blackhole.consume(TaskStatus.fromValue(rawStatus));
+    }
+
+    // Previous approach, kept as the baseline for parseEnums
+    @Benchmark
+    public void parseEnumsUpperCase(Blackhole blackhole) {
+        blackhole.consume(Priority.valueOf(rawPriority.toUpperCase()));
+        blackhole.consume(TaskStatus.valueOf(rawStatus.toUpperCase()));
+    }
+
+    @Benchmark
+    public TaskRequestDto deserializeRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+}
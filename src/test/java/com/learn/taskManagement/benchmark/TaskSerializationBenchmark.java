@@ -0,0 +1,74 @@
+package com.learn.taskManagement.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.event.TaskEvent;
+import com.learn.taskManagement.render.TaskJsonCache;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson encoding of list responses, configured the way Spring Boot configures the web ObjectMapper, against the
+// pre-encoded list cache when the list is unchanged and when one task in it has just been updated
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponseDto> tasks;
+    private TaskJsonCache taskJsonCache;
+    private TaskResponseDto updated;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(BenchmarkApplication.response(i));
+        }
+        taskJsonCache = new TaskJsonCache(objectMapper, size, Duration.ofHours(1), 1000);
+        updated = tasks.get(size / 2);
+        updated.setVersion(0L);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] cachedList() {
+        return taskJsonCache.tasksByPriority(TenantContext.DEFAULT_TENANT, updated.getPriority(), () -> tasks).json();
+    }
+
+    // The updated task is re-encoded; every other row is copied from its fragment
+    @Benchmark
+    public byte[] cachedListAfterUpdate() {
+        updated.setVersion(updated.getVersion() + 1);
+        taskJsonCache.onTaskEvent(TaskEvent.updated(updated, updated));
+        return taskJsonCache.tasksByPriority(TenantContext.DEFAULT_TENANT, updated.getPriority(), () -> tasks).json();
+    }
+}
@@ -0,0 +1,89 @@
+package com.learn.taskManagement.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.render.TaskColumnarCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// Encode and decode time of a 10k-task response as JSON (the web ObjectMapper) and as the columnar encoding. Payload
+// sizes, raw and gzipped, are printed once per fork in setUp.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskWireFormatBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader listReader;
+    private List<TaskResponseDto> tasks;
+    private byte[] json;
+    private byte[] columnar;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listReader = objectMapper.readerFor(new TypeReference<List<TaskResponseDto>>() {
+        });
+        tasks = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            TaskResponseDto task = BenchmarkApplication.response(i);
+            task.setVersion((long) i % 4);
+            tasks.add(task);
+        }
+        json = objectMapper.writeValueAsBytes(tasks);
+        columnar = TaskColumnarCodec.encode(tasks);
+        System.out.printf("%n%d tasks: JSON %d bytes (%d gzipped), columnar %d bytes (%d gzipped)%n",
+                SIZE, json.length, gzipped(json), columnar.length, gzipped(columnar));
+    }
+
+    private static int gzipped(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] encodeColumnar() {
+        return TaskColumnarCodec.encode(tasks);
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> decodeJson() throws IOException {
+        return listReader.readValue(json);
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> decodeColumnar() {
+        return TaskColumnarCodec.decode(columnar);
+    }
+}
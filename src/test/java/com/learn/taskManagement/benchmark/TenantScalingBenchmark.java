@@ -0,0 +1,84 @@
+package com.learn.taskManagement.benchmark;
+
+import com.learn.taskManagement.dto.TaskBatchResponseDto;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.service.TaskService;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// One tenant's reads while the rest of the table grows around it: with tenant-leading indexes the latency
+// should follow the tenant's own row count, not the total
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TenantScalingBenchmark {
+
+    private static final String TENANT = "measured";
+    private static final int TENANT_ROWS = 1_000;
+    private static final int ROWS_PER_OTHER_TENANT = 10_000;
+
+    // Rows in the table across all tenants, the measured tenant's included
+    @Param({"10000", "100000"})
+    private int totalRows;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        taskService = context.getBean(TaskService.class);
+        seed(TENANT, TENANT_ROWS);
+        for (int tenant = 0, left = totalRows - TENANT_ROWS; left > 0; tenant++, left -= ROWS_PER_OTHER_TENANT) {
+            seed("other-" + tenant, Math.min(left, ROWS_PER_OTHER_TENANT));
+        }
+    }
+
+    private void seed(String tenantId, int rows) {
+        try (TenantContext.Scope scope = TenantContext.enter(tenantId)) {
+            TaskBatchResponseDto seeded = taskService.createTasks(BenchmarkApplication.requests(rows));
+            if (seeded.getFailed() > 0) {
+                throw new IllegalStateException("Seeding failed: " + seeded.getResults());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> tasksByStatus() {
+        try (TenantContext.Scope scope = TenantContext.enter(TENANT)) {
+            return taskService.getTasksByStatus(TaskStatus.PENDING);
+        }
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> keysetPage() {
+        try (TenantContext.Scope scope = TenantContext.enter(TENANT)) {
+            return taskService.getTasksAfter(TaskStatus.PENDING, null, 0, 50);
+        }
+    }
+}
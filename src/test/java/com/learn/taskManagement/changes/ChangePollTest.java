@@ -0,0 +1,80 @@
+package com.learn.taskManagement.changes;
+
+import com.learn.taskManagement.dto.TaskChangesResponseDto;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.event.TaskEvent;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangePollTest {
+
+    private final Queue<Runnable> executor = new ArrayDeque<>();
+
+    private static TaskEvent created(long id, String tenantId) {
+        return TaskEvent.created(TaskResponseDto.builder().id(id).tenantId(tenantId).title("Task " + id)
+                .taskStatus(TaskStatus.PENDING).version(0L).build());
+    }
+
+    private void runQueued() {
+        while (!executor.isEmpty()) {
+            executor.poll().run();
+        }
+    }
+
+    @Test
+    void shouldReadOnTheExecutorNotTheAppendingThread() {
+        TaskChangeFeed feed = new TaskChangeFeed(8, Clock.systemUTC());
+        DeferredResult<TaskChangesResponseDto> result = new DeferredResult<>();
+        new ChangePoll(feed, TenantContext.DEFAULT_TENANT, result, executor::add, 0, 10).start();
+        runQueued();
+
+        feed.append(created(1, TenantContext.DEFAULT_TENANT));
+
+        assertThat(result.hasResult()).isFalse();
+        runQueued();
+        TaskChangesResponseDto changes = (TaskChangesResponseDto) result.getResult();
+        assertThat(changes.getChanges()).extracting(TaskChange::sequence).containsExactly(1L);
+        assertThat(changes.getNextSince()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldResumeFromTheLastScannedSequence() {
+        // Other tenants' traffic laps the ring from since; a poll that re-scanned from there would be told to resync
+        TaskChangeFeed feed = new TaskChangeFeed(4, Clock.systemUTC());
+        DeferredResult<TaskChangesResponseDto> result = new DeferredResult<>();
+        new ChangePoll(feed, TenantContext.DEFAULT_TENANT, result, executor::add, 0, 10).start();
+        for (long id = 1; id <= 6; id++) {
+            feed.append(created(id, "acme"));
+            runQueued();
+        }
+
+        feed.append(created(7, TenantContext.DEFAULT_TENANT));
+        runQueued();
+
+        TaskChangesResponseDto changes = (TaskChangesResponseDto) result.getResult();
+        assertThat(changes.isResyncRequired()).isFalse();
+        assertThat(changes.getChanges()).extracting(TaskChange::sequence).containsExactly(7L);
+    }
+
+    @Test
+    void shouldStopListeningOnceAnswered() {
+        TaskChangeFeed feed = new TaskChangeFeed(8, Clock.systemUTC());
+        DeferredResult<TaskChangesResponseDto> result = new DeferredResult<>();
+        new ChangePoll(feed, TenantContext.DEFAULT_TENANT, result, executor::add, 0, 10).start();
+        feed.append(created(1, TenantContext.DEFAULT_TENANT));
+        runQueued();
+
+        feed.append(created(2, TenantContext.DEFAULT_TENANT));
+
+        assertThat(executor).isEmpty();
+        assertThat(((TaskChangesResponseDto) result.getResult()).getChanges()).hasSize(1);
+    }
+}
@@ -0,0 +1,107 @@
+package com.learn.taskManagement.changes;
+
+import com.learn.taskManagement.dto.TaskChangesResponseDto;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.event.TaskEvent;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskChangeFeedTest {
+
+    private TaskResponseDto task(long id, String title, TaskStatus status, long version) {
+        return TaskResponseDto.builder().id(id).title(title).taskStatus(status).version(version).build();
+    }
+
+    @Test
+    void shouldReadChangesInSequenceWithChangedFields() {
+        TaskChangeFeed feed = new TaskChangeFeed(8, Clock.systemUTC());
+        TaskResponseDto created = task(1, "Write report", TaskStatus.PENDING, 0);
+        TaskResponseDto completed = task(1, "Write report", TaskStatus.COMPLETED, 1);
+        feed.append(TaskEvent.created(created));
+        feed.append(TaskEvent.updated(created, completed));
+        feed.append(TaskEvent.deleted(completed));
+
+        TaskChangesResponseDto all = feed.read(TenantContext.DEFAULT_TENANT, 0, 10);
+        assertThat(all.getChanges()).extracting(TaskChange::sequence).containsExactly(1L, 2L, 3L);
+        assertThat(all.getChanges()).extracting(TaskChange::operation)
+                .containsExactly(TaskEvent.Type.CREATED, TaskEvent.Type.UPDATED, TaskEvent.Type.DELETED);
+        assertThat(all.getChanges().get(1).changedFields()).containsExactly("taskStatus");
+        assertThat(all.getChanges().get(1).version()).isEqualTo(1L);
+        assertThat(all.getNextSince()).isEqualTo(3);
+
+        TaskChangesResponseDto tail = feed.read(TenantContext.DEFAULT_TENANT, 1, 1);
+        assertThat(tail.getChanges()).extracting(TaskChange::sequence).containsExactly(2L);
+        assertThat(feed.read(TenantContext.DEFAULT_TENANT, 3, 10).getChanges()).isEmpty();
+    }
+
+    @Test
+    void shouldAskForResyncWhenBehindTheBufferOrAheadOfIt() {
+        TaskChangeFeed feed = new TaskChangeFeed(4, Clock.systemUTC());
+        for (int i = 1; i <= 6; i++) {
+            feed.append(TaskEvent.created(task(i, "Task " + i, TaskStatus.PENDING, 0)));
+        }
+
+        assertThat(feed.read(TenantContext.DEFAULT_TENANT, 2, 10).getChanges()).extracting(TaskChange::sequence).containsExactly(3L, 4L, 5L, 6L);
+
+        TaskChangesResponseDto lapped = feed.read(TenantContext.DEFAULT_TENANT, 1, 10);
+        assertThat(lapped.isResyncRequired()).isTrue();
+        assertThat(lapped.getNextSince()).isEqualTo(6);
+
+        assertThat(feed.read(TenantContext.DEFAULT_TENANT, 99, 10).isResyncRequired()).isTrue();
+    }
+
+    @Test
+    void shouldNotifyListenersOnAppend() {
+        TaskChangeFeed feed = new TaskChangeFeed(4, Clock.systemUTC());
+        AtomicInteger calls = new AtomicInteger();
+        Runnable listener = calls::incrementAndGet;
+        feed.addListener(listener);
+
+        feed.append(TaskEvent.created(task(1, "One", TaskStatus.PENDING, 0)));
+        feed.removeListener(listener);
+        feed.append(TaskEvent.created(task(2, "Two", TaskStatus.PENDING, 0)));
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldNeverSkipOrReorderUnderConcurrentWriters() throws InterruptedException {
+        TaskChangeFeed feed = new TaskChangeFeed(1 << 16, Clock.systemUTC());
+        int writers = 4;
+        int perWriter = 5_000;
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        for (int w = 0; w < writers; w++) {
+            pool.execute(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    feed.append(TaskEvent.created(task(i, "Task", TaskStatus.PENDING, 0)));
+                }
+            });
+        }
+
+        List<Long> seen = new ArrayList<>();
+        long since = 0;
+        while (seen.size() < writers * perWriter) {
+            TaskChangesResponseDto batch = feed.read(TenantContext.DEFAULT_TENANT, since, 1000);
+            assertThat(batch.isResyncRequired()).isFalse();
+            batch.getChanges().forEach(change -> seen.add(change.sequence()));
+            since = batch.getNextSince();
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < seen.size(); i++) {
+            assertThat(seen.get(i)).isEqualTo(i + 1L);
+        }
+    }
+}
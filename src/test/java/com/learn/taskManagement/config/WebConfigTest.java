@@ -0,0 +1,79 @@
+package com.learn.taskManagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.learn.taskManagement.controller.TaskController;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.SearchMode;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.render.TaskJsonCache;
+import com.learn.taskManagement.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.format.support.FormattingConversionService;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class WebConfigTest {
+
+    @Mock
+    TaskService taskService;
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        FormattingConversionService conversionService = new FormattingConversionService();
+        new WebConfig().addFormatters(conversionService);
+        mockMvc = MockMvcBuilders.standaloneSetup(new TaskController(taskService, objectMapper,
+                        new TaskJsonCache(objectMapper, 1000, Duration.ofMinutes(1), 1000)))
+                .setConversionService(conversionService)
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .build();
+    }
+
+    @Test
+    void shouldRejectUnknownEnumValuesInsteadOfDroppingTheFilter() throws Exception {
+        mockMvc.perform(get("/api/tasks/filter").param("status", "bogus")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/filter").param("priority", "urgent")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/search").param("q", "report").param("status", "bogus"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/search").param("q", "report").param("mode", "XOR"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void shouldStillParseCaseInsensitivelyAndTreatEmptyAsAbsent() throws Exception {
+        when(taskService.searchTasks(any(), any(), any(), any(), eq(20))).thenReturn(List.of());
+        when(taskService.filterTasks(any(), any(), any(), any(), any())).thenReturn(Page.empty());
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "report").param("mode", "or").param("status", "in_progress"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/filter").param("status", "").param("priority", "High"))
+                .andExpect(status().isOk());
+
+        verify(taskService).searchTasks("report", SearchMode.OR, TaskStatus.IN_PROGRESS, null, 20);
+        verify(taskService).filterTasks(isNull(), eq(Priority.HIGH), isNull(), isNull(), any());
+    }
+}
@@ -0,0 +1,92 @@
+package com.learn.taskManagement.controller;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.service.ReactiveTaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaskControllerTest {
+
+    // More than one NDJSON chunk, ending part-way through the last
+    static final int TASKS = 600;
+
+    @Mock
+    ReactiveTaskService taskService;
+
+    MockMvc mockMvc;
+
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ReactiveTaskController(taskService, objectMapper)).build();
+        when(taskService.getAllTasks()).thenReturn(Flux.range(1, TASKS).map(id -> TaskResponseDto.builder()
+                .id((long) id)
+                .title("Task " + id)
+                .priority(Priority.HIGH)
+                .taskStatus(TaskStatus.PENDING)
+                .build()));
+    }
+
+    private String stream(MediaType accept) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/tasks").accept(accept))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // Blocks until the stream completes
+        result.getAsyncResult();
+        assertThat(result.getResponse().getContentType()).startsWith(accept.toString());
+        return result.getResponse().getContentAsString();
+    }
+
+    @Test
+    void shouldStreamOneJsonObjectPerNdjsonLine() throws Exception {
+        String body = stream(MediaType.APPLICATION_NDJSON);
+
+        // A line holding two objects fails instead of yielding the first
+        ObjectReader reader = objectMapper.reader().with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        List<Long> ids = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            JsonNode task = reader.readTree(line);
+            assertThat(task.isObject()).isTrue();
+            ids.add(task.get("id").asLong());
+        }
+        assertThat(body).endsWith("\n");
+        assertThat(ids).hasSize(TASKS).isSorted().startsWith(1L).endsWith((long) TASKS);
+    }
+
+    @Test
+    void shouldStreamOneServerSentEventPerTask() throws Exception {
+        String body = stream(MediaType.TEXT_EVENT_STREAM);
+
+        List<Long> ids = new ArrayList<>();
+        for (String event : body.split("\n\n")) {
+            assertThat(event).startsWith("data:");
+            ids.add(objectMapper.readTree(event.substring("data:".length())).get("id").asLong());
+        }
+        assertThat(ids).hasSize(TASKS).isSorted().startsWith(1L).endsWith((long) TASKS);
+    }
+}
@@ -0,0 +1,60 @@
+package com.learn.taskManagement.controller;
+
+import com.learn.taskManagement.changes.TaskChangeFeed;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.event.TaskEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class TaskChangeControllerTest {
+
+    TaskChangeFeed feed = new TaskChangeFeed(16, Clock.systemUTC());
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TaskChangeController(feed, Runnable::run,
+                Duration.ofSeconds(30), Duration.ofMinutes(30), 500)).build();
+        for (long id = 1; id <= 3; id++) {
+            feed.append(TaskEvent.created(TaskResponseDto.builder().id(id).title("Task " + id)
+                    .taskStatus(TaskStatus.PENDING).version(0L).build()));
+        }
+    }
+
+    private String stream(Long since, Long lastEventId) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/api/tasks/changes/stream");
+        if (since != null) {
+            builder.param("since", since.toString());
+        }
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId.toString());
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    @Test
+    void shouldStreamFromSinceOnFirstConnect() throws Exception {
+        assertThat(stream(0L, null)).contains("id:1\n", "id:2\n", "id:3\n");
+    }
+
+    @Test
+    void shouldResumeFromLastEventIdWhenAReconnectStillCarriesSince() throws Exception {
+        String body = stream(0L, 2L);
+
+        assertThat(body).contains("id:3\n").doesNotContain("id:1\n", "id:2\n");
+    }
+}
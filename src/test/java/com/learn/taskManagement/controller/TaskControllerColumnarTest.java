@@ -0,0 +1,104 @@
+package com.learn.taskManagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.render.TaskColumnarCodec;
+import com.learn.taskManagement.render.TaskColumnarHttpMessageConverter;
+import com.learn.taskManagement.render.TaskJsonCache;
+import com.learn.taskManagement.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TaskControllerColumnarTest {
+
+    @Mock
+    TaskService taskService;
+
+    MockMvc mockMvc;
+
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeEach
+    void setUp() {
+        TaskController controller = new TaskController(taskService, objectMapper,
+                new TaskJsonCache(objectMapper, 1000, Duration.ofMinutes(1), 1000));
+        // Same order as WebConfig: the columnar converter comes after Jackson
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(new ByteArrayHttpMessageConverter(),
+                        new MappingJackson2HttpMessageConverter(objectMapper),
+                        new TaskColumnarHttpMessageConverter())
+                .build();
+    }
+
+    private static List<TaskResponseDto> tasks() {
+        return List.of(TaskResponseDto.builder()
+                .id(1L)
+                .title("Columnar task")
+                .priority(Priority.HIGH)
+                .taskStatus(TaskStatus.NOT_STARTED)
+                .dueDate(LocalDate.of(2030, 1, 1))
+                .version(0L)
+                .build());
+    }
+
+    private static byte[] columnar(MockMvc mockMvc, String path) throws Exception {
+        return mockMvc.perform(get(path).accept(TaskColumnarHttpMessageConverter.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TaskColumnarHttpMessageConverter.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    @Test
+    void shouldServeColumnarListsWhenAsked() throws Exception {
+        when(taskService.getTasksByPriority(Priority.HIGH)).thenReturn(tasks());
+        when(taskService.getTasksDueWithin(Period.ZERO, 50)).thenReturn(tasks());
+
+        assertThat(TaskColumnarCodec.decode(columnar(mockMvc, "/api/tasks/priority/HIGH"))).isEqualTo(tasks());
+        assertThat(TaskColumnarCodec.decode(columnar(mockMvc, "/api/tasks/due"))).isEqualTo(tasks());
+    }
+
+    @Test
+    void shouldServeSingleTaskAsOneRow() throws Exception {
+        when(taskService.getTaskById(1L)).thenReturn(tasks().get(0));
+
+        assertThat(TaskColumnarCodec.decode(columnar(mockMvc, "/api/tasks/1"))).isEqualTo(tasks());
+    }
+
+    @Test
+    void shouldKeepJsonAsTheDefault() throws Exception {
+        when(taskService.getTasksByStatus(TaskStatus.NOT_STARTED)).thenReturn(tasks());
+        when(taskService.getTasksDueWithin(Period.ZERO, 50)).thenReturn(tasks());
+
+        mockMvc.perform(get("/api/tasks/status/NOT_STARTED").header(HttpHeaders.ACCEPT, "*/*"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/tasks/due"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(objectMapper.writeValueAsString(tasks())));
+    }
+}
@@ -0,0 +1,201 @@
+package com.learn.taskManagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.exception.PreconditionFailedException;
+import com.learn.taskManagement.render.TaskJsonCache;
+import com.learn.taskManagement.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.json.JsonCompareMode;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TaskControllerConditionalRequestTest {
+
+    @Mock
+    TaskService taskService;
+
+    MockMvc mockMvc;
+
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TaskController(taskService, objectMapper,
+                new TaskJsonCache(objectMapper, 1000, Duration.ofMinutes(1), 1000))).build();
+    }
+
+    private TaskResponseDto response(long version) {
+        return TaskResponseDto.builder()
+                .id(1L)
+                .title("Sample Task")
+                .priority(Priority.HIGH)
+                .taskStatus(TaskStatus.PENDING)
+                .version(version)
+                .build();
+    }
+
+    private String requestBody() throws Exception {
+        return objectMapper.writeValueAsString(TaskRequestDto.builder()
+                .title("Sample Task")
+                .description("Desc")
+                .priority(Priority.HIGH)
+                .taskStatus(TaskStatus.PENDING)
+                .dueDate(LocalDate.now().plusDays(2))
+                .build());
+    }
+
+    @Test
+    void shouldReturnETagOnGet() throws Exception {
+        when(taskService.getTaskById(1L)).thenReturn(response(2L));
+
+        mockMvc.perform(get("/api/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedFromVersionOnly() throws Exception {
+        when(taskService.getTaskVersion(1L)).thenReturn(2L);
+
+        mockMvc.perform(get("/api/tasks/1").header(HttpHeaders.IF_NONE_MATCH, "\"1\", W/\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(content().string(""));
+        verify(taskService, never()).getTaskById(anyLong());
+    }
+
+    @Test
+    void shouldReturnBodyWhenETagIsStale() throws Exception {
+        when(taskService.getTaskVersion(1L)).thenReturn(3L);
+        when(taskService.getTaskById(1L)).thenReturn(response(3L));
+
+        mockMvc.perform(get("/api/tasks/1").header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
+    @Test
+    void shouldPassIfMatchVersionToUpdate() throws Exception {
+        when(taskService.updateTask(eq(1L), any(TaskRequestDto.class), eq(2L))).thenReturn(response(3L));
+
+        mockMvc.perform(put("/api/tasks/1")
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
+    @Test
+    void shouldRejectWeakIfMatch() throws Exception {
+        mockMvc.perform(put("/api/tasks/1")
+                        .header(HttpHeaders.IF_MATCH, "W/\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody()))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void shouldRejectABlankPatchTitle() throws Exception {
+        mockMvc.perform(patch("/api/tasks/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"   \"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).patchTask(anyLong(), any());
+    }
+
+    @Test
+    void shouldRequireTheTaskToExistForIfMatchAny() throws Exception {
+        doThrow(new PreconditionFailedException("missing")).when(taskService).deleteTask(1L, null);
+
+        mockMvc.perform(delete("/api/tasks/1").header(HttpHeaders.IF_MATCH, "*"))
+                .andExpect(status().isPreconditionFailed());
+        verify(taskService, never()).deleteTask(1L);
+    }
+
+    @Test
+    void shouldReturnPreconditionFailedOnStaleDelete() throws Exception {
+        doThrow(new PreconditionFailedException("stale")).when(taskService).deleteTask(1L, 1L);
+
+        mockMvc.perform(delete("/api/tasks/1").header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void shouldServeCachedListWithWeakETagAndAnswerNotModified() throws Exception {
+        when(taskService.getTasksByPriority(Priority.HIGH)).thenReturn(List.of(response(2L)));
+
+        String etag = mockMvc.perform(get("/api/tasks/priority/HIGH"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().json(objectMapper.writeValueAsString(List.of(response(2L))), JsonCompareMode.STRICT))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(etag).startsWith("W/\"");
+        mockMvc.perform(get("/api/tasks/priority/HIGH").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(taskService, times(1)).getTasksByPriority(Priority.HIGH);
+    }
+
+    @Test
+    void shouldGzipLargeListsWhenAccepted() throws Exception {
+        List<TaskResponseDto> tasks = Collections.nCopies(50, response(1L));
+        when(taskService.getTasksByStatus(TaskStatus.PENDING)).thenReturn(tasks);
+
+        byte[] body = mockMvc.perform(get("/api/tasks/status/PENDING").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(gunzip(body)).isEqualTo(objectMapper.writeValueAsString(tasks));
+        mockMvc.perform(get("/api/tasks/status/PENDING").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.learn.taskManagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.filter.TenantFilter;
+import com.learn.taskManagement.render.TaskJsonCache;
+import com.learn.taskManagement.service.TaskService;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TaskControllerExportTest {
+
+    @Mock
+    TaskService taskService;
+
+    MockMvc mockMvc;
+
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TaskController(taskService, objectMapper,
+                        new TaskJsonCache(objectMapper, 1000, Duration.ofMinutes(1), 1000)))
+                .addFilters(new TenantFilter("X-Tenant-ID", null))
+                .build();
+        // Stands in for a tenant-scoped read: exports whichever tenant the streaming thread is in
+        doAnswer(invocation -> {
+            Consumer<TaskResponseDto> consumer = invocation.getArgument(0);
+            consumer.accept(TaskResponseDto.builder().id(1L).tenantId(TenantContext.current()).build());
+            return null;
+        }).when(taskService).streamAllTasks(any());
+    }
+
+    private String export(String tenantId) throws Exception {
+        MvcResult started = mockMvc.perform(tenantId == null ? get("/api/tasks/export")
+                        : get("/api/tasks/export").header("X-Tenant-ID", tenantId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    @Test
+    void shouldStreamOnlyTheRequestingTenantsTasks() throws Exception {
+        String acme = export("acme");
+        String fallback = export(null);
+
+        assertThat(acme).contains("\"tenantId\":\"acme\"").doesNotContain(TenantContext.DEFAULT_TENANT);
+        assertThat(fallback).contains("\"tenantId\":\"" + TenantContext.DEFAULT_TENANT + "\"");
+    }
+}
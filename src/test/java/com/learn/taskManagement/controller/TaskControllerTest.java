@@ -53,8 +53,8 @@ class TaskControllerTest {
         return TaskRequestDto.builder()
                 .title("Sample Task")
                 .description("Desc")
-                .priority(String.valueOf(Priority.HIGH))
-                .taskStatus(String.valueOf(TaskStatus.PENDING))
+                .priority(Priority.HIGH)
+                .taskStatus(TaskStatus.PENDING)
                 .dueDate(LocalDate.now().plusDays(2))
                 .build();
     }
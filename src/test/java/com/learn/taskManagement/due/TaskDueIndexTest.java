@@ -0,0 +1,124 @@
+package com.learn.taskManagement.due;
+
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.event.TaskEvent;
+import com.learn.taskManagement.store.TaskStore;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class TaskDueIndexTest {
+
+    static final LocalDate TODAY = LocalDate.of(2030, 1, 10);
+
+    @Mock
+    TaskStore taskStore;
+
+    MutableClock clock = new MutableClock(TODAY);
+
+    TaskDueIndex dueIndex;
+
+    @BeforeEach
+    void setUp() {
+        dueIndex = new TaskDueIndex(taskStore, clock);
+    }
+
+    private TaskResponseDto task(long id, LocalDate dueDate, TaskStatus status) {
+        return TaskResponseDto.builder().id(id).dueDate(dueDate).taskStatus(status).build();
+    }
+
+    private List<Long> ids(List<DueTask> due) {
+        return due.stream().map(DueTask::id).toList();
+    }
+
+    @Test
+    void shouldAnswerDueWithinFromOpenTasksOnly() {
+        dueIndex.onTaskEvent(TaskEvent.created(task(1, TODAY.plusDays(5), TaskStatus.PENDING)));
+        dueIndex.onTaskEvent(TaskEvent.created(task(2, TODAY.minusDays(1), TaskStatus.IN_PROGRESS)));
+        dueIndex.onTaskEvent(TaskEvent.created(task(3, TODAY.plusDays(2), TaskStatus.PENDING)));
+        dueIndex.onTaskEvent(TaskEvent.created(task(4, TODAY, TaskStatus.COMPLETED)));
+
+        assertThat(ids(dueIndex.dueWithin(TenantContext.DEFAULT_TENANT, Period.ZERO, 10))).containsExactly(2L);
+        assertThat(ids(dueIndex.dueWithin(TenantContext.DEFAULT_TENANT, Period.ofDays(3), 10))).containsExactly(2L, 3L);
+        assertThat(ids(dueIndex.dueWithin(TenantContext.DEFAULT_TENANT, Period.ofDays(7), 2))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void shouldMoveAndDropTasksOnUpdateAndDelete() {
+        TaskResponseDto original = task(1, TODAY.plusDays(1), TaskStatus.PENDING);
+        TaskResponseDto moved = task(1, TODAY.plusDays(10), TaskStatus.PENDING);
+        TaskResponseDto completed = task(1, TODAY.plusDays(10), TaskStatus.COMPLETED);
+        dueIndex.onTaskEvent(TaskEvent.created(original));
+
+        dueIndex.onTaskEvent(TaskEvent.updated(original, moved));
+        assertThat(dueIndex.dueWithin(TenantContext.DEFAULT_TENANT, Period.ofDays(3), 10)).isEmpty();
+        assertThat(ids(dueIndex.dueWithin(TenantContext.DEFAULT_TENANT, Period.ofDays(10), 10))).containsExactly(1L);
+
+        dueIndex.onTaskEvent(TaskEvent.updated(moved, completed));
+        assertThat(dueIndex.size()).isZero();
+
+        dueIndex.onTaskEvent(TaskEvent.created(task(2, TODAY, TaskStatus.PENDING)));
+        dueIndex.onTaskEvent(TaskEvent.deleted(task(2, TODAY, TaskStatus.PENDING)));
+        assertThat(dueIndex.size()).isZero();
+    }
+
+    @Test
+    void shouldPublishNewlyOverdueTasksOnceInBatches() {
+        InMemoryOverdueSink sink = new InMemoryOverdueSink();
+        OverdueScanner scanner = new OverdueScanner(dueIndex, sink, clock, 2);
+        dueIndex.onTaskEvent(TaskEvent.created(task(1, TODAY, TaskStatus.PENDING)));
+        dueIndex.onTaskEvent(TaskEvent.created(task(2, TODAY, TaskStatus.PENDING)));
+        dueIndex.onTaskEvent(TaskEvent.created(task(3, TODAY.plusDays(1), TaskStatus.PENDING)));
+
+        assertThat(scanner.scan()).isZero();
+
+        clock.today = TODAY.plusDays(1);
+        assertThat(scanner.scan()).isEqualTo(2);
+        assertThat(scanner.scan()).isZero();
+
+        clock.today = TODAY.plusDays(3);
+        assertThat(scanner.scan()).isEqualTo(1);
+
+        assertThat(sink.batches()).extracting(batch -> batch.stream().map(DueTask::id).toList())
+                .containsExactly(List.of(1L, 2L), List.of(3L));
+    }
+
+    static class MutableClock extends Clock {
+
+        LocalDate today;
+
+        MutableClock(LocalDate today) {
+            this.today = today;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return today.atStartOfDay().toInstant(ZoneOffset.UTC);
+        }
+    }
+}
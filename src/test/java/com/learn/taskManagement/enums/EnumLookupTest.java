@@ -0,0 +1,111 @@
+package com.learn.taskManagement.enums;
+
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.service.TaskServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class EnumLookupTest {
+
+    private static final int ITERATIONS = 200_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Mixed-case inputs copied into fresh strings so nothing is served from the constant pool
+    private static final String[] PRIORITIES = {new String("low"), new String("Medium"), new String("HIGH")};
+    private static final String[] STATUSES = {new String("not_started"), new String("In_Progress"), new String("pending")};
+
+    // Collaborators stay null; only the mapping helpers are exercised
+    @InjectMocks
+    TaskServiceImpl taskService;
+
+    @Test
+    void shouldParseCaseInsensitively() {
+        assertThat(Priority.fromValue("hIgH")).isEqualTo(Priority.HIGH);
+        assertThat(TaskStatus.fromValue("in_progress")).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(Priority.fromValue("urgent")).isNull();
+        assertThat(TaskStatus.fromValue(null)).isNull();
+    }
+
+    @Test
+    void shouldNotAllocateWhenParsing() {
+        parseAll();
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        int hits = parseAll();
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(hits).isEqualTo(ITERATIONS * 2);
+        assertThat(allocated).isLessThan(ITERATIONS / 100);
+    }
+
+    @Test
+    void shouldNotAllocateBeyondTheEntityWhenMapping() {
+        TaskRequestDto request = TaskRequestDto.builder()
+                .title("Sample Task")
+                .priority(Priority.HIGH)
+                .taskStatus(TaskStatus.PENDING)
+                .dueDate(LocalDate.now())
+                .build();
+
+        // Best of a few rounds each: which loop the JIT has finished optimizing varies from run to run
+        long mapping = Long.MAX_VALUE;
+        long building = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            mapAll(taskService, request);
+            mapping = Math.min(mapping, THREADS.getCurrentThreadAllocatedBytes() - before);
+            before = THREADS.getCurrentThreadAllocatedBytes();
+            buildAll(request);
+            building = Math.min(building, THREADS.getCurrentThreadAllocatedBytes() - before);
+        }
+
+        // Mapping costs what building the entity costs, give or take measurement noise
+        assertThat(mapping / ITERATIONS).isLessThanOrEqualTo(building / ITERATIONS + 8);
+    }
+
+    private static int parseAll() {
+        int hits = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (Priority.fromValue(PRIORITIES[i % PRIORITIES.length]) != null) {
+                hits++;
+            }
+            if (TaskStatus.fromValue(STATUSES[i % STATUSES.length]) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static long mapAll(TaskServiceImpl taskService, TaskRequestDto request) {
+        long sum = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sum += taskService.mapToEntity(request).getTitle().length();
+        }
+        return sum;
+    }
+
+    private static long buildAll(TaskRequestDto request) {
+        long sum = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            Task task = Task.builder()
+                    .title(request.getTitle())
+                    .description(request.getDescription())
+                    .dueDate(request.getDueDate())
+                    .priority(request.getPriority())
+                    .taskStatus(request.getTaskStatus())
+                    .build();
+            sum += task.getTitle().length();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,61 @@
+package com.learn.taskManagement.filter;
+
+import com.learn.taskManagement.tenant.TenantContext;
+import com.learn.taskManagement.tenant.TenantRateLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantFilterTest {
+
+    private static MockHttpServletRequest request(String tenantId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        if (tenantId != null) {
+            request.addHeader("X-Tenant-ID", tenantId);
+        }
+        return request;
+    }
+
+    @Test
+    void shouldRunTheRequestInsideItsTenant() throws Exception {
+        TenantFilter filter = new TenantFilter("X-Tenant-ID", null);
+        List<String> seen = new ArrayList<>();
+
+        filter.doFilter(request("acme"), new MockHttpServletResponse(), (req, res) -> seen.add(TenantContext.current()));
+        filter.doFilter(request(null), new MockHttpServletResponse(), (req, res) -> seen.add(TenantContext.current()));
+
+        assertThat(seen).containsExactly("acme", TenantContext.DEFAULT_TENANT);
+        assertThat(TenantContext.current()).isEqualTo(TenantContext.DEFAULT_TENANT);
+    }
+
+    @Test
+    void shouldRejectMalformedTenantIds() throws Exception {
+        TenantFilter filter = new TenantFilter("X-Tenant-ID", null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("../acme"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    void shouldRateLimitEachTenantOnItsOwn() throws Exception {
+        TenantFilter filter = new TenantFilter("X-Tenant-ID", new TenantRateLimiter(1, 1));
+        filter.doFilter(request("noisy"), new MockHttpServletResponse(), new MockFilterChain());
+
+        MockHttpServletResponse limited = new MockHttpServletResponse();
+        filter.doFilter(request("noisy"), limited, new MockFilterChain());
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        filter.doFilter(request("quiet"), other, new MockFilterChain());
+
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(other.getStatus()).isEqualTo(200);
+    }
+}
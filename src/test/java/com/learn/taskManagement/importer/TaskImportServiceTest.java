@@ -0,0 +1,170 @@
+package com.learn.taskManagement.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.learn.taskManagement.dto.TaskBatchItemResultDto;
+import com.learn.taskManagement.dto.TaskImportJobDto;
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.enums.ImportFormat;
+import com.learn.taskManagement.enums.ImportStatus;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.exception.ImportConflictException;
+import com.learn.taskManagement.service.TaskService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceTest {
+
+    @Mock
+    TaskService taskService;
+
+    TaskImportService importService;
+
+    // Every task the fake store received, in commit order
+    final List<TaskRequestDto> stored = new ArrayList<>();
+    final AtomicLong nextId = new AtomicLong(1);
+
+    @BeforeEach
+    void setUp() {
+        importService = new TaskImportService(taskService,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                3, 2, 2, 100, 1024, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.close();
+    }
+
+    private void storeSucceeds() {
+        when(taskService.importTasks(anyList())).thenAnswer(invocation -> {
+            List<TaskRequestDto> chunk = invocation.getArgument(0);
+            stored.addAll(chunk);
+            return chunk.stream().map(task -> nextId.getAndIncrement()).toList();
+        });
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String csvRow(int i) {
+        return "Imported task " + i + ",,HIGH,PENDING,\n";
+    }
+
+    @Test
+    void shouldImportCsvWithQuotedFieldsAndReportRejectedRows() {
+        storeSucceeds();
+        String csv = "﻿title,Description,priority,taskStatus,dueDate\r\n"
+                + "\"Quoted, with comma\",\"Line one\nline \"\"two\"\"\",high,pending," + LocalDate.now().plusDays(1) + "\r\n"
+                + "\n"
+                + "ok task,,LOW,COMPLETED,\n"
+                + "x,,LOW,PENDING,\n"
+                + "bad priority,,URGENT,PENDING,\n"
+                + "bad date,,LOW,PENDING,tomorrow\n"
+                + "too,few\n";
+
+        TaskImportJobDto job = importService.upload(importService.create().getId(), ImportFormat.CSV, body(csv));
+
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.getRowsRead()).isEqualTo(6);
+        assertThat(job.getCommittedRows()).isEqualTo(6);
+        assertThat(job.getImported()).isEqualTo(2);
+        assertThat(job.getFailed()).isEqualTo(4);
+        assertThat(stored.get(0).getTitle()).isEqualTo("Quoted, with comma");
+        assertThat(stored.get(0).getDescription()).isEqualTo("Line one\nline \"two\"");
+        assertThat(stored.get(0).getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(stored.get(1).getTaskStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(job.getErrors()).extracting(TaskBatchItemResultDto::getIndex).containsExactly(2, 3, 4, 5);
+        assertThat(job.getErrors().get(0).getErrors()).containsExactly("title: Title must be between 3 to 100 char");
+        assertThat(job.getErrors().get(1).getErrors().get(0)).startsWith("Invalid priority 'URGENT'");
+        assertThat(job.getErrors().get(3).getErrors()).containsExactly("Expected 5 fields but found 2");
+    }
+
+    @Test
+    void shouldImportNdjsonInUploadOrderAcrossParallelChunks() {
+        storeSucceeds();
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            ndjson.append("{\"title\":\"Task ").append(i).append("\",\"priority\":\"LOW\",\"taskStatus\":\"NOT_STARTED\"}\n");
+        }
+        ndjson.append("{\"title\":\"Bad enum\",\"priority\":\"nope\",\"taskStatus\":\"PENDING\"}\n");
+        ndjson.append("not json\n");
+
+        TaskImportJobDto job = importService.upload(importService.create().getId(), ImportFormat.NDJSON, body(ndjson.toString()));
+
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.getImported()).isEqualTo(100);
+        assertThat(stored).extracting(TaskRequestDto::getTitle).startsWith("Task 0", "Task 1", "Task 2").endsWith("Task 99");
+        assertThat(job.getErrors()).extracting(TaskBatchItemResultDto::getIndex).containsExactly(100, 101);
+        assertThat(job.getErrors().get(0).getErrors().get(0)).startsWith("Invalid priority 'nope'");
+        assertThat(job.getRowsPerSecond()).isPositive();
+    }
+
+    @Test
+    void shouldResumeAfterTheLastCommittedChunk() {
+        AtomicInteger calls = new AtomicInteger();
+        when(taskService.importTasks(anyList())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 3) {
+                throw new IllegalStateException("database went away");
+            }
+            List<TaskRequestDto> chunk = invocation.getArgument(0);
+            stored.addAll(chunk);
+            return chunk.stream().map(task -> nextId.getAndIncrement()).toList();
+        });
+        StringBuilder csv = new StringBuilder("title,description,priority,taskStatus,dueDate\n");
+        for (int i = 0; i < 10; i++) {
+            csv.append(csvRow(i));
+        }
+        String id = importService.create().getId();
+
+        TaskImportJobDto failed = importService.upload(id, ImportFormat.CSV, body(csv.toString()));
+
+        assertThat(failed.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(failed.getMessage()).contains("database went away");
+        assertThat(failed.getCommittedRows()).isEqualTo(6);
+        assertThat(stored).hasSize(6);
+
+        TaskImportJobDto resumed = importService.upload(id, ImportFormat.CSV, body(csv.toString()));
+
+        assertThat(resumed.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(resumed.getCommittedRows()).isEqualTo(10);
+        assertThat(resumed.getImported()).isEqualTo(10);
+        assertThat(stored).extracting(TaskRequestDto::getTitle).doesNotHaveDuplicates().hasSize(10);
+        assertThatThrownBy(() -> importService.upload(id, ImportFormat.CSV, body(csv.toString())))
+                .isInstanceOf(ImportConflictException.class);
+    }
+
+    @Test
+    void shouldFailOnAnUnknownCsvColumn() {
+        TaskImportJobDto job = importService.upload(importService.create().getId(), ImportFormat.CSV,
+                body("title,owner\nSome task,me\n"));
+
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(job.getMessage()).contains("Unknown CSV column 'owner'");
+        assertThat(job.getCommittedRows()).isZero();
+    }
+}
@@ -0,0 +1,63 @@
+package com.learn.taskManagement.metrics;
+
+import com.learn.taskManagement.config.MetricsConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestQueryMetricsTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldClassifyStatements() {
+        assertThat(StatementCountingInspector.kind("select t1_0.id from task t1_0")).isZero();
+        assertThat(StatementCountingInspector.kind("  INSERT into task values (?)")).isEqualTo(1);
+        assertThat(StatementCountingInspector.kind("with recent as (select 1) select * from recent")).isZero();
+        assertThat(StatementCountingInspector.kind("call next value for task_seq")).isEqualTo(4);
+    }
+
+    @Test
+    void shouldRecordStatementsAndRowsPerRoute() {
+        StatementCountingInspector inspector = new StatementCountingInspector(meterRegistry);
+        RequestQueryInterceptor interceptor = new RequestQueryInterceptor(meterRegistry, 20);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/{id}");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+        inspector.inspect("select t1_0.id from task t1_0 where t1_0.id=?");
+        inspector.inspect("select t1_0.id from task t1_0 where t1_0.id=?");
+        new RowCountingListener().postLoad(new Object());
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        DistributionSummary statements = meterRegistry.get("task.request.statements").tag("uri", "/api/tasks/{id}").summary();
+        DistributionSummary rows = meterRegistry.get("task.request.rows").tag("uri", "/api/tasks/{id}").summary();
+        assertThat(statements.totalAmount()).isEqualTo(2);
+        assertThat(rows.totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("task.jpa.statements").tag("kind", "select").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldIgnoreStatementsOutsideRequests() {
+        StatementCountingInspector inspector = new StatementCountingInspector(meterRegistry);
+
+        inspector.inspect("update task set title=? where id=?");
+
+        assertThat(RequestQueryStats.end()).isNull();
+        assertThat(meterRegistry.get("task.jpa.statements").tag("kind", "update").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLoadInAContextWithoutARegistry() {
+        // As in a @WebMvcTest slice, where no metrics auto-configuration runs
+        new ApplicationContextRunner()
+                .withUserConfiguration(MetricsConfig.class)
+                .run(context -> assertThat(context).hasNotFailed().hasSingleBean(StatementCountingInspector.class));
+    }
+}
@@ -0,0 +1,73 @@
+package com.learn.taskManagement.render;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskColumnarCodecTest {
+
+    private static TaskResponseDto task(long id, int i) {
+        LocalDateTime created = LocalDateTime.of(2025, 3, 1, 8, 0).plusSeconds(i * 61L).plusNanos(i * 1_000L);
+        return TaskResponseDto.builder()
+                .id(id)
+                .title("Task " + i)
+                .description("Shared description")
+                .priority(Priority.values()[i % Priority.values().length])
+                .taskStatus(TaskStatus.values()[i % TaskStatus.values().length])
+                .dueDate(LocalDate.of(2025, 3, 1).plusDays(i % 40))
+                .createdAt(created)
+                .updatedAt(created.plusMinutes(i))
+                .version((long) i % 3)
+                .build();
+    }
+
+    @Test
+    void shouldRoundTripTasksNullsAndUnicode() {
+        List<TaskResponseDto> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(task(100 - i * 3, i));
+        }
+        tasks.add(TaskResponseDto.builder().id(7L).title("Ünïcode ✓ \"quoted\"").build());
+        tasks.add(task(Long.MAX_VALUE, 1));
+        tasks.add(TaskResponseDto.builder().id(-5L).dueDate(LocalDate.of(1969, 12, 31))
+                .createdAt(LocalDateTime.of(1960, 1, 1, 0, 0, 0, 123_000)).build());
+
+        assertThat(TaskColumnarCodec.decode(TaskColumnarCodec.encode(tasks))).isEqualTo(tasks);
+        assertThat(TaskColumnarCodec.decode(TaskColumnarCodec.encode(List.of()))).isEmpty();
+    }
+
+    @Test
+    void shouldBeSmallerThanJson() throws Exception {
+        List<TaskResponseDto> tasks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tasks.add(task(i + 1, i));
+        }
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        int json = objectMapper.writeValueAsBytes(tasks).length;
+
+        assertThat(TaskColumnarCodec.encode(tasks).length).isLessThan(json / 4);
+    }
+
+    @Test
+    void shouldRejectForeignAndTruncatedPayloads() {
+        byte[] encoded = TaskColumnarCodec.encode(List.of(task(1, 1), task(2, 2)));
+
+        assertThatThrownBy(() -> TaskColumnarCodec.decode("[{}]".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskColumnarCodec.decode(Arrays.copyOf(encoded, encoded.length - 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,121 @@
+package com.learn.taskManagement.render;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.event.TaskEvent;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskJsonCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final TaskJsonCache cache = new TaskJsonCache(objectMapper, 1000, Duration.ofMinutes(1), 1000);
+
+    private static TaskResponseDto task(long id, long version, Priority priority, TaskStatus status) {
+        return TaskResponseDto.builder()
+                .id(id)
+                .title("Task \"" + id + "\" ünïcode")
+                .description("Rendered once")
+                .priority(priority)
+                .taskStatus(status)
+                .dueDate(LocalDate.of(2030, 1, 1))
+                .createdAt(LocalDateTime.of(2030, 1, 1, 9, 30))
+                .version(version)
+                .build();
+    }
+
+    private static Supplier<List<TaskResponseDto>> counting(List<TaskResponseDto> tasks, AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            return tasks;
+        };
+    }
+
+    @Test
+    void shouldMatchJacksonByteForByte() throws IOException {
+        List<TaskResponseDto> tasks = List.of(task(1, 0, Priority.HIGH, TaskStatus.PENDING), task(2, 3, Priority.HIGH, TaskStatus.COMPLETED));
+
+        assertThat(cache.tasksByPriority(TenantContext.DEFAULT_TENANT, Priority.HIGH, () -> tasks).json()).isEqualTo(objectMapper.writeValueAsBytes(tasks));
+        assertThat(cache.tasksByPriority(TenantContext.DEFAULT_TENANT, Priority.LOW, List::of).json()).isEqualTo("[]".getBytes());
+    }
+
+    @Test
+    void shouldServeRepeatRequestsWithoutLoading() {
+        AtomicInteger loads = new AtomicInteger();
+        List<TaskResponseDto> tasks = List.of(task(1, 0, Priority.HIGH, TaskStatus.PENDING));
+
+        JsonList first = cache.tasksByPriority(TenantContext.DEFAULT_TENANT, Priority.HIGH, counting(tasks, loads));
+        JsonList second = cache.tasksByPriority(TenantContext.DEFAULT_TENANT, Priority.HIGH, counting(tasks, loads));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldInvalidateOnlyListsTheTaskWasOrIsIn() {
+        AtomicInteger loads = new AtomicInteger();
+        TaskResponseDto before = task(1, 0, Priority.HIGH, TaskStatus.PENDING);
+        TaskResponseDto after = task(1, 1, Priority.HIGH, TaskStatus.COMPLETED);
+        cache.tasksByPriority(TenantContext.DEFAULT_TENANT, Priority.LOW, counting(List.of(), loads));
+        cache.tasksByStatus(TenantContext.DEFAULT_TENANT, TaskStatus.PENDING, counting(List.of(before), loads));
+        JsonList high = cache.tasksByPriority(TenantContext.DEFAULT_TENANT, Priority.HIGH, counting(List.of(before), loads));
+
+        cache.onTaskEvent(TaskEvent.updated(before, after));
+
+        cache.tasksByPriority(TenantContext.DEFAULT_TENANT, Priority.LOW, counting(List.of(), loads));
+        assertThat(loads).hasValue(3);
+        JsonList rebuilt = cache.tasksByPriority(TenantContext.DEFAULT_TENANT, Priority.HIGH, counting(List.of(after), loads));
+        assertThat(cache.tasksByStatus(TenantContext.DEFAULT_TENANT, TaskStatus.PENDING, counting(List.of(), loads)).json()).isEqualTo("[]".getBytes());
+        assertThat(loads).hasValue(5);
+        assertThat(rebuilt.eTag()).isNotEqualTo(high.eTag());
+        assertThat(new String(rebuilt.json())).contains("\"version\":1").contains("COMPLETED");
+    }
+
+    @Test
+    void shouldNotKeepAListLoadedAcrossAnInvalidation() {
+        AtomicInteger loads = new AtomicInteger();
+        TaskResponseDto stale = task(1, 0, Priority.MEDIUM, TaskStatus.PENDING);
+
+        JsonList racing = cache.tasksByPriority(TenantContext.DEFAULT_TENANT, Priority.MEDIUM, () -> {
+            loads.incrementAndGet();
+            cache.onTaskEvent(TaskEvent.deleted(stale));
+            return List.of(stale);
+        });
+        JsonList next = cache.tasksByPriority(TenantContext.DEFAULT_TENANT, Priority.MEDIUM, counting(List.of(), loads));
+
+        assertThat(racing.json()).isNotEqualTo(next.json());
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldGzipOnlyLargeLists() throws IOException {
+        List<TaskResponseDto> tasks = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            tasks.add(task(id, 0, Priority.HIGH, TaskStatus.PENDING));
+        }
+
+        JsonList large = cache.tasksByStatus(TenantContext.DEFAULT_TENANT, TaskStatus.PENDING, () -> tasks);
+
+        assertThat(large.gzip()).isSameAs(large.gzip());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(large.json());
+        }
+        assertThat(cache.tasksByStatus(TenantContext.DEFAULT_TENANT, TaskStatus.COMPLETED, () -> List.of(tasks.get(0))).gzip()).isNull();
+    }
+}
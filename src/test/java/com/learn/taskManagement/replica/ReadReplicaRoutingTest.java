@@ -0,0 +1,93 @@
+package com.learn.taskManagement.replica;
+
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.exception.ResourceNotFoundException;
+import com.learn.taskManagement.service.TaskService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Two embedded databases stand in for primary and replica. They are deliberately out of sync, so every
+// assertion shows which one answered.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "task.datasource.replica.urls=" + ReadReplicaRoutingTest.REPLICA_URL)
+@ActiveProfiles("h2")
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:tasks_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final long REPLICA_ONLY_ID = 900_000L;
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void createReplica() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists task (id bigint primary key,"
+                    + " tenant_id varchar(64) default 'default' not null, priority varchar(255) not null,"
+                    + " task_status varchar(255) not null, title varchar(255), due_date date, description varchar(500),"
+                    + " created_at timestamp(6), update_at timestamp(6), version bigint not null, deleted_at timestamp(6))");
+            statement.execute("merge into task (id, priority, task_status, title, version) key (id)"
+                    + " values (" + REPLICA_ONLY_ID + ", 'HIGH', 'PENDING', 'Replica only', 0)");
+        }
+    }
+
+    private TaskResponseDto create(String title) {
+        return taskService.createTask(TaskRequestDto.builder()
+                .title(title)
+                .description("Written to the primary")
+                .priority(Priority.HIGH)
+                .taskStatus(TaskStatus.PENDING)
+                .dueDate(LocalDate.now().plusDays(1))
+                .build());
+    }
+
+    @Test
+    void shouldServeMarkedReadsFromTheReplica() {
+        create("Primary only");
+
+        assertThat(taskService.getAllTasks()).extracting(TaskResponseDto::getTitle)
+                .contains("Replica only")
+                .doesNotContain("Primary only");
+        assertThat(taskService.getTasksByPriority(Priority.HIGH)).extracting(TaskResponseDto::getId)
+                .containsExactly(REPLICA_ONLY_ID);
+    }
+
+    @Test
+    void shouldReadOwnWritesFromThePrimary() {
+        TaskResponseDto created = create("Read after write");
+
+        assertThat(taskService.getTaskById(created.getId()).getTitle()).isEqualTo("Read after write");
+        assertThatThrownBy(() -> taskService.getTaskById(REPLICA_ONLY_ID)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void shouldKeepMarkedReadsInsideAWriteTransactionOnThePrimary() {
+        List<TaskResponseDto> seen = transactionTemplate.execute(status -> {
+            create("Same transaction");
+            return taskService.getAllTasks();
+        });
+
+        assertThat(seen).extracting(TaskResponseDto::getTitle).contains("Same transaction").doesNotContain("Replica only");
+    }
+}
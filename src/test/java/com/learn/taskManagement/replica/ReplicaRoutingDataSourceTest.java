@@ -0,0 +1,108 @@
+package com.learn.taskManagement.replica;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    static final DataSource PRIMARY = h2("routing_primary");
+    static final DataSource REPLICA_1 = h2("routing_replica_1");
+    static final DataSource REPLICA_2 = h2("routing_replica_2");
+
+    boolean previous = ReplicaRoutingDataSource.enterReplicaRead();
+
+    @AfterEach
+    void leaveReplicaRead() {
+        ReplicaRoutingDataSource.exitReplicaRead(previous);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static ReplicaRoutingDataSource routing(DataSource... replicas) {
+        Map<String, DataSource> named = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.length; i++) {
+            named.put("replica-" + (i + 1), replicas[i]);
+        }
+        return new ReplicaRoutingDataSource(PRIMARY, named, Duration.ofSeconds(1));
+    }
+
+    private static String database(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String url = connection.getMetaData().getURL();
+            return url.substring("jdbc:h2:mem:".length(), url.indexOf(';') < 0 ? url.length() : url.indexOf(';'));
+        }
+    }
+
+    @Test
+    void shouldUsePrimaryOutsideReplicaReads() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(REPLICA_1);
+        ReplicaRoutingDataSource.exitReplicaRead(false);
+
+        assertThat(database(routing)).isEqualTo("routing_primary");
+    }
+
+    @Test
+    void shouldSpreadReplicaReadsRoundRobin() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(REPLICA_1, REPLICA_2);
+
+        assertThat(database(routing)).isEqualTo("routing_replica_1");
+        assertThat(database(routing)).isEqualTo("routing_replica_2");
+        assertThat(database(routing)).isEqualTo("routing_replica_1");
+    }
+
+    @Test
+    void shouldKeepNestedReplicaReadsOnUntilTheOutermostExits() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(REPLICA_1);
+
+        boolean nested = ReplicaRoutingDataSource.enterReplicaRead();
+        ReplicaRoutingDataSource.exitReplicaRead(nested);
+
+        assertThat(database(routing)).isEqualTo("routing_replica_1");
+    }
+
+    @Test
+    void shouldSkipAFailedReplicaUntilItsHealthCheckPasses() throws SQLException {
+        DataSource flaky = mock(DataSource.class);
+        when(flaky.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaRoutingDataSource routing = routing(flaky, REPLICA_2);
+
+        assertThat(database(routing)).isEqualTo("routing_replica_2");
+        assertThat(routing.isHealthy("replica-1")).isFalse();
+        assertThat(database(routing)).isEqualTo("routing_replica_2");
+
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        doReturn(connection).when(flaky).getConnection();
+        routing.checkReplicas();
+
+        assertThat(routing.isHealthy("replica-1")).isTrue();
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenNoReplicaIsHealthy() throws SQLException {
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaRoutingDataSource routing = routing(down);
+
+        assertThat(database(routing)).isEqualTo("routing_primary");
+        routing.checkReplicas();
+        assertThat(routing.isHealthy("replica-1")).isFalse();
+        assertThat(database(routing)).isEqualTo("routing_primary");
+    }
+}
@@ -0,0 +1,211 @@
+package com.learn.taskManagement.repository;
+
+import com.learn.taskManagement.entity.ArchivedTask;
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskRepositoryTest {
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tasks.add(Task.builder()
+                    .title("Task " + i)
+                    .priority(Priority.values()[i % Priority.values().length])
+                    .taskStatus(TaskStatus.values()[i % TaskStatus.values().length])
+                    .dueDate(LocalDate.now().plusDays(i % 30))
+                    .build());
+        }
+        taskRepository.saveAll(tasks);
+        taskRepository.flush();
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class)).toLowerCase();
+    }
+
+    @Test
+    void statusFilterUsesStatusLeadingIndex() {
+        assertThat(explain("SELECT * FROM task WHERE tenant_id = 'default' AND task_status = 'PENDING'"))
+                .containsAnyOf("idx_task_tenant_status_priority_due", "idx_task_tenant_status_id");
+    }
+
+    @Test
+    void combinedFilterUsesCompositeIndex() {
+        assertThat(explain("SELECT * FROM task WHERE tenant_id = 'default' AND task_status = 'PENDING' AND priority = 'HIGH'"
+                + " AND due_date BETWEEN CURRENT_DATE AND CURRENT_DATE + 7 ORDER BY due_date"))
+                .contains("idx_task_tenant_status_priority_due");
+    }
+
+    @Test
+    void priorityFilterUsesPriorityIndex() {
+        assertThat(explain("SELECT * FROM task WHERE tenant_id = 'default' AND priority = 'LOW'"))
+                .containsAnyOf("idx_task_tenant_priority_due", "idx_task_tenant_priority_id");
+    }
+
+    @Test
+    void dueDateRangeUsesDueDateIndex() {
+        assertThat(explain("SELECT * FROM task WHERE tenant_id = 'default' AND due_date < CURRENT_DATE + 2"))
+                .contains("idx_task_tenant_due_date");
+    }
+
+    @Test
+    void statusKeysetPageUsesStatusIdIndex() {
+        assertThat(explain("SELECT * FROM task WHERE tenant_id = 'default' AND task_status = 'PENDING' AND id > 10"
+                + " ORDER BY id LIMIT 50"))
+                .contains("idx_task_tenant_status_id");
+    }
+
+    @Test
+    void archivalScanUsesStatusUpdateAtIndex() {
+        assertThat(explain("SELECT id FROM task WHERE task_status = 'COMPLETED' AND deleted_at IS NULL"
+                + " AND update_at < CURRENT_TIMESTAMP ORDER BY update_at LIMIT 500"))
+                .contains("idx_task_status_update_at");
+    }
+
+    @Test
+    void filterReturnsSortedPage() {
+        LocalDate from = LocalDate.now();
+        LocalDate to = LocalDate.now().plusDays(10);
+
+        Page<Task> page = taskRepository.findAll(
+                TaskSpecifications.filter(TenantContext.DEFAULT_TENANT, TaskStatus.PENDING, null, from, to),
+                PageRequest.of(0, 5, Sort.by("dueDate")));
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getContent()).allSatisfy(task -> {
+            assertThat(task.getTaskStatus()).isEqualTo(TaskStatus.PENDING);
+            assertThat(task.getDueDate()).isBetween(from, to);
+        });
+        assertThat(page.getContent()).isSortedAccordingTo((a, b) -> a.getDueDate().compareTo(b.getDueDate()));
+    }
+
+    @Test
+    void updateStatusChangesOnlyRequestedRows() {
+        List<Long> ids = taskRepository.findAll(PageRequest.of(0, 3, Sort.by("id"))).map(Task::getId).getContent();
+
+        int updated = taskRepository.updateStatus(TenantContext.DEFAULT_TENANT, ids, TaskStatus.COMPLETED, LocalDateTime.now());
+
+        assertThat(updated).isEqualTo(3);
+        assertThat(taskRepository.findAllById(ids)).allSatisfy(task ->
+                assertThat(task.getTaskStatus()).isEqualTo(TaskStatus.COMPLETED));
+    }
+
+    @Test
+    void changedAfterWalksUpdateAtIdIndex() {
+        assertThat(explain("SELECT * FROM task WHERE tenant_id = 'default' AND update_at > TIMESTAMP '2030-01-01 00:00:00'"
+                + " ORDER BY update_at, id LIMIT 50"))
+                .contains("idx_task_tenant_update_at_id");
+    }
+
+    @Test
+    void softDeletedTasksAreHiddenButStillSynced() {
+        List<Long> ids = taskRepository.findAll(PageRequest.of(0, 2, Sort.by("id"))).map(Task::getId).getContent();
+        LocalDateTime before = LocalDateTime.now().minusMinutes(1);
+
+        taskRepository.softDeleteAll(TenantContext.DEFAULT_TENANT, ids, LocalDateTime.now());
+
+        assertThat(taskRepository.findAllById(ids)).isEmpty();
+        assertThat(taskRepository.count()).isEqualTo(198);
+        assertThat(taskRepository.findChangedAfter(TenantContext.DEFAULT_TENANT, before, 0, 500))
+                .filteredOn(task -> task.getDeletedAt() != null)
+                .extracting(Task::getId)
+                .containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    void purgeRemovesOnlyTombstones() {
+        List<Long> ids = taskRepository.findAll(PageRequest.of(0, 3, Sort.by("id"))).map(Task::getId).getContent();
+        taskRepository.softDeleteAll(TenantContext.DEFAULT_TENANT, ids.subList(0, 2), LocalDateTime.now().minusDays(1));
+
+        List<Long> expired = taskRepository.findTombstoneIdsBefore(LocalDateTime.now(), 10);
+        int purged = taskRepository.purgeTombstones(ids);
+
+        assertThat(expired).containsExactlyInAnyOrderElementsOf(ids.subList(0, 2));
+        assertThat(purged).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task", Long.class)).isEqualTo(198);
+        assertThat(taskRepository.findById(ids.get(2))).isPresent();
+    }
+
+    @Test
+    void archiveMovesOnlyTasksStillEligible() {
+        LocalDateTime cutoff = LocalDateTime.now().plusMinutes(1);
+        List<Long> ids = taskRepository.findArchivableIds(cutoff, 500);
+        assertThat(ids).hasSize(200 / TaskStatus.values().length);
+        Long reopened = ids.get(0);
+        taskRepository.updateStatus(TenantContext.DEFAULT_TENANT, List.of(reopened), TaskStatus.PENDING, LocalDateTime.now());
+
+        List<Long> locked = taskRepository.lockArchivable(ids, TaskStatus.COMPLETED, cutoff).stream().map(Task::getId).toList();
+        int copied = taskRepository.copyToArchive(locked, LocalDateTime.now());
+        int deleted = taskRepository.deleteArchived(locked);
+
+        assertThat(locked).hasSize(ids.size() - 1).doesNotContain(reopened);
+        assertThat(copied).isEqualTo(locked.size());
+        assertThat(deleted).isEqualTo(locked.size());
+        assertThat(taskRepository.findAllById(locked)).isEmpty();
+        assertThat(taskRepository.findById(reopened)).isPresent();
+        assertThat(archivedTaskRepository.findByTenantIdAndId(TenantContext.DEFAULT_TENANT, locked.get(0))).get()
+                .satisfies(archived -> {
+                    assertThat(archived.getTaskStatus()).isEqualTo(TaskStatus.COMPLETED);
+                    assertThat(archived.getArchivedAt()).isNotNull();
+                });
+        assertThat(archivedTaskRepository.findByTenantIdAndIdGreaterThanOrderByIdAsc(TenantContext.DEFAULT_TENANT, 0L, Limit.of(3)))
+                .extracting(ArchivedTask::getId).containsExactlyElementsOf(locked.stream().sorted().limit(3).toList());
+        assertThat(taskRepository.findArchivableIds(cutoff, 500)).isEmpty();
+    }
+
+    @Test
+    void tenantScopedQueriesNeverReachAnotherTenant() {
+        Task other = taskRepository.saveAndFlush(Task.builder()
+                .tenantId("acme")
+                .title("Acme task")
+                .priority(Priority.HIGH)
+                .taskStatus(TaskStatus.PENDING)
+                .build());
+        List<Long> ids = List.of(other.getId());
+
+        assertThat(taskRepository.findByTenantIdAndId(TenantContext.DEFAULT_TENANT, other.getId())).isEmpty();
+        assertThat(taskRepository.findByTenantIdAndPriority(TenantContext.DEFAULT_TENANT, Priority.HIGH))
+                .extracting(Task::getTenantId).containsOnly(TenantContext.DEFAULT_TENANT);
+        assertThat(taskRepository.updateStatus(TenantContext.DEFAULT_TENANT, ids, TaskStatus.COMPLETED, LocalDateTime.now()))
+                .isZero();
+        assertThat(taskRepository.softDeleteAll(TenantContext.DEFAULT_TENANT, ids, LocalDateTime.now())).isZero();
+        assertThat(taskRepository.findByTenantId("acme")).extracting(Task::getTaskStatus).containsExactly(TaskStatus.PENDING);
+        assertThat(taskRepository.countByTenantStatusAndPriority())
+                .filteredOn(row -> row.getTenantId().equals("acme"))
+                .extracting(TaskCountView::getCount).containsExactly(1L);
+    }
+}
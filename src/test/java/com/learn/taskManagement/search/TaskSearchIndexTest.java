@@ -0,0 +1,102 @@
+package com.learn.taskManagement.search;
+
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.SearchMode;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.event.TaskEvent;
+import com.learn.taskManagement.store.TaskStore;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchIndexTest {
+
+    @Mock
+    TaskStore taskStore;
+
+    @InjectMocks
+    TaskSearchIndex searchIndex;
+
+    private TaskResponseDto task(long id, String title, String description, TaskStatus status) {
+        return TaskResponseDto.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .taskStatus(status)
+                .priority(Priority.MEDIUM)
+                .build();
+    }
+
+    private List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::id).toList();
+    }
+
+    @Test
+    void shouldMatchAllTermsOrAnyTerm() {
+        searchIndex.onTaskEvent(TaskEvent.created(task(1, "Quarterly report", "Draft the report", TaskStatus.PENDING)));
+        searchIndex.onTaskEvent(TaskEvent.created(task(2, "Team offsite", "Book venue", TaskStatus.PENDING)));
+        searchIndex.onTaskEvent(TaskEvent.created(task(3, "Report bug", "Venue wifi is down", TaskStatus.PENDING)));
+
+        assertThat(ids(searchIndex.search(TenantContext.DEFAULT_TENANT, "report venue", SearchMode.AND, null, null, 10))).containsExactly(3L);
+        assertThat(ids(searchIndex.search(TenantContext.DEFAULT_TENANT, "REPORT, venue!", SearchMode.OR, null, null, 10)))
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(searchIndex.search(TenantContext.DEFAULT_TENANT, "missing report", SearchMode.AND, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldRankMoreFrequentTermsHigherAndRespectLimit() {
+        searchIndex.onTaskEvent(TaskEvent.created(task(1, "Report", "Unrelated text about other things", TaskStatus.PENDING)));
+        searchIndex.onTaskEvent(TaskEvent.created(task(2, "Report", "Report report", TaskStatus.PENDING)));
+
+        List<SearchHit> hits = searchIndex.search(TenantContext.DEFAULT_TENANT, "report", SearchMode.AND, null, null, 1);
+
+        assertThat(ids(hits)).containsExactly(2L);
+    }
+
+    @Test
+    void shouldFollowUpdatesAndDeletes() {
+        TaskResponseDto original = task(1, "Write report", null, TaskStatus.PENDING);
+        TaskResponseDto renamed = task(1, "Write summary", null, TaskStatus.COMPLETED);
+        searchIndex.onTaskEvent(TaskEvent.created(original));
+        searchIndex.onTaskEvent(TaskEvent.updated(original, renamed));
+
+        assertThat(searchIndex.search(TenantContext.DEFAULT_TENANT, "report", SearchMode.AND, null, null, 10)).isEmpty();
+        assertThat(ids(searchIndex.search(TenantContext.DEFAULT_TENANT, "summary", SearchMode.AND, TaskStatus.COMPLETED, null, 10))).containsExactly(1L);
+        assertThat(searchIndex.search(TenantContext.DEFAULT_TENANT, "summary", SearchMode.AND, TaskStatus.PENDING, null, 10)).isEmpty();
+
+        searchIndex.onTaskEvent(TaskEvent.deleted(renamed));
+
+        assertThat(searchIndex.search(TenantContext.DEFAULT_TENANT, "summary", SearchMode.OR, null, null, 10)).isEmpty();
+        assertThat(searchIndex.size()).isZero();
+    }
+
+    @Test
+    void shouldRebuildFromRepositoryInPages() {
+        Task task = Task.builder()
+                .id(7L)
+                .title("Renew certificate")
+                .description("Expires soon")
+                .taskStatus(TaskStatus.PENDING)
+                .priority(Priority.HIGH)
+                .build();
+        when(taskStore.findAfter(isNull(), eq(0L), anyInt())).thenReturn(List.of(task));
+
+        searchIndex.rebuild();
+
+        assertThat(ids(searchIndex.search(TenantContext.DEFAULT_TENANT, "certificate", SearchMode.AND, null, Priority.HIGH, 10))).containsExactly(7L);
+    }
+}
@@ -0,0 +1,16 @@
+package com.learn.taskManagement.service;
+
+import com.learn.taskManagement.store.InMemoryTaskStore;
+import com.learn.taskManagement.store.TaskStore;
+
+import java.time.Clock;
+
+class InMemoryTaskServiceEngineTest extends TaskServiceEngineTest {
+
+    private final InMemoryTaskStore store = new InMemoryTaskStore(Clock.systemDefaultZone());
+
+    @Override
+    TaskStore store() {
+        return store;
+    }
+}
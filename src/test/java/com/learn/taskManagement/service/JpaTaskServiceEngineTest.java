@@ -0,0 +1,24 @@
+package com.learn.taskManagement.service;
+
+import com.learn.taskManagement.store.JpaTaskStore;
+import com.learn.taskManagement.store.TaskStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaTaskStore.class)
+class JpaTaskServiceEngineTest extends TaskServiceEngineTest {
+
+    @Autowired
+    JpaTaskStore store;
+
+    @Override
+    TaskStore store() {
+        return store;
+    }
+}
@@ -0,0 +1,60 @@
+package com.learn.taskManagement.service;
+
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaskServiceImplTest {
+
+    @Mock
+    TaskService taskService;
+
+    private List<TaskResponseDto> page(long firstId, long lastId) {
+        return LongStream.rangeClosed(firstId, lastId)
+                .mapToObj(id -> TaskResponseDto.builder().id(id).taskStatus(TaskStatus.PENDING).build())
+                .toList();
+    }
+
+    @Test
+    void shouldStreamAllPagesAndSkipTheConfirmingQuery() {
+        ReactiveTaskServiceImpl service = new ReactiveTaskServiceImpl(taskService, Schedulers.immediate(), 2);
+        when(taskService.getTasksAfter(TaskStatus.PENDING, null, 0L, 2)).thenReturn(page(1, 2));
+        when(taskService.getTasksAfter(TaskStatus.PENDING, null, 2L, 2)).thenReturn(page(3, 3));
+
+        StepVerifier.create(service.getTasksByStatus(TaskStatus.PENDING).map(TaskResponseDto::getId))
+                .expectNext(1L, 2L, 3L)
+                .verifyComplete();
+        verify(taskService, never()).getTasksAfter(eq(TaskStatus.PENDING), eq(null), eq(3L), eq(2));
+    }
+
+    @Test
+    void shouldFetchPagesOnlyAsTheSubscriberAsks() {
+        ReactiveTaskServiceImpl service = new ReactiveTaskServiceImpl(taskService, Schedulers.immediate(), 2);
+        when(taskService.getTasksAfter(null, null, 0L, 2)).thenReturn(page(1, 2));
+        lenient().when(taskService.getTasksAfter(null, null, 2L, 2)).thenReturn(page(3, 4));
+
+        StepVerifier.create(service.getAllTasks().map(TaskResponseDto::getId), 1)
+                .expectNext(1L)
+                .thenRequest(1)
+                .expectNext(2L)
+                .thenCancel()
+                .verify();
+        // At most the page after the one being drained has been read
+        verify(taskService, never()).getTasksAfter(null, null, 4L, 2);
+    }
+}
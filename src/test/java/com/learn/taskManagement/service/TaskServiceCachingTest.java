@@ -0,0 +1,140 @@
+package com.learn.taskManagement.service;
+
+import com.learn.taskManagement.config.CacheConfig;
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.store.TaskStore;
+import com.learn.taskManagement.tenant.TenantContext;
+import com.learn.taskManagement.due.TaskDueIndex;
+import com.learn.taskManagement.search.TaskSearchIndex;
+import com.learn.taskManagement.stats.TaskCounters;
+import com.learn.taskManagement.writebehind.StatusWriteBuffer;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {CacheConfig.class, TaskServiceImpl.class})
+class TaskServiceCachingTest {
+
+    @MockitoBean
+    TaskStore taskStore;
+
+    @MockitoBean
+    EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    Validator validator;
+
+    @MockitoBean
+    TransactionOperations transactionOperations;
+
+    @MockitoBean
+    TaskCounters taskCounters;
+
+    @MockitoBean
+    TaskSearchIndex taskSearchIndex;
+
+    @MockitoBean
+    TaskDueIndex taskDueIndex;
+
+    @MockitoBean
+    StatusWriteBuffer statusWriteBuffer;
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    private Task getMockTask() {
+        return Task.builder()
+                .id(1L)
+                .title("Sample Task")
+                .description("Desc")
+                .priority(Priority.HIGH)
+                .taskStatus(TaskStatus.PENDING)
+                .dueDate(LocalDate.now().plusDays(2))
+                .version(0L)
+                .build();
+    }
+
+    private TaskRequestDto getMockTaskRequest() {
+        return TaskRequestDto.builder()
+                .title("Updated Title")
+                .description("Desc")
+                .priority(Priority.LOW)
+                .taskStatus(TaskStatus.COMPLETED)
+                .dueDate(LocalDate.now().plusDays(2))
+                .build();
+    }
+
+    @BeforeEach
+    void clearCache() {
+        cacheManager.getCache(CacheConfig.TASKS_CACHE).clear();
+        reset(taskStore);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        when(taskStore.findById(TenantContext.DEFAULT_TENANT, 1L)).thenReturn(Optional.of(getMockTask()));
+
+        taskService.getTaskById(1L);
+        taskService.getTaskById(1L);
+
+        verify(taskStore, times(1)).findById(TenantContext.DEFAULT_TENANT, 1L);
+    }
+
+    @Test
+    void shouldRefreshEntryOnUpdate() {
+        Task task = getMockTask();
+        when(taskStore.findById(TenantContext.DEFAULT_TENANT, 1L)).thenReturn(Optional.of(task));
+        when(taskStore.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        taskService.getTaskById(1L);
+        taskService.updateTask(1L, getMockTaskRequest());
+
+        assertThat(taskService.getTaskById(1L).getTitle()).isEqualTo("Updated Title");
+        verify(taskStore, times(2)).findById(TenantContext.DEFAULT_TENANT, 1L);
+    }
+
+    @Test
+    void shouldEvictEntryOnDelete() {
+        when(taskStore.findById(TenantContext.DEFAULT_TENANT, 1L)).thenReturn(Optional.of(getMockTask()));
+
+        taskService.getTaskById(1L);
+        taskService.deleteTask(1L);
+        clearInvocations(taskStore);
+        taskService.getTaskById(1L);
+
+        verify(taskStore, times(1)).findById(TenantContext.DEFAULT_TENANT, 1L);
+    }
+
+    @Test
+    void shouldWarmCacheOnCreate() {
+        when(taskStore.save(any(Task.class))).thenReturn(getMockTask());
+
+        taskService.createTask(getMockTaskRequest());
+        taskService.getTaskById(1L);
+
+        verify(taskStore, times(0)).findById(TenantContext.DEFAULT_TENANT, 1L);
+    }
+}
@@ -0,0 +1,229 @@
+package com.learn.taskManagement.service;
+
+import com.learn.taskManagement.config.CacheConfig;
+import com.learn.taskManagement.dto.TaskBatchResponseDto;
+import com.learn.taskManagement.dto.TaskBatchUpdateDto;
+import com.learn.taskManagement.dto.TaskPageResponseDto;
+import com.learn.taskManagement.dto.TaskPatchDto;
+import com.learn.taskManagement.dto.TaskRequestDto;
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.dto.TaskSyncResponseDto;
+import com.learn.taskManagement.due.TaskDueIndex;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.exception.PreconditionFailedException;
+import com.learn.taskManagement.exception.ResourceNotFoundException;
+import com.learn.taskManagement.search.TaskSearchIndex;
+import com.learn.taskManagement.stats.TaskCounters;
+import com.learn.taskManagement.store.TaskStore;
+import com.learn.taskManagement.writebehind.StatusWriteBehindFlusher;
+import com.learn.taskManagement.writebehind.StatusWriteBuffer;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+// The same service behaviour against each storage engine; subclasses supply the engine.
+// Other tests may share the database, so assertions only look at tasks created here.
+abstract class TaskServiceEngineTest {
+
+    TaskService taskService;
+
+    StatusWriteBuffer statusBuffer;
+
+    abstract TaskStore store();
+
+    @BeforeEach
+    void createService() {
+        statusBuffer = new StatusWriteBuffer(100, Duration.ZERO, 100);
+        taskService = new TaskServiceImpl(store(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ConcurrentMapCacheManager(CacheConfig.TASKS_CACHE),
+                TransactionOperations.withoutTransaction(),
+                event -> {
+                },
+                mock(TaskCounters.class),
+                mock(TaskSearchIndex.class),
+                mock(TaskDueIndex.class),
+                statusBuffer);
+    }
+
+    private TaskRequestDto request(String title, Priority priority, TaskStatus status, int dueInDays) {
+        return TaskRequestDto.builder()
+                .title(title)
+                .description("Engine test")
+                .priority(priority)
+                .taskStatus(status)
+                .dueDate(LocalDate.now().plusDays(dueInDays))
+                .build();
+    }
+
+    private TaskResponseDto create(String title) {
+        return taskService.createTask(request(title, Priority.MEDIUM, TaskStatus.NOT_STARTED, 1));
+    }
+
+    @Test
+    void shouldCreateAndReadBack() {
+        TaskResponseDto created = create("Read back");
+
+        TaskResponseDto read = taskService.getTaskById(created.getId());
+
+        assertThat(read.getTitle()).isEqualTo("Read back");
+        assertThat(read.getVersion()).isZero();
+        assertThat(read.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldBumpVersionOnUpdateAndRejectStaleVersion() {
+        TaskResponseDto created = create("Versioned");
+
+        TaskResponseDto updated = taskService.updateTask(created.getId(),
+                request("Versioned again", Priority.HIGH, TaskStatus.IN_PROGRESS, 2));
+
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThat(updated.getPriority()).isEqualTo(Priority.HIGH);
+        assertThatThrownBy(() -> taskService.updateTask(created.getId(),
+                request("Stale write", Priority.LOW, TaskStatus.COMPLETED, 2), 0L))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @Test
+    void shouldPatchOnlyGivenFields() {
+        TaskResponseDto created = create("Patched");
+
+        TaskResponseDto patched = taskService.patchTask(created.getId(),
+                TaskPatchDto.builder().taskStatus(TaskStatus.COMPLETED).build());
+
+        assertThat(patched.getTaskStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(patched.getTitle()).isEqualTo("Patched");
+        assertThat(patched.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldUpdateStatusesAndReportMissingIds() {
+        TaskResponseDto created = create("Status flip");
+
+        TaskBatchResponseDto result = taskService.updateTaskStatuses(List.of(created.getId(), Long.MAX_VALUE - 1),
+                TaskStatus.IN_PROGRESS);
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(taskService.getTaskById(created.getId()).getTaskStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void shouldUpdateTasksInBatch() {
+        TaskResponseDto created = create("Batch update");
+
+        TaskBatchResponseDto result = taskService.updateTasks(List.of(TaskBatchUpdateDto.builder()
+                .id(created.getId())
+                .task(request("Batch updated", Priority.LOW, TaskStatus.PENDING, 3))
+                .build()));
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        TaskResponseDto read = taskService.getTaskById(created.getId());
+        assertThat(read.getTitle()).isEqualTo("Batch updated");
+        assertThat(read.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldNotLetAQueuedStatusOverwriteABatchWrite() {
+        TaskResponseDto updated = create("Batch over queued");
+        TaskResponseDto deleted = create("Batch deleted over queued");
+        taskService.queueTaskStatuses(List.of(updated.getId(), deleted.getId()), TaskStatus.COMPLETED);
+
+        taskService.updateTasks(List.of(TaskBatchUpdateDto.builder()
+                .id(updated.getId())
+                .task(request("Batch over queued", Priority.LOW, TaskStatus.IN_PROGRESS, 3))
+                .build()));
+        taskService.deleteTasks(List.of(deleted.getId()));
+        new StatusWriteBehindFlusher(statusBuffer, taskService, Runnable::run, 100).flushIfIdle();
+
+        assertThat(statusBuffer.size()).isZero();
+        TaskResponseDto read = taskService.getTaskById(updated.getId());
+        assertThat(read.getTaskStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(read.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldHideDeletedTasksButReportThemToSync() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        TaskResponseDto kept = create("Kept");
+        TaskResponseDto deleted = create("Deleted");
+        TaskResponseDto batchDeleted = create("Batch deleted");
+
+        taskService.deleteTask(deleted.getId());
+        taskService.deleteTasks(List.of(batchDeleted.getId()));
+
+        assertThatThrownBy(() -> taskService.getTaskById(deleted.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(taskService.getAllTasks()).extracting(TaskResponseDto::getId)
+                .contains(kept.getId())
+                .doesNotContain(deleted.getId(), batchDeleted.getId());
+        TaskSyncResponseDto sync = taskService.getChangesSince(before, null, 500);
+        assertThat(sync.getUpdated()).extracting(TaskResponseDto::getId).contains(kept.getId());
+        assertThat(sync.getDeleted()).contains(deleted.getId(), batchDeleted.getId());
+    }
+
+    @Test
+    void shouldWalkKeysetPages() {
+        List<Long> ids = List.of(create("Page one").getId(), create("Page two").getId(), create("Page three").getId());
+        String cursor = TaskServiceImpl.encodeCursor(ids.get(0) - 1);
+
+        TaskPageResponseDto first = taskService.getTasksPage(cursor, 2);
+        TaskPageResponseDto second = taskService.getTasksPage(first.getNextCursor(), 2);
+
+        assertThat(first.getItems()).extracting(TaskResponseDto::getId).containsExactly(ids.get(0), ids.get(1));
+        assertThat(second.getItems()).extracting(TaskResponseDto::getId).startsWith(ids.get(2));
+    }
+
+    @Test
+    void shouldFilterAndSortByDueDate() {
+        TaskResponseDto later = taskService.createTask(request("Later", Priority.HIGH, TaskStatus.PENDING, 9));
+        TaskResponseDto sooner = taskService.createTask(request("Sooner", Priority.HIGH, TaskStatus.PENDING, 8));
+        TaskResponseDto otherPriority = taskService.createTask(request("Other", Priority.LOW, TaskStatus.PENDING, 8));
+        TaskResponseDto outOfRange = taskService.createTask(request("Far", Priority.HIGH, TaskStatus.PENDING, 20));
+        List<Long> mine = List.of(later.getId(), sooner.getId(), otherPriority.getId(), outOfRange.getId());
+
+        Page<TaskResponseDto> page = taskService.filterTasks(TaskStatus.PENDING, Priority.HIGH,
+                LocalDate.now().plusDays(8), LocalDate.now().plusDays(9),
+                PageRequest.of(0, 100, Sort.by("dueDate")));
+
+        assertThat(page.getContent()).extracting(TaskResponseDto::getId)
+                .filteredOn(mine::contains)
+                .containsExactly(sooner.getId(), later.getId());
+    }
+
+    @Test
+    void shouldMatchNothingForAnInvertedDueRange() {
+        taskService.createTask(request("Due soon", Priority.HIGH, TaskStatus.PENDING, 8));
+
+        Page<TaskResponseDto> page = taskService.filterTasks(null, null,
+                LocalDate.now().plusDays(9), LocalDate.now().plusDays(8), PageRequest.of(0, 100));
+
+        assertThat(page.getContent()).isEmpty();
+    }
+
+    @Test
+    void shouldPageByStatusAfterId() {
+        TaskResponseDto pending = taskService.createTask(request("Pending", Priority.LOW, TaskStatus.PENDING, 1));
+        taskService.createTask(request("Completed", Priority.LOW, TaskStatus.COMPLETED, 1));
+
+        List<TaskResponseDto> page = taskService.getTasksAfter(TaskStatus.PENDING, Priority.LOW, pending.getId() - 1, 10);
+
+        assertThat(page).extracting(TaskResponseDto::getId).containsExactly(pending.getId());
+    }
+}
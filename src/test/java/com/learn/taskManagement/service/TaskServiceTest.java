@@ -1,32 +1,93 @@
 package com.learn.taskManagement.service;
 
+import com.learn.taskManagement.dto.TaskBatchResponseDto;
+import com.learn.taskManagement.dto.TaskBatchUpdateDto;
+import com.learn.taskManagement.dto.TaskPageResponseDto;
+import com.learn.taskManagement.dto.TaskPatchDto;
 import com.learn.taskManagement.dto.TaskRequestDto;
 import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.dto.TaskSearchHitDto;
+import com.learn.taskManagement.dto.TaskSyncResponseDto;
 import com.learn.taskManagement.entity.Task;
 import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.SearchMode;
 import com.learn.taskManagement.enums.TaskStatus;
-import com.learn.taskManagement.repository.TaskRepository;
+import com.learn.taskManagement.event.TaskEvent;
+import com.learn.taskManagement.exception.InvalidCursorException;
+import com.learn.taskManagement.exception.PreconditionFailedException;
+import com.learn.taskManagement.exception.TenantQuotaExceededException;
+import com.learn.taskManagement.store.TaskStore;
+import com.learn.taskManagement.tenant.TenantContext;
+import com.learn.taskManagement.due.DueTask;
+import com.learn.taskManagement.due.TaskDueIndex;
+import com.learn.taskManagement.search.SearchHit;
+import com.learn.taskManagement.search.TaskSearchIndex;
+import com.learn.taskManagement.stats.TaskCounters;
+import com.learn.taskManagement.writebehind.StatusWriteBuffer;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class TaskServiceTest {
 
+    static final String TENANT = TenantContext.DEFAULT_TENANT;
+
+    @Mock
+    TaskStore taskStore;
+
+    @Mock
+    CacheManager cacheManager;
+
+    @Spy
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    TaskCounters taskCounters;
+
+    @Mock
+    TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    TaskDueIndex taskDueIndex;
+
     @Mock
-    TaskRepository taskRepository;
+    StatusWriteBuffer statusWriteBuffer;
 
     @InjectMocks
     TaskServiceImpl taskService;
@@ -35,8 +96,8 @@ public class TaskServiceTest {
         return TaskRequestDto.builder()
                 .title("Sample Task")
                 .description("Desc")
-                .priority(String.valueOf(Priority.HIGH))
-                .taskStatus(String.valueOf(TaskStatus.PENDING))
+                .priority(Priority.HIGH)
+                .taskStatus(TaskStatus.PENDING)
                 .dueDate(LocalDate.now().plusDays(2))
                 .build();
     }
@@ -49,6 +110,7 @@ public class TaskServiceTest {
                 .priority(Priority.HIGH)
                 .taskStatus(TaskStatus.PENDING)
                 .dueDate(LocalDate.now().plusDays(2))
+                .version(0L)
                 .build();
     }
 
@@ -57,7 +119,7 @@ public class TaskServiceTest {
         // Given
         Task task = getMockTask();
 
-        when(taskRepository.findAll()).thenReturn(List.of(task));
+        when(taskStore.findAll(TENANT)).thenReturn(List.of(task));
         // When
         List<TaskResponseDto> tasks = taskService.getAllTasks();
 
@@ -72,7 +134,7 @@ public class TaskServiceTest {
     void shouldReturnTaskById() {
         // given
         Task task = getMockTask();
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskStore.findById(TENANT, 1L)).thenReturn(Optional.of(task));
 
         // when
         TaskResponseDto result = taskService.getTaskById(1L);
@@ -85,7 +147,7 @@ public class TaskServiceTest {
     @Test
     void shouldThrowExceptionWhenTaskNotFound() {
         // given
-        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskStore.findById(TENANT, 1L)).thenReturn(Optional.empty());
 
         // then
         assertThatThrownBy(() -> taskService.getTaskById(1L))
@@ -98,14 +160,14 @@ public class TaskServiceTest {
         // given
         TaskRequestDto request = getMockTaskRequest();
         Task savedTask = getMockTask();
-        when(taskRepository.save(any(Task.class))).thenReturn(savedTask);
+        when(taskStore.save(any(Task.class))).thenReturn(savedTask);
 
         // when
         TaskResponseDto result = taskService.createTask(request);
 
         // then
         assertThat(result.getTitle()).isEqualTo("Sample Task");
-        verify(taskRepository).save(any(Task.class));
+        verify(taskStore).save(any(Task.class));
     }
 
     @Test
@@ -115,8 +177,8 @@ public class TaskServiceTest {
         TaskRequestDto updateRequest = getMockTaskRequest();
         updateRequest.setTitle("Updated Title");
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(existing));
-        when(taskRepository.save(any(Task.class))).thenReturn(existing);
+        when(taskStore.findById(TENANT, 1L)).thenReturn(Optional.of(existing));
+        when(taskStore.save(any(Task.class))).thenReturn(existing);
 
         // when
         TaskResponseDto result = taskService.updateTask(1L, updateRequest);
@@ -129,18 +191,19 @@ public class TaskServiceTest {
     void shouldDeleteTask() {
         // given
         Long taskId = 1L;
+        when(taskStore.findById(TENANT, taskId)).thenReturn(Optional.of(getMockTask()));
 
         // when
         taskService.deleteTask(taskId);
 
         // then
-        verify(taskRepository).deleteById(1L);
+        verify(taskStore).deleteById(1L);
     }
 
     @Test
     void shouldReturnTasksByPriority() {
         Task task = getMockTask();
-        when(taskRepository.findByPriority(Priority.HIGH)).thenReturn(List.of(task));
+        when(taskStore.findByPriority(TENANT, Priority.HIGH)).thenReturn(List.of(task));
 
         List<TaskResponseDto> result = taskService.getTasksByPriority(Priority.HIGH);
 
@@ -151,7 +214,7 @@ public class TaskServiceTest {
     @Test
     void shouldReturnTasksByStatus() {
         Task task = getMockTask();
-        when(taskRepository.findByTaskStatus(TaskStatus.PENDING)).thenReturn(List.of(task));
+        when(taskStore.findByTaskStatus(TENANT, TaskStatus.PENDING)).thenReturn(List.of(task));
 
         List<TaskResponseDto> result = taskService.getTasksByStatus(TaskStatus.PENDING);
 
@@ -159,4 +222,401 @@ public class TaskServiceTest {
         assertThat(result.get(0).getTaskStatus()).isEqualTo(TaskStatus.PENDING);
     }
 
+    @Test
+    void shouldReturnFirstPageWithNextCursor() {
+        Task first = getMockTask();
+        Task second = getMockTask();
+        second.setId(2L);
+        Task third = getMockTask();
+        third.setId(3L);
+        when(taskStore.findAfter(TENANT, 0L, 3))
+                .thenReturn(List.of(first, second, third));
+
+        TaskPageResponseDto page = taskService.getTasksPage(null, 2);
+
+        assertThat(page.getItems()).hasSize(2);
+        assertThat(page.getNextCursor()).isNotNull();
+        assertThat(TaskServiceImpl.decodeCursor(page.getNextCursor())).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutCursor() {
+        Task task = getMockTask();
+        String cursor = TaskServiceImpl.encodeCursor(0L);
+        when(taskStore.findAfter(TENANT, 0L, TaskServiceImpl.MAX_PAGE_SIZE + 1))
+                .thenReturn(List.of(task));
+
+        TaskPageResponseDto page = taskService.getTasksPage(cursor, 10_000);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> taskService.getTasksPage("not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void shouldQueueStatusesUntilTheBufferIsFull() {
+        when(statusWriteBuffer.offer(TENANT, 1L, TaskStatus.COMPLETED)).thenReturn(true);
+        when(statusWriteBuffer.offer(TENANT, 2L, TaskStatus.COMPLETED)).thenReturn(false);
+
+        TaskBatchResponseDto result = taskService.queueTaskStatuses(List.of(1L, 2L, 3L), TaskStatus.COMPLETED);
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        verify(statusWriteBuffer, never()).offer(TENANT, 3L, TaskStatus.COMPLETED);
+        verify(taskStore, never()).updateStatus(eq(TENANT), anyCollection(), any(), any());
+    }
+
+    @Test
+    void shouldOverlayQueuedStatusOnRead() {
+        when(taskStore.findById(TENANT, 1L)).thenReturn(Optional.of(getMockTask()));
+        when(statusWriteBuffer.pending(TENANT, 1L)).thenReturn(TaskStatus.COMPLETED);
+
+        TaskResponseDto result = taskService.getTaskById(1L);
+
+        assertThat(result.getTaskStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(result.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldFoldQueuedStatusIntoPatch() {
+        Task task = getMockTask();
+        when(taskStore.findById(TENANT, 1L)).thenReturn(Optional.of(task));
+        when(taskStore.saveAndFlush(task)).thenReturn(task);
+        when(statusWriteBuffer.supersede(TENANT, 1L)).thenReturn(TaskStatus.IN_PROGRESS);
+
+        TaskResponseDto result = taskService.patchTask(1L, TaskPatchDto.builder().title("Renamed task").build());
+
+        assertThat(result.getTaskStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(result.getTitle()).isEqualTo("Renamed task");
+    }
+
+    @Test
+    void shouldSplitChangesIntoUpdatesAndTombstones() {
+        // Cursors and the database keep microseconds
+        LocalDateTime since = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.MICROS);
+        Task changed = getMockTask();
+        changed.setUpdateAt(since.plusMinutes(1));
+        Task deleted = getMockTask();
+        deleted.setId(2L);
+        deleted.setUpdateAt(since.plusMinutes(2));
+        deleted.setDeletedAt(since.plusMinutes(2));
+        Task next = getMockTask();
+        next.setId(3L);
+        next.setUpdateAt(since.plusMinutes(3));
+        when(taskStore.findChangedAfter(TENANT, since.minusSeconds(5), 0, 3)).thenReturn(List.of(changed, deleted, next));
+
+        TaskSyncResponseDto sync = taskService.getChangesSince(since, null, 2);
+
+        assertThat(sync.getUpdated()).extracting(TaskResponseDto::getId).containsExactly(1L);
+        assertThat(sync.getDeleted()).containsExactly(2L);
+        assertThat(sync.getWatermark()).isEqualTo(since.plusMinutes(2));
+        assertThat(sync.isResyncRequired()).isFalse();
+        assertThat(TaskServiceImpl.decodeSyncCursor(sync.getNextCursor()))
+                .isEqualTo(new TaskServiceImpl.SyncPosition(since.plusMinutes(2), 2L));
+    }
+
+    @Test
+    void shouldRequireResyncWhenWatermarkIsOlderThanTombstones() {
+        LocalDateTime since = LocalDateTime.now().minusDays(31);
+        when(taskStore.findChangedAfter(TENANT, since.minusSeconds(5), 0, TaskServiceImpl.DEFAULT_PAGE_SIZE + 1))
+                .thenReturn(List.of());
+
+        TaskSyncResponseDto sync = taskService.getChangesSince(since, null, 0);
+
+        assertThat(sync.isResyncRequired()).isTrue();
+        assertThat(sync.getNextCursor()).isNull();
+        assertThat(sync.getWatermark()).isEqualTo(since);
+    }
+
+    @Test
+    void shouldNotAskAFullSyncToResyncWhileItPagesThroughOldRows() {
+        LocalDateTime old = LocalDateTime.now().minusDays(60).truncatedTo(ChronoUnit.MICROS);
+        Task first = getMockTask();
+        first.setUpdateAt(old);
+        Task second = getMockTask();
+        second.setId(2L);
+        second.setUpdateAt(old.plusMinutes(1));
+        when(taskStore.findChangedAfter(TENANT, TaskServiceImpl.SYNC_EPOCH, Long.MAX_VALUE, 2)).thenReturn(List.of(first, second));
+        when(taskStore.findChangedAfter(TENANT, old, 1L, 2)).thenReturn(List.of(second));
+
+        TaskSyncResponseDto firstPage = taskService.getChangesSince(null, null, 1);
+        TaskSyncResponseDto secondPage = taskService.getChangesSince(null, firstPage.getNextCursor(), 1);
+
+        assertThat(firstPage.isResyncRequired()).isFalse();
+        assertThat(secondPage.isResyncRequired()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getWatermark()).isEqualTo(old.plusMinutes(1));
+    }
+
+    @Test
+    void shouldReReadTheOverlapWithoutMovingTheWatermarkBack() {
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        // Stamped before the last sync's watermark, committed after it
+        Task late = getMockTask();
+        late.setUpdateAt(since.minusSeconds(2));
+        when(taskStore.findChangedAfter(TENANT, since.minusSeconds(5), 0, 11)).thenReturn(List.of(late));
+
+        TaskSyncResponseDto sync = taskService.getChangesSince(since, null, 10);
+
+        assertThat(sync.getUpdated()).extracting(TaskResponseDto::getId).containsExactly(1L);
+        assertThat(sync.getWatermark()).isEqualTo(since);
+    }
+
+    @Test
+    void shouldRejectMalformedSyncCursor() {
+        assertThatThrownBy(() -> taskService.getChangesSince(null, TaskServiceImpl.encodeCursor(1L), 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void shouldCreateValidTasksAndReportInvalidOnes() {
+        TaskRequestDto valid = getMockTaskRequest();
+        TaskRequestDto invalid = getMockTaskRequest();
+        invalid.setTitle("");
+        Task saved = getMockTask();
+        when(taskStore.saveAll(anyList())).thenReturn(List.of(saved));
+
+        TaskBatchResponseDto result = taskService.createTasks(List.of(valid, invalid));
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults().get(0).getId()).isEqualTo(1L);
+        assertThat(result.getResults().get(1).getIndex()).isEqualTo(1);
+        assertThat(result.getResults().get(1).getErrors()).isNotEmpty();
+    }
+
+    @Test
+    void shouldImportTasksInOneSaveAndPublishCreations() {
+        when(taskStore.saveAll(anyList())).thenReturn(List.of(getMockTask()));
+
+        List<Long> ids = taskService.importTasks(List.of(getMockTaskRequest()));
+
+        assertThat(ids).containsExactly(1L);
+        verify(taskStore, times(1)).saveAll(anyList());
+        verify(eventPublisher).publishEvent(any(TaskEvent.class));
+        verify(validator, never()).validate(any());
+    }
+
+    @Test
+    void shouldUpdateTasksInBatchAndReportMissingIds() {
+        Task existing = getMockTask();
+        TaskRequestDto changes = getMockTaskRequest();
+        changes.setTitle("Updated Title");
+        when(taskStore.findAllById(TENANT, List.of(1L, 2L))).thenReturn(List.of(existing));
+        when(taskStore.saveAll(List.of(existing))).thenReturn(List.of(existing));
+
+        TaskBatchResponseDto result = taskService.updateTasks(List.of(
+                TaskBatchUpdateDto.builder().id(1L).task(changes).build(),
+                TaskBatchUpdateDto.builder().id(2L).task(changes).build()));
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getResults().get(1).isSuccess()).isFalse();
+        assertThat(existing.getTitle()).isEqualTo("Updated Title");
+    }
+
+    @Test
+    void shouldDeleteExistingTasksInBatch() {
+        when(taskStore.findAllById(TENANT, List.of(1L, 2L))).thenReturn(List.of(getMockTask()));
+
+        TaskBatchResponseDto result = taskService.deleteTasks(List.of(1L, 2L));
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        verify(taskStore).softDeleteAll(eq(TENANT), eq(Set.of(1L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldPublishEventsForWrites() {
+        Task existing = getMockTask();
+        when(taskStore.save(any(Task.class))).thenReturn(existing);
+        when(taskStore.findById(TENANT, 1L)).thenReturn(Optional.of(existing));
+
+        taskService.createTask(getMockTaskRequest());
+        taskService.updateTask(1L, getMockTaskRequest());
+        taskService.deleteTask(1L);
+
+        ArgumentCaptor<TaskEvent> events = ArgumentCaptor.forClass(TaskEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(TaskEvent::type)
+                .containsExactly(TaskEvent.Type.CREATED, TaskEvent.Type.UPDATED, TaskEvent.Type.DELETED);
+    }
+
+    @Test
+    void shouldPatchOnlyProvidedFields() {
+        Task existing = getMockTask();
+        when(taskStore.findById(TENANT, 1L)).thenReturn(Optional.of(existing));
+        when(taskStore.saveAndFlush(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TaskResponseDto result = taskService.patchTask(1L, TaskPatchDto.builder().taskStatus(TaskStatus.COMPLETED).build());
+
+        assertThat(result.getTaskStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(result.getTitle()).isEqualTo("Sample Task");
+        assertThat(result.getPriority()).isEqualTo(Priority.HIGH);
+    }
+
+    @Test
+    void shouldUpdateStatusesWithSingleStatement() {
+        Task task = getMockTask();
+        when(taskStore.findAllById(TENANT, List.of(1L, 2L))).thenReturn(List.of(task));
+
+        TaskBatchResponseDto result = taskService.updateTaskStatuses(List.of(1L, 2L), TaskStatus.COMPLETED);
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        verify(taskStore, times(1)).updateStatus(eq(TENANT), anyCollection(), eq(TaskStatus.COMPLETED), any());
+        verify(eventPublisher).publishEvent(any(TaskEvent.class));
+    }
+
+    @Test
+    void shouldRejectUpdateForStaleVersion() {
+        Task existing = getMockTask();
+        existing.setVersion(3L);
+        when(taskStore.findById(TENANT, 1L)).thenReturn(Optional.of(existing));
+
+        assertThatThrownBy(() -> taskService.updateTask(1L, getMockTaskRequest(), 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(taskStore, never()).save(any(Task.class));
+    }
+
+    @Test
+    void shouldDeleteWhenVersionMatches() {
+        Task existing = getMockTask();
+        existing.setVersion(3L);
+        when(taskStore.findById(TENANT, 1L)).thenReturn(Optional.of(existing));
+
+        assertThatThrownBy(() -> taskService.deleteTask(1L, 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+        taskService.deleteTask(1L, 3L);
+
+        verify(taskStore, times(1)).deleteById(1L);
+    }
+
+    @Test
+    void shouldFailAnyVersionPreconditionWhenTheTaskIsMissing() {
+        when(taskStore.findById(TENANT, 1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> taskService.deleteTask(1L, null)).isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> taskService.updateTask(1L, getMockTaskRequest(), null))
+                .isInstanceOf(PreconditionFailedException.class);
+        // Without a precondition a missing task is still an idempotent delete
+        taskService.deleteTask(1L);
+
+        verify(taskStore, never()).deleteById(any());
+    }
+
+    @Test
+    void shouldReadVersionWithoutLoadingTask() {
+        when(taskStore.findVersionById(TENANT, 1L)).thenReturn(Optional.of(4L));
+
+        assertThat(taskService.getTaskVersion(1L)).isEqualTo(4L);
+        verify(taskStore, never()).findById(any(), any());
+    }
+
+    @Test
+    void shouldReturnSearchHitsInRankOrder() {
+        Task first = getMockTask();
+        Task second = getMockTask();
+        second.setId(2L);
+        when(taskSearchIndex.search(TENANT, "report", SearchMode.AND, null, null, 20))
+                .thenReturn(List.of(new SearchHit(2L, 3.0), new SearchHit(1L, 1.5)));
+        when(taskStore.findAllById(TENANT, List.of(2L, 1L))).thenReturn(List.of(first, second));
+
+        List<TaskSearchHitDto> hits = taskService.searchTasks("report", null, null, null, 20);
+
+        assertThat(hits).extracting(hit -> hit.getTask().getId()).containsExactly(2L, 1L);
+        assertThat(hits.get(0).getScore()).isEqualTo(3.0);
+    }
+
+    @Test
+    void shouldReturnDueTasksInDueDateOrder() {
+        Task later = getMockTask();
+        Task earlier = getMockTask();
+        earlier.setId(2L);
+        when(taskDueIndex.dueWithin(TENANT, Period.ofDays(3), 50))
+                .thenReturn(List.of(new DueTask(TENANT, 2L, LocalDate.now()), new DueTask(TENANT, 1L, LocalDate.now().plusDays(2))));
+        when(taskStore.findAllById(TENANT, List.of(2L, 1L))).thenReturn(List.of(later, earlier));
+
+        List<TaskResponseDto> due = taskService.getTasksDueWithin(Period.ofDays(3), 0);
+
+        assertThat(due).extracting(TaskResponseDto::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void shouldScopeLookupsToTheCurrentTenant() {
+        when(taskStore.findById("acme", 1L)).thenReturn(Optional.empty());
+
+        try (TenantContext.Scope scope = TenantContext.enter("acme")) {
+            assertThatThrownBy(() -> taskService.getTaskById(1L))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Task not found");
+        }
+
+        verify(taskStore, never()).findById(eq(TENANT), any());
+    }
+
+    @Test
+    void shouldArchiveABatchAndDropEachTaskFromTheReadModels() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+        Task moved = getMockTask();
+        moved.setTenantId("acme");
+        moved.setTaskStatus(TaskStatus.COMPLETED);
+        when(taskStore.findArchivableIds(cutoff, 500)).thenReturn(List.of(1L, 2L));
+        when(taskStore.archive(eq(List.of(1L, 2L)), eq(cutoff), any(LocalDateTime.class))).thenReturn(List.of(moved));
+
+        assertThat(taskService.archiveCompletedTasks(cutoff, 500)).isEqualTo(1);
+
+        ArgumentCaptor<TaskEvent> events = ArgumentCaptor.forClass(TaskEvent.class);
+        verify(eventPublisher).publishEvent(events.capture());
+        assertThat(events.getValue().type()).isEqualTo(TaskEvent.Type.ARCHIVED);
+        assertThat(events.getValue().before().getTenantId()).isEqualTo("acme");
+        assertThat(events.getValue().after()).isNull();
+    }
+
+    @Test
+    void shouldLeaveTasksWithAQueuedStatusForALaterRun() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+        when(statusWriteBuffer.queuedIds()).thenReturn(Set.of(2L));
+        when(taskStore.findArchivableIds(cutoff, 500)).thenReturn(List.of(1L, 2L));
+        when(taskStore.archive(eq(List.of(1L)), eq(cutoff), any(LocalDateTime.class))).thenReturn(List.of());
+
+        taskService.archiveCompletedTasks(cutoff, 500);
+
+        verify(taskStore).archive(eq(List.of(1L)), eq(cutoff), any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldSkipTheMoveWhenNothingIsArchivable() {
+        when(taskStore.findArchivableIds(any(LocalDateTime.class), eq(500))).thenReturn(List.of());
+
+        assertThat(taskService.archiveCompletedTasks(LocalDateTime.now(), 500)).isZero();
+
+        verify(taskStore, never()).archive(anyCollection(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(TaskEvent.class));
+    }
+
+    @Test
+    void shouldFallBackToTheArchiveOnlyWhenAsked() {
+        Task archived = getMockTask();
+        archived.setTaskStatus(TaskStatus.COMPLETED);
+        when(taskStore.findById(TENANT, 1L)).thenReturn(Optional.empty());
+        when(taskStore.findArchivedById(TENANT, 1L)).thenReturn(Optional.of(archived));
+
+        assertThat(taskService.getTaskIncludingArchived(1L).getTaskStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThatThrownBy(() -> taskService.getTaskById(1L)).hasMessageContaining("Task not found");
+    }
+
+    @Test
+    void shouldRejectCreateOverTheTenantsQuota() {
+        ReflectionTestUtils.setField(taskService, "maxRowsPerTenant", 1L);
+        when(taskCounters.total(TENANT)).thenReturn(1L);
+
+        assertThatThrownBy(() -> taskService.createTask(getMockTaskRequest()))
+                .isInstanceOf(TenantQuotaExceededException.class);
+        verify(taskStore, never()).save(any(Task.class));
+    }
 }
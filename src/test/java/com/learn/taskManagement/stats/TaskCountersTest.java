@@ -0,0 +1,110 @@
+package com.learn.taskManagement.stats;
+
+import com.learn.taskManagement.dto.TaskResponseDto;
+import com.learn.taskManagement.dto.TaskStatsDto;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.event.TaskEvent;
+import com.learn.taskManagement.repository.TaskCountView;
+import com.learn.taskManagement.store.TaskStore;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskCountersTest {
+
+    @Mock
+    TaskStore taskStore;
+
+    @InjectMocks
+    TaskCounters taskCounters;
+
+    private TaskResponseDto task(TaskStatus status, Priority priority) {
+        return TaskResponseDto.builder().id(1L).taskStatus(status).priority(priority).build();
+    }
+
+    private TaskCountView row(String tenantId, TaskStatus status, Priority priority, long count) {
+        return new TaskCountView() {
+            public String getTenantId() {
+                return tenantId;
+            }
+
+            public TaskStatus getTaskStatus() {
+                return status;
+            }
+
+            public Priority getPriority() {
+                return priority;
+            }
+
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
+    @Test
+    void shouldTrackCreateUpdateAndDelete() {
+        TaskResponseDto pending = task(TaskStatus.PENDING, Priority.HIGH);
+        TaskResponseDto completed = task(TaskStatus.COMPLETED, Priority.HIGH);
+
+        taskCounters.onTaskEvent(TaskEvent.created(pending));
+        taskCounters.onTaskEvent(TaskEvent.updated(pending, completed));
+
+        assertThat(taskCounters.count(TenantContext.DEFAULT_TENANT, TaskStatus.PENDING, Priority.HIGH)).isZero();
+        assertThat(taskCounters.count(TenantContext.DEFAULT_TENANT, TaskStatus.COMPLETED, Priority.HIGH)).isEqualTo(1);
+
+        taskCounters.onTaskEvent(TaskEvent.deleted(completed));
+
+        assertThat(taskCounters.snapshot(TenantContext.DEFAULT_TENANT).getTotal()).isZero();
+    }
+
+    @Test
+    void shouldReconcileDriftSeenOnTwoPassesAgainstGroupBy() {
+        taskCounters.onTaskEvent(TaskEvent.created(task(TaskStatus.PENDING, Priority.LOW)));
+        when(taskStore.countByTenantStatusAndPriority()).thenReturn(List.of(
+                row(TenantContext.DEFAULT_TENANT, TaskStatus.PENDING, Priority.LOW, 3),
+                row(TenantContext.DEFAULT_TENANT, TaskStatus.IN_PROGRESS, Priority.MEDIUM, 2)));
+
+        assertThat(taskCounters.reconcile()).isZero();
+        long drift = taskCounters.reconcile();
+        TaskStatsDto stats = taskCounters.snapshot(TenantContext.DEFAULT_TENANT);
+
+        assertThat(drift).isEqualTo(4);
+        assertThat(stats.getTotal()).isEqualTo(5);
+        assertThat(stats.getByStatus().get(TaskStatus.PENDING)).isEqualTo(3);
+        assertThat(stats.getByPriority().get(Priority.MEDIUM)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCountACommitTwiceWhenItsListenerRunsAfterTheGroupBy() {
+        // The GROUP BY already sees the create; its AFTER_COMMIT listener has not run yet
+        when(taskStore.countByTenantStatusAndPriority())
+                .thenReturn(List.of(row(TenantContext.DEFAULT_TENANT, TaskStatus.PENDING, Priority.LOW, 1)));
+
+        assertThat(taskCounters.reconcile()).isZero();
+        taskCounters.onTaskEvent(TaskEvent.created(task(TaskStatus.PENDING, Priority.LOW)));
+        assertThat(taskCounters.reconcile()).isZero();
+
+        assertThat(taskCounters.total(TenantContext.DEFAULT_TENANT)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSeedInOnePass() {
+        when(taskStore.countByTenantStatusAndPriority())
+                .thenReturn(List.of(row("acme", TaskStatus.COMPLETED, Priority.HIGH, 7)));
+
+        taskCounters.seed();
+
+        assertThat(taskCounters.total("acme")).isEqualTo(7);
+    }
+}
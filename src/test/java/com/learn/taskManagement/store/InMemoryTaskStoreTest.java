@@ -0,0 +1,243 @@
+package com.learn.taskManagement.store;
+
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.repository.TaskCountView;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryTaskStoreTest {
+
+    static final LocalDate TODAY = LocalDate.of(2030, 1, 10);
+    static final Clock CLOCK = Clock.fixed(Instant.parse("2030-01-10T09:00:00Z"), ZoneOffset.UTC);
+    static final String TENANT = TenantContext.DEFAULT_TENANT;
+
+    InMemoryTaskStore store = new InMemoryTaskStore(CLOCK);
+
+    private Task task(String title, TaskStatus status, Priority priority, LocalDate dueDate) {
+        return Task.builder().title(title).taskStatus(status).priority(priority).dueDate(dueDate).build();
+    }
+
+    private Task save(TaskStatus status, Priority priority, int dueInDays) {
+        return store.save(task("Task", status, priority, TODAY.plusDays(dueInDays)));
+    }
+
+    @Test
+    void shouldAssignIdsVersionsAndTimestamps() {
+        Task first = save(TaskStatus.PENDING, Priority.LOW, 1);
+        Task second = save(TaskStatus.PENDING, Priority.LOW, 1);
+
+        assertThat(first.getId()).isEqualTo(1L);
+        assertThat(second.getId()).isEqualTo(2L);
+        assertThat(first.getVersion()).isZero();
+        assertThat(first.getCreatedAt()).isEqualTo(LocalDateTime.of(2030, 1, 10, 9, 0));
+    }
+
+    @Test
+    void shouldHandOutCopies() {
+        Task saved = save(TaskStatus.PENDING, Priority.LOW, 1);
+
+        saved.setTitle("Changed without save");
+
+        assertThat(store.findById(TENANT, saved.getId())).get().extracting(Task::getTitle).isEqualTo("Task");
+    }
+
+    @Test
+    void shouldRejectWritesFromAStaleVersion() {
+        Task loaded = save(TaskStatus.PENDING, Priority.LOW, 1);
+        Task concurrent = store.findById(TENANT, loaded.getId()).orElseThrow();
+        concurrent.setTitle("First writer");
+        store.save(concurrent);
+
+        loaded.setTitle("Second writer");
+
+        assertThatThrownBy(() -> store.save(loaded)).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(store.findVersionById(TENANT, loaded.getId())).contains(1L);
+    }
+
+    @Test
+    void shouldRejectWritesToARowDeletedSinceItWasRead() {
+        Task loaded = save(TaskStatus.PENDING, Priority.LOW, 1);
+        long before = store.findAll(TENANT).size();
+        store.deleteById(loaded.getId());
+
+        loaded.setTitle("Late writer");
+
+        assertThatThrownBy(() -> store.save(loaded)).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(store.findAll(TENANT)).hasSize((int) before - 1);
+    }
+
+    @Test
+    void shouldKeepSecondaryIndexesCurrent() {
+        Task task = save(TaskStatus.PENDING, Priority.HIGH, 1);
+        save(TaskStatus.PENDING, Priority.LOW, 1);
+
+        store.updateStatus(TENANT, List.of(task.getId()), TaskStatus.COMPLETED, LocalDateTime.now(CLOCK));
+
+        assertThat(store.findByTaskStatus(TENANT, TaskStatus.PENDING)).extracting(Task::getPriority).containsExactly(Priority.LOW);
+        assertThat(store.findByTaskStatus(TENANT, TaskStatus.COMPLETED)).extracting(Task::getId).containsExactly(task.getId());
+        assertThat(store.findByPriority(TENANT, Priority.HIGH)).extracting(Task::getTaskStatus).containsExactly(TaskStatus.COMPLETED);
+        assertThat(store.countByTenantStatusAndPriority())
+                .extracting(TaskCountView::getTaskStatus, TaskCountView::getPriority, TaskCountView::getCount)
+                .containsExactlyInAnyOrder(
+                        org.assertj.core.groups.Tuple.tuple(TaskStatus.COMPLETED, Priority.HIGH, 1L),
+                        org.assertj.core.groups.Tuple.tuple(TaskStatus.PENDING, Priority.LOW, 1L));
+    }
+
+    @Test
+    void shouldFilterOnEveryIndexAndSortLikeTheDatabase() {
+        Task far = save(TaskStatus.PENDING, Priority.HIGH, 9);
+        Task near = save(TaskStatus.PENDING, Priority.HIGH, 2);
+        save(TaskStatus.PENDING, Priority.LOW, 2);
+        save(TaskStatus.COMPLETED, Priority.HIGH, 2);
+        save(TaskStatus.PENDING, Priority.HIGH, 30);
+
+        Page<Task> page = store.filter(TENANT, TaskStatus.PENDING, Priority.HIGH, TODAY, TODAY.plusDays(10),
+                PageRequest.of(0, 1, Sort.by("dueDate")));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(Task::getId).containsExactly(near.getId());
+        assertThat(store.filter(TENANT, null, null, null, null, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "priority"))))
+                .extracting(Task::getPriority)
+                .startsWith(Priority.LOW);
+        assertThat(store.findAfter(TENANT, TaskStatus.PENDING, Priority.HIGH, 0, 10))
+                .extracting(Task::getId)
+                .containsExactly(far.getId(), near.getId(), 5L);
+        assertThatThrownBy(() -> store.filter(TENANT, null, null, null, null, PageRequest.of(0, 10, Sort.by("nope"))))
+                .isInstanceOf(PropertyReferenceException.class);
+    }
+
+    @Test
+    void shouldKeepTombstonesForSyncUntilPurged() {
+        Task kept = save(TaskStatus.PENDING, Priority.LOW, 1);
+        Task deleted = save(TaskStatus.PENDING, Priority.LOW, 1);
+        LocalDateTime before = LocalDateTime.now(CLOCK).minusMinutes(1);
+
+        store.softDeleteAll(TENANT, List.of(deleted.getId()), LocalDateTime.now(CLOCK).minusDays(40));
+
+        assertThat(store.findById(TENANT, deleted.getId())).isEmpty();
+        assertThat(store.findAll(TENANT)).extracting(Task::getId).containsExactly(kept.getId());
+        assertThat(store.findChangedAfter(TENANT, LocalDateTime.MIN, 0, 10)).extracting(Task::getId)
+                .containsExactly(deleted.getId(), kept.getId());
+        assertThat(store.findChangedAfter(TENANT, before, 0, 10)).extracting(Task::getId).containsExactly(kept.getId());
+        assertThat(store.findTombstoneIdsBefore(LocalDateTime.now(CLOCK).minusDays(30), 10)).containsExactly(deleted.getId());
+
+        assertThat(store.purgeTombstones(List.of(kept.getId(), deleted.getId()))).isEqualTo(1);
+        assertThat(store.findChangedAfter(TENANT, LocalDateTime.MIN, 0, 10)).extracting(Task::getId).containsExactly(kept.getId());
+    }
+
+    @Test
+    void shouldNeverShowOneTenantAnotherTenantsRows() {
+        Task ours = save(TaskStatus.PENDING, Priority.HIGH, 1);
+        Task theirs = task("Theirs", TaskStatus.PENDING, Priority.HIGH, TODAY.plusDays(1));
+        theirs.setTenantId("acme");
+        theirs = store.save(theirs);
+        List<Long> both = List.of(ours.getId(), theirs.getId());
+
+        assertThat(store.findById(TENANT, theirs.getId())).isEmpty();
+        assertThat(store.findAllById(TENANT, both)).extracting(Task::getId).containsExactly(ours.getId());
+        assertThat(store.findByPriority(TENANT, Priority.HIGH)).extracting(Task::getId).containsExactly(ours.getId());
+        assertThat(store.filter("acme", TaskStatus.PENDING, null, null, null, PageRequest.of(0, 10)))
+                .extracting(Task::getId).containsExactly(theirs.getId());
+        assertThat(store.findChangedAfter("acme", LocalDateTime.MIN, 0, 10)).extracting(Task::getId)
+                .containsExactly(theirs.getId());
+        assertThat(store.updateStatus(TENANT, both, TaskStatus.COMPLETED, LocalDateTime.now(CLOCK))).isEqualTo(1);
+        assertThat(store.findById("acme", theirs.getId())).get().extracting(Task::getTaskStatus).isEqualTo(TaskStatus.PENDING);
+        assertThat(store.findAfter(null, 0, 10)).hasSize(2);
+
+        // A full-row save cannot move a task to another tenant
+        Task moved = store.findById("acme", theirs.getId()).orElseThrow();
+        moved.setTenantId(TENANT);
+        store.save(moved);
+        assertThat(store.findAll(TENANT)).extracting(Task::getId).containsExactly(ours.getId());
+    }
+
+    @Test
+    void shouldMoveOldCompletedTasksOutOfEveryLiveRead() {
+        Task completed = save(TaskStatus.COMPLETED, Priority.HIGH, 1);
+        Task pending = save(TaskStatus.PENDING, Priority.HIGH, 1);
+        Task theirs = task("Theirs", TaskStatus.COMPLETED, Priority.HIGH, TODAY.plusDays(1));
+        theirs.setTenantId("acme");
+        theirs = store.save(theirs);
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+
+        assertThat(store.findArchivableIds(now, 10)).isEmpty();
+        List<Long> ids = store.findArchivableIds(now.plusMinutes(1), 10);
+        assertThat(ids).containsExactly(completed.getId(), theirs.getId());
+
+        // Re-checked under the lock: a task reopened since the scan stays live
+        Task reopened = store.findById("acme", theirs.getId()).orElseThrow();
+        reopened.setTaskStatus(TaskStatus.IN_PROGRESS);
+        store.save(reopened);
+        assertThat(store.archive(ids, now.plusMinutes(1), now)).extracting(Task::getId).containsExactly(completed.getId());
+
+        assertThat(store.findById(TENANT, completed.getId())).isEmpty();
+        assertThat(store.findAll(TENANT)).extracting(Task::getId).containsExactly(pending.getId());
+        assertThat(store.findByTaskStatus(TENANT, TaskStatus.COMPLETED)).isEmpty();
+        assertThat(store.findChangedAfter(TENANT, LocalDateTime.MIN, 0, 10)).extracting(Task::getId)
+                .containsExactly(pending.getId());
+        assertThat(store.findArchivedById(TENANT, completed.getId())).get()
+                .extracting(Task::getTaskStatus).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(store.findArchivedById("acme", completed.getId())).isEmpty();
+        assertThat(store.findArchivedAfter(TENANT, 0, 10)).extracting(Task::getId).containsExactly(completed.getId());
+        assertThat(store.findArchivedAfter(TENANT, completed.getId(), 10)).isEmpty();
+        assertThat(store.countArchived()).isEqualTo(1);
+        assertThat(store.findArchivableIds(now.plusMinutes(1), 10)).isEmpty();
+    }
+
+    @Test
+    void shouldBreakUpdateAtTiesById() {
+        Task first = save(TaskStatus.PENDING, Priority.LOW, 1);
+        Task second = save(TaskStatus.PENDING, Priority.LOW, 1);
+
+        List<Task> afterFirst = store.findChangedAfter(TENANT, first.getUpdateAt(), first.getId(), 10);
+
+        assertThat(afterFirst).extracting(Task::getId).containsExactly(second.getId());
+    }
+
+    @Test
+    void shouldStayConsistentUnderConcurrentWriters() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        Task saved = save(TaskStatus.PENDING, Priority.values()[i % 3], i % 30);
+                        store.updateStatus(TENANT, List.of(saved.getId()), TaskStatus.IN_PROGRESS, LocalDateTime.now(CLOCK));
+                        store.findAfter(TENANT, TaskStatus.IN_PROGRESS, null, 0, 50);
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(store.findAll(TENANT)).hasSize(4000);
+        assertThat(store.findByTaskStatus(TENANT, TaskStatus.IN_PROGRESS)).hasSize(4000);
+        assertThat(store.findByTaskStatus(TENANT, TaskStatus.PENDING)).isEmpty();
+    }
+}
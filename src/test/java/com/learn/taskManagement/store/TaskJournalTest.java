@@ -0,0 +1,208 @@
+package com.learn.taskManagement.store;
+
+import com.learn.taskManagement.entity.Task;
+import com.learn.taskManagement.enums.Priority;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<TaskJournal> journals = new ArrayList<>();
+
+    @AfterEach
+    void closeJournals() {
+        journals.forEach(TaskJournal::close);
+    }
+
+    private InMemoryTaskStore open(DataSize segmentSize) throws IOException {
+        InMemoryTaskStore store = new InMemoryTaskStore(Clock.systemDefaultZone());
+        journals.add(new TaskJournal(store, directory.toString(), segmentSize, Duration.ofMillis(1), true));
+        return store;
+    }
+
+    private InMemoryTaskStore open() throws IOException {
+        return open(DataSize.ofMegabytes(1));
+    }
+
+    private InMemoryTaskStore reopen() throws IOException {
+        journals.forEach(TaskJournal::close);
+        journals.clear();
+        return open();
+    }
+
+    private static Task task(String title) {
+        return Task.builder()
+                .title(title)
+                .description("Journalled ünïcode")
+                .priority(Priority.HIGH)
+                .taskStatus(TaskStatus.PENDING)
+                .dueDate(LocalDate.of(2030, 1, 1))
+                .build();
+    }
+
+    private List<String> files(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).filter(name -> name.startsWith(prefix)).sorted().toList();
+        }
+    }
+
+    @Test
+    void shouldReplayCreatesUpdatesDeletesAndPurges() throws IOException {
+        InMemoryTaskStore store = open();
+        Task kept = store.save(task("Kept task"));
+        Task updated = store.save(task("Updated task"));
+        Task deleted = store.save(task("Deleted task"));
+        Task purged = store.save(task("Purged task"));
+        updated.setTaskStatus(TaskStatus.COMPLETED);
+        store.save(updated);
+        store.deleteById(deleted.getId());
+        store.softDeleteAll(TenantContext.DEFAULT_TENANT, List.of(purged.getId()), LocalDateTime.now());
+        store.purgeTombstones(List.of(purged.getId()));
+
+        InMemoryTaskStore recovered = reopen();
+
+        assertThat(recovered.findAll(TenantContext.DEFAULT_TENANT)).extracting(Task::getTitle).containsExactly("Kept task", "Updated task");
+        assertThat(recovered.findById(TenantContext.DEFAULT_TENANT, kept.getId()).orElseThrow().getDescription()).isEqualTo("Journalled ünïcode");
+        assertThat(recovered.findById(TenantContext.DEFAULT_TENANT, updated.getId()).orElseThrow().getVersion()).isEqualTo(1L);
+        assertThat(recovered.findByTaskStatus(TenantContext.DEFAULT_TENANT, TaskStatus.COMPLETED)).extracting(Task::getId).containsExactly(updated.getId());
+        assertThat(recovered.findChangedAfter(TenantContext.DEFAULT_TENANT, LocalDateTime.MIN, 0, 10)).extracting(Task::getId)
+                .containsExactlyInAnyOrder(kept.getId(), updated.getId(), deleted.getId());
+        assertThat(recovered.save(task("After restart")).getId()).isEqualTo(purged.getId() + 1);
+    }
+
+    @Test
+    void shouldReplayEachTaskIntoItsTenant() throws IOException {
+        InMemoryTaskStore store = open();
+        Task ours = store.save(task("Default task"));
+        Task theirs = task("Acme task");
+        theirs.setTenantId("acme");
+        theirs = store.save(theirs);
+
+        InMemoryTaskStore recovered = reopen();
+
+        assertThat(recovered.findAll(TenantContext.DEFAULT_TENANT)).extracting(Task::getId).containsExactly(ours.getId());
+        assertThat(recovered.findAll("acme")).extracting(Task::getId).containsExactly(theirs.getId());
+        assertThat(recovered.findById(TenantContext.DEFAULT_TENANT, theirs.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldLoadSnapshotAndReplayOnlyTheJournalAfterIt() throws IOException {
+        InMemoryTaskStore store = open();
+        Task before = store.save(task("Before snapshot"));
+        journals.get(0).takeSnapshot();
+        Task after = store.save(task("After snapshot"));
+
+        InMemoryTaskStore recovered = reopen();
+
+        assertThat(files("snapshot-")).hasSize(1);
+        assertThat(recovered.findAll(TenantContext.DEFAULT_TENANT)).extracting(Task::getId).containsExactly(before.getId(), after.getId());
+    }
+
+    @Test
+    void shouldKeepArchivedTasksAcrossReplayAndSnapshots() throws IOException {
+        InMemoryTaskStore store = open();
+        Task live = store.save(task("Live task"));
+        Task done = task("Archived task");
+        done.setTaskStatus(TaskStatus.COMPLETED);
+        done = store.save(done);
+        LocalDateTime cutoff = LocalDateTime.now().plusMinutes(1);
+        store.archive(List.of(done.getId()), cutoff, LocalDateTime.now());
+
+        InMemoryTaskStore replayed = reopen();
+
+        assertThat(replayed.findAll(TenantContext.DEFAULT_TENANT)).extracting(Task::getId).containsExactly(live.getId());
+        assertThat(replayed.findArchivedById(TenantContext.DEFAULT_TENANT, done.getId())).get()
+                .extracting(Task::getTitle).isEqualTo("Archived task");
+        assertThat(replayed.countArchived()).isEqualTo(1);
+
+        assertThat(journals.get(0).takeSnapshot()).isTrue();
+        InMemoryTaskStore snapshotted = reopen();
+
+        assertThat(snapshotted.findAll(TenantContext.DEFAULT_TENANT)).extracting(Task::getId).containsExactly(live.getId());
+        assertThat(snapshotted.findArchivedAfter(TenantContext.DEFAULT_TENANT, 0, 10)).extracting(Task::getId)
+                .containsExactly(done.getId());
+        assertThat(snapshotted.save(task("After restart")).getId()).isEqualTo(done.getId() + 1);
+    }
+
+    @Test
+    void shouldDropCoveredSegmentsAndSkipIdleSnapshots() throws IOException {
+        InMemoryTaskStore store = open(DataSize.ofKilobytes(64));
+        for (int i = 0; i < 1000; i++) {
+            store.save(task("Task " + i));
+        }
+        assertThat(files("journal-").size()).isGreaterThan(1);
+
+        assertThat(journals.get(0).takeSnapshot()).isTrue();
+        assertThat(journals.get(0).takeSnapshot()).isFalse();
+
+        assertThat(files("journal-")).hasSize(1);
+        assertThat(reopen().findAll(TenantContext.DEFAULT_TENANT)).hasSize(1000);
+    }
+
+    // Flips a byte inside the segment's second record's body, as a write cut short by a crash would leave it
+    private void corruptSecondRecord(String segmentName) throws IOException {
+        Path segment = directory.resolve(segmentName);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(length, 0);
+            long second = JournalCodec.HEADER + length.getInt(0);
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), second + JournalCodec.HEADER + 20);
+        }
+    }
+
+    @Test
+    void shouldStopAtATornRecordAndKeepTheSegmentReplayable() throws IOException {
+        InMemoryTaskStore store = open();
+        store.save(task("First task"));
+        store.save(task("Second task"));
+        journals.forEach(TaskJournal::close);
+        journals.clear();
+
+        corruptSecondRecord(files("journal-").get(0));
+
+        assertThat(open().findAll(TenantContext.DEFAULT_TENANT)).extracting(Task::getTitle).containsExactly("First task");
+        // The torn segment is no longer the newest, but it was sealed at the tear
+        assertThat(reopen().findAll(TenantContext.DEFAULT_TENANT)).extracting(Task::getTitle).containsExactly("First task");
+    }
+
+    @Test
+    void shouldRefuseToStartWhenAnOlderSegmentIsCorrupt() throws IOException {
+        InMemoryTaskStore store = open(DataSize.ofKilobytes(64));
+        for (int i = 0; i < 1000; i++) {
+            store.save(task("Task " + i));
+        }
+        journals.forEach(TaskJournal::close);
+        journals.clear();
+        assertThat(files("journal-").size()).isGreaterThan(1);
+
+        corruptSecondRecord(files("journal-").get(0));
+
+        assertThatThrownBy(this::open)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("is not the newest");
+    }
+}
@@ -0,0 +1,49 @@
+package com.learn.taskManagement.sync;
+
+import com.learn.taskManagement.store.TaskStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TombstoneCompactorTest {
+
+    static final Clock CLOCK = Clock.fixed(Instant.parse("2030-01-31T00:00:00Z"), ZoneOffset.UTC);
+    static final LocalDateTime CUTOFF = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Mock
+    TaskStore taskStore;
+
+    @Test
+    void shouldPurgeInBatchesUntilAShortBatch() {
+        TombstoneCompactor compactor = new TombstoneCompactor(taskStore, CLOCK, Duration.ofDays(30), 2);
+        when(taskStore.findTombstoneIdsBefore(CUTOFF, 2)).thenReturn(List.of(1L, 2L)).thenReturn(List.of(3L));
+        when(taskStore.purgeTombstones(List.of(1L, 2L))).thenReturn(2);
+        when(taskStore.purgeTombstones(List.of(3L))).thenReturn(1);
+
+        assertThat(compactor.compact()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDoNothingWithoutExpiredTombstones() {
+        TombstoneCompactor compactor = new TombstoneCompactor(taskStore, CLOCK, Duration.ofDays(30), 2);
+        when(taskStore.findTombstoneIdsBefore(CUTOFF, 2)).thenReturn(List.of());
+
+        assertThat(compactor.compact()).isZero();
+        verify(taskStore, never()).purgeTombstones(anyCollection());
+    }
+}
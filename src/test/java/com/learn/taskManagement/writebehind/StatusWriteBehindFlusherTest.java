@@ -0,0 +1,91 @@
+package com.learn.taskManagement.writebehind;
+
+import com.learn.taskManagement.dto.TaskBatchResponseDto;
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.service.TaskService;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatusWriteBehindFlusherTest {
+
+    @Mock
+    TaskService taskService;
+
+    StatusWriteBuffer buffer = new StatusWriteBuffer(100, Duration.ZERO, 100);
+
+    private StatusWriteBehindFlusher flusher(int batchSize) {
+        return new StatusWriteBehindFlusher(buffer, taskService, Runnable::run, batchSize);
+    }
+
+    private static TaskBatchResponseDto ok() {
+        return TaskBatchResponseDto.builder().succeeded(1).failed(0).results(List.of()).build();
+    }
+
+    @Test
+    void shouldWriteOneBatchedUpdatePerStatus() {
+        when(taskService.updateTaskStatuses(anyList(), any())).thenReturn(ok());
+        buffer.offer(TenantContext.DEFAULT_TENANT, 1L, TaskStatus.COMPLETED);
+        buffer.offer(TenantContext.DEFAULT_TENANT, 2L, TaskStatus.IN_PROGRESS);
+        buffer.offer(TenantContext.DEFAULT_TENANT, 3L, TaskStatus.COMPLETED);
+
+        assertThat(flusher(100).flush()).isEqualTo(3);
+
+        verify(taskService).updateTaskStatuses(List.of(1L, 3L), TaskStatus.COMPLETED);
+        verify(taskService).updateTaskStatuses(List.of(2L), TaskStatus.IN_PROGRESS);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void shouldWriteEachTenantsStatusesInsideThatTenant() {
+        List<String> tenants = new ArrayList<>();
+        when(taskService.updateTaskStatuses(anyList(), any())).thenAnswer(invocation -> {
+            tenants.add(TenantContext.current() + ":" + invocation.getArgument(0));
+            return ok();
+        });
+        buffer.offer(TenantContext.DEFAULT_TENANT, 1L, TaskStatus.COMPLETED);
+        buffer.offer("acme", 2L, TaskStatus.COMPLETED);
+
+        assertThat(flusher(100).flush()).isEqualTo(2);
+
+        assertThat(tenants).containsExactlyInAnyOrder("default:[1]", "acme:[2]");
+        assertThat(TenantContext.current()).isEqualTo(TenantContext.DEFAULT_TENANT);
+    }
+
+    @Test
+    void shouldKeepStatusesQueuedWhenTheWriteFails() {
+        when(taskService.updateTaskStatuses(anyList(), any())).thenThrow(new IllegalStateException("database down"));
+        buffer.offer(TenantContext.DEFAULT_TENANT, 1L, TaskStatus.COMPLETED);
+
+        assertThat(flusher(100).flush()).isZero();
+        assertThat(buffer.pending(TenantContext.DEFAULT_TENANT, 1L)).isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    @Test
+    void shouldDrainEverythingOnStop() {
+        when(taskService.updateTaskStatuses(anyList(), any())).thenReturn(ok());
+        for (long id = 1; id <= 5; id++) {
+            buffer.offer(TenantContext.DEFAULT_TENANT, id, TaskStatus.COMPLETED);
+        }
+        StatusWriteBehindFlusher flusher = flusher(2);
+        flusher.start();
+
+        flusher.stop();
+
+        assertThat(buffer.size()).isZero();
+        assertThat(flusher.isRunning()).isFalse();
+    }
+}
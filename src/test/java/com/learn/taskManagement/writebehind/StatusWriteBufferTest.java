@@ -0,0 +1,189 @@
+package com.learn.taskManagement.writebehind;
+
+import com.learn.taskManagement.enums.TaskStatus;
+import com.learn.taskManagement.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatusWriteBufferTest {
+
+    @Test
+    void shouldCoalescePerTaskWithLastWriteWinning() {
+        StatusWriteBuffer buffer = new StatusWriteBuffer(2, Duration.ZERO, 100);
+
+        assertThat(buffer.offer(TenantContext.DEFAULT_TENANT, 1L, TaskStatus.IN_PROGRESS)).isTrue();
+        assertThat(buffer.offer(TenantContext.DEFAULT_TENANT, 1L, TaskStatus.COMPLETED)).isTrue();
+
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.pending(TenantContext.DEFAULT_TENANT, 1L)).isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    @Test
+    void shouldRefuseNewIdsWhenFullButStillCoalesce() {
+        StatusWriteBuffer buffer = new StatusWriteBuffer(2, Duration.ofMillis(10), 100);
+        buffer.offer(TenantContext.DEFAULT_TENANT, 1L, TaskStatus.IN_PROGRESS);
+        buffer.offer(TenantContext.DEFAULT_TENANT, 2L, TaskStatus.IN_PROGRESS);
+
+        assertThat(buffer.offer(TenantContext.DEFAULT_TENANT, 3L, TaskStatus.IN_PROGRESS)).isFalse();
+        assertThat(buffer.offer(TenantContext.DEFAULT_TENANT, 2L, TaskStatus.COMPLETED)).isTrue();
+
+        buffer.supersede(TenantContext.DEFAULT_TENANT, 1L);
+        assertThat(buffer.offer(TenantContext.DEFAULT_TENANT, 3L, TaskStatus.IN_PROGRESS)).isTrue();
+    }
+
+    @Test
+    void shouldKeepEntriesReplacedDuringFlush() {
+        StatusWriteBuffer buffer = new StatusWriteBuffer(2, Duration.ZERO, 100);
+        buffer.offer(TenantContext.DEFAULT_TENANT, 1L, TaskStatus.IN_PROGRESS);
+        buffer.offer(TenantContext.DEFAULT_TENANT, 2L, TaskStatus.IN_PROGRESS);
+        Map<StatusWriteBuffer.Key, StatusWriteBuffer.Queued> batch = buffer.claim(10);
+
+        buffer.offer(TenantContext.DEFAULT_TENANT, 2L, TaskStatus.COMPLETED);
+        buffer.complete(batch, true);
+
+        assertThat(buffer.pending(TenantContext.DEFAULT_TENANT, 1L)).isNull();
+        assertThat(buffer.pending(TenantContext.DEFAULT_TENANT, 2L)).isEqualTo(TaskStatus.COMPLETED);
+        // Only the acknowledged id gave its capacity back
+        assertThat(buffer.offer(TenantContext.DEFAULT_TENANT, 3L, TaskStatus.PENDING)).isTrue();
+        assertThat(buffer.offer(TenantContext.DEFAULT_TENANT, 4L, TaskStatus.PENDING)).isFalse();
+    }
+
+    @Test
+    void shouldKeepASupersededStatusOutOfFlushesUntilTheWriterCommits() {
+        StatusWriteBuffer buffer = new StatusWriteBuffer(10, Duration.ZERO, 100);
+        buffer.offer(TenantContext.DEFAULT_TENANT, 1L, TaskStatus.COMPLETED);
+
+        List<TransactionSynchronization> rolledBack = inTransaction(() ->
+                assertThat(buffer.supersede(TenantContext.DEFAULT_TENANT, 1L)).isEqualTo(TaskStatus.COMPLETED));
+        assertThat(buffer.claim(10)).isEmpty();
+        rolledBack.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // A rolled back writer leaves the status queued for the next flush
+        assertThat(buffer.pending(TenantContext.DEFAULT_TENANT, 1L)).isEqualTo(TaskStatus.COMPLETED);
+
+        List<TransactionSynchronization> committed = inTransaction(() -> buffer.supersede(TenantContext.DEFAULT_TENANT, 1L));
+        committed.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(buffer.pending(TenantContext.DEFAULT_TENANT, 1L)).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void shouldHoldAWriterBackUntilTheFlushWritingItsTaskCompletes() throws Exception {
+        StatusWriteBuffer buffer = new StatusWriteBuffer(10, Duration.ZERO, 100);
+        buffer.offer(TenantContext.DEFAULT_TENANT, 1L, TaskStatus.COMPLETED);
+        buffer.offer(TenantContext.DEFAULT_TENANT, 2L, TaskStatus.COMPLETED);
+        Map<StatusWriteBuffer.Key, StatusWriteBuffer.Queued> batch = buffer.claim(10);
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<TaskStatus> writer = executor.submit(() -> {
+                started.countDown();
+                return buffer.supersede(TenantContext.DEFAULT_TENANT, 1L);
+            });
+            started.await();
+
+            assertThatThrownBy(() -> writer.get(100, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+            buffer.complete(batch, true);
+
+            // The flushed status is gone, so the writer has nothing left to supersede
+            assertThat(writer.get(5, TimeUnit.SECONDS)).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNeverLetAFlushAndAWriterOverlapOnOneTask() throws Exception {
+        StatusWriteBuffer buffer = new StatusWriteBuffer(10, Duration.ZERO, 100);
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        AtomicInteger superseded = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> flushes = executor.submit(() -> {
+                while (!done.get()) {
+                    Map<StatusWriteBuffer.Key, StatusWriteBuffer.Queued> batch = buffer.claim(10);
+                    if (!batch.isEmpty()) {
+                        if (inside.incrementAndGet() > 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        // Stands in for the UPDATE
+                        LockSupport.parkNanos(20_000);
+                        inside.decrementAndGet();
+                    }
+                    buffer.complete(batch, true);
+                }
+            });
+            Future<?> writers = executor.submit(() -> {
+                while (!done.get()) {
+                    // Only this thread queues, so the entry it supersedes is the only one a flush could claim
+                    buffer.offer(TenantContext.DEFAULT_TENANT, 1L, TaskStatus.COMPLETED);
+                    TaskStatus[] held = new TaskStatus[1];
+                    List<TransactionSynchronization> writer = inTransaction(() ->
+                            held[0] = buffer.supersede(TenantContext.DEFAULT_TENANT, 1L));
+                    if (held[0] != null) {
+                        superseded.incrementAndGet();
+                        if (inside.incrementAndGet() > 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        LockSupport.parkNanos(20_000);
+                        inside.decrementAndGet();
+                    }
+                    writer.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+                }
+            });
+            Thread.sleep(300);
+            done.set(true);
+            flushes.get(5, TimeUnit.SECONDS);
+            writers.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(superseded.get()).isPositive();
+        assertThat(overlaps).hasValue(0);
+    }
+
+    // Runs work as if inside a transaction and returns the callbacks it registered, still to be completed
+    private static List<TransactionSynchronization> inTransaction(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldTriggerFlushAtFlushSize() {
+        StatusWriteBuffer buffer = new StatusWriteBuffer(10, Duration.ZERO, 2);
+        AtomicInteger triggers = new AtomicInteger();
+        buffer.onFlushThreshold(triggers::incrementAndGet);
+
+        buffer.offer(TenantContext.DEFAULT_TENANT, 1L, TaskStatus.COMPLETED);
+        assertThat(triggers).hasValue(0);
+        buffer.offer(TenantContext.DEFAULT_TENANT, 2L, TaskStatus.COMPLETED);
+        assertThat(triggers).hasValue(1);
+    }
+}